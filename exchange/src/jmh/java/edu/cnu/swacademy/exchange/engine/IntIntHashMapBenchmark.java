@@ -0,0 +1,156 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 주문 ID 인덱스 벤치마크 (IntIntHashMap vs HashMap)
+ * 한 번의 측정은 엔트리 수만큼의 삽입/조회/삭제 전체이며, 결과는 측정 1회당 밀리초입니다.
+ * 삭제는 반복마다 한 번 채운 맵을 호출 {@value #REMOVAL_BATCHES}번에 나누어 모두 삭제하므로, 호출마다 맵을 다시 채우는 비용이 측정에 섞이지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntIntHashMapBenchmark {
+
+  static final int REMOVAL_BATCHES = 1000;
+
+  @State(Scope.Benchmark)
+  public static class Keys {
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    int[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      // 주문 ID처럼 증가하는 값을 섞어서 사용
+      keys = new int[size];
+      for (int i = 0; i < size; i++) {
+        keys[i] = i + 1;
+      }
+      Random random = new Random(42);
+      for (int i = size - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        int temp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = temp;
+      }
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class FilledMaps {
+
+    IntIntHashMap primitive;
+    HashMap<Integer, Integer> boxed;
+
+    @Setup(Level.Trial)
+    public void setUp(Keys keys) {
+      primitive = new IntIntHashMap(keys.size, -1);
+      boxed = new HashMap<>(capacityOf(keys.size));
+      for (int i = 0; i < keys.size; i++) {
+        primitive.put(keys.keys[i], i);
+        boxed.put(keys.keys[i], i);
+      }
+    }
+  }
+
+  /**
+   * 삭제 측정용 (반복마다 새로 채우고, 호출마다 다음 구간의 키를 삭제)
+   */
+  @State(Scope.Benchmark)
+  public static class RemovalMaps {
+
+    IntIntHashMap primitive;
+    HashMap<Integer, Integer> boxed;
+    int batch;
+    int from;
+
+    @Setup(Level.Iteration)
+    public void setUp(Keys keys) {
+      primitive = new IntIntHashMap(keys.size, -1);
+      boxed = new HashMap<>(capacityOf(keys.size));
+      for (int i = 0; i < keys.size; i++) {
+        primitive.put(keys.keys[i], i);
+        boxed.put(keys.keys[i], i);
+      }
+      batch = keys.size / REMOVAL_BATCHES;
+      from = 0;
+    }
+  }
+
+  @Benchmark
+  public IntIntHashMap insertPrimitive(Keys keys) {
+    IntIntHashMap map = new IntIntHashMap(keys.size, -1);
+    for (int i = 0; i < keys.size; i++) {
+      map.put(keys.keys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public HashMap<Integer, Integer> insertHashMap(Keys keys) {
+    HashMap<Integer, Integer> map = new HashMap<>(capacityOf(keys.size));
+    for (int i = 0; i < keys.size; i++) {
+      map.put(keys.keys[i], i);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public void lookupPrimitive(Keys keys, FilledMaps maps, Blackhole blackhole) {
+    for (int i = 0; i < keys.size; i++) {
+      blackhole.consume(maps.primitive.get(keys.keys[i]));
+    }
+  }
+
+  @Benchmark
+  public void lookupHashMap(Keys keys, FilledMaps maps, Blackhole blackhole) {
+    for (int i = 0; i < keys.size; i++) {
+      blackhole.consume(maps.boxed.get(keys.keys[i]));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(batchSize = REMOVAL_BATCHES)
+  @Measurement(batchSize = REMOVAL_BATCHES)
+  public void removePrimitive(Keys keys, RemovalMaps maps, Blackhole blackhole) {
+    int to = maps.from + maps.batch;
+    for (int i = maps.from; i < to; i++) {
+      blackhole.consume(maps.primitive.remove(keys.keys[i]));
+    }
+    maps.from = to;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(batchSize = REMOVAL_BATCHES)
+  @Measurement(batchSize = REMOVAL_BATCHES)
+  public void removeHashMap(Keys keys, RemovalMaps maps, Blackhole blackhole) {
+    int to = maps.from + maps.batch;
+    for (int i = maps.from; i < to; i++) {
+      blackhole.consume(maps.boxed.remove(keys.keys[i]));
+    }
+    maps.from = to;
+  }
+
+  private static int capacityOf(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+}
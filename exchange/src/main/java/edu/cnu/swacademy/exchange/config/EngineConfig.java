@@ -0,0 +1,41 @@
+package edu.cnu.swacademy.exchange.config;
+
+import edu.cnu.swacademy.exchange.engine.EngineThreadFactory;
+import edu.cnu.swacademy.exchange.engine.WaitStrategy;
+import edu.cnu.swacademy.exchange.engine.WaitStrategyType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 매칭 엔진 스레드 설정
+ * 엔진 루프의 대기 전략과 엔진 스레드 CPU 고정을 배포 환경에 맞게 선택합니다.
+ */
+@Slf4j
+@Configuration
+public class EngineConfig {
+
+    @Bean
+    public WaitStrategy waitStrategy(
+        @Value("${exchange.engine.wait.strategy:PARK}") WaitStrategyType type,
+        @Value("${exchange.engine.wait.spin-tries:100}") int spinTries,
+        @Value("${exchange.engine.wait.park-micros:50}") long parkMicros
+    ) {
+        log.info("Engine wait strategy: type={}, spin-tries={}, park-micros={}", type, spinTries, parkMicros);
+        return type.create(spinTries, parkMicros);
+    }
+
+    /**
+     * 엔진 스레드 팩토리 (exchange.engine.affinity.cpus가 비어 있으면 CPU 고정 없음)
+     */
+    @Bean
+    public EngineThreadFactory engineThreadFactory(@Value("${exchange.engine.affinity.cpus:}") List<Integer> cpus) {
+        if (!cpus.isEmpty()) {
+            log.info("Engine threads will be pinned to cpus={}", cpus);
+        }
+        return new EngineThreadFactory(cpus);
+    }
+}
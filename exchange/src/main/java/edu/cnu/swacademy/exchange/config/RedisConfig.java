@@ -3,16 +3,28 @@ package edu.cnu.swacademy.exchange.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * Redis 설정
  */
+@Slf4j
 @Configuration
 public class RedisConfig {
 
@@ -41,5 +53,44 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
 
+    /**
+     * 주문 매칭 스크립트 (Redis 엔진 모드)
+     */
+    @Bean
+    public RedisScript<List> processOrderScript() {
+        return loadScript("scripts/process_order.lua");
+    }
+
+    /**
+     * 주문 취소 스크립트 (Redis 엔진 모드)
+     */
+    @Bean
+    public RedisScript<List> cancelOrderScript() {
+        return loadScript("scripts/cancel_order.lua");
+    }
+
+    /**
+     * 기동 시 스크립트를 Redis 스크립트 캐시에 미리 적재
+     * 이후 매칭은 EVALSHA로 해시만 전송합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "exchange.engine.mode", havingValue = "redis")
+    public ApplicationRunner scriptLoader(RedisConnectionFactory connectionFactory, List<RedisScript<?>> scripts) {
+        return args -> {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                for (RedisScript<?> script : scripts) {
+                    String sha = connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                    log.info("Loaded matching script: sha={}", sha);
+                }
+            }
+        };
+    }
+
+    private RedisScript<List> loadScript(String path) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(List.class);
+        return script;
+    }
+}
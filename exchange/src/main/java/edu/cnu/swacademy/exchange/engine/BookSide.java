@@ -0,0 +1,102 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오더북의 한쪽 면(매수/매도)
+ * 호가 사다리의 인덱스로 접근하는 가격 레벨 배열을 미리 할당하고, 최우선 호가 인덱스(커서)를 유지합니다.
+ * (매수: 가장 높은 가격, 매도: 가장 낮은 가격)
+ */
+public class BookSide {
+
+    private final Side side;
+    private final PriceLevel[] levels;
+
+    // 최우선 호가 인덱스 (비어 있으면 -1)
+    private int bestIndex = -1;
+
+    BookSide(Side side, PriceLadder ladder, OrderSlab slab) {
+        this.side = side;
+        this.levels = new PriceLevel[ladder.size()];
+        for (int index = 0; index < levels.length; index++) {
+            levels[index] = new PriceLevel(side, ladder.priceAt(index), slab);
+        }
+    }
+
+    private BookSide(BookSide source, OrderSlab slab) {
+        this.side = source.side;
+        this.levels = new PriceLevel[source.levels.length];
+        for (int index = 0; index < levels.length; index++) {
+            levels[index] = source.levels[index].copy(slab);
+        }
+        this.bestIndex = source.bestIndex;
+    }
+
+    /**
+     * 사본 슬랩을 가리키는 사본
+     */
+    BookSide copy(OrderSlab slab) {
+        return new BookSide(this, slab);
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public PriceLevel levelAt(int index) {
+        return levels[index];
+    }
+
+    public int getBestIndex() {
+        return bestIndex;
+    }
+
+    public boolean isEmpty() {
+        return bestIndex < 0;
+    }
+
+    /**
+     * 비어 있던 레벨에 주문이 등록된 경우 최우선 호가 갱신
+     */
+    void onLevelFilled(int index) {
+        if (bestIndex < 0 || isBetter(index, bestIndex)) {
+            bestIndex = index;
+        }
+    }
+
+    /**
+     * 레벨이 비워진 경우 최우선 호가를 다음 비어 있지 않은 레벨로 이동
+     */
+    void onLevelEmptied(int index) {
+        if (index != bestIndex) {
+            return;
+        }
+
+        int step = side == Side.BUY ? -1 : 1;
+        for (int next = index + step; next >= 0 && next < levels.length; next += step) {
+            if (!levels[next].isEmpty()) {
+                bestIndex = next;
+                return;
+            }
+        }
+        bestIndex = -1;
+    }
+
+    private boolean isBetter(int index, int otherIndex) {
+        return side == Side.BUY ? index > otherIndex : index < otherIndex;
+    }
+
+    /**
+     * 주문이 있는 가격 목록 (오름차순)
+     */
+    public List<Integer> getPrices() {
+        List<Integer> prices = new ArrayList<>();
+        for (PriceLevel level : levels) {
+            if (!level.isEmpty()) {
+                prices.add(level.getPrice());
+            }
+        }
+        return prices;
+    }
+}
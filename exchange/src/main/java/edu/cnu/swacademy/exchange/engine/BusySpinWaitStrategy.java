@@ -0,0 +1,18 @@
+package edu.cnu.swacademy.exchange.engine;
+
+/**
+ * 바쁜 대기 (코어 하나를 계속 점유, 가장 낮은 지연)
+ * 엔진 스레드 수만큼 전용 코어가 있을 때만 사용합니다.
+ */
+public final class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public void idle(int idleCount) {
+        Thread.onSpinWait();
+    }
+
+    @Override
+    public String toString() {
+        return "BUSY_SPIN";
+    }
+}
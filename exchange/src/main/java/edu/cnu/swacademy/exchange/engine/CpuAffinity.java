@@ -0,0 +1,57 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리눅스 CPU 고정
+ * 호출한 스레드의 커널 스레드 ID를 /proc/thread-self에서 찾아 taskset으로 지정한 CPU에 고정합니다.
+ * 리눅스가 아니거나 taskset이 없으면 고정하지 않고 false를 반환합니다.
+ */
+@Slf4j
+public final class CpuAffinity {
+
+    private static final Path THREAD_SELF = Path.of("/proc/thread-self");
+
+    private CpuAffinity() {
+    }
+
+    public static boolean isSupported() {
+        return System.getProperty("os.name", "").toLowerCase().contains("linux") && Files.exists(THREAD_SELF);
+    }
+
+    /**
+     * 현재 스레드를 CPU에 고정
+     */
+    public static boolean pinCurrentThread(int cpu) {
+        if (!isSupported()) {
+            log.warn("CPU affinity not supported on this platform: cpu={}", cpu);
+            return false;
+        }
+
+        try {
+            // /proc/thread-self -> {pid}/task/{tid}
+            String target = Files.readSymbolicLink(THREAD_SELF).toString();
+            String tid = target.substring(target.lastIndexOf('/') + 1);
+
+            Process process = new ProcessBuilder("taskset", "-p", "-c", String.valueOf(cpu), tid)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            if (!process.waitFor(5, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                process.destroyForcibly();
+                log.warn("Failed to pin thread: thread={}, cpu={}", Thread.currentThread().getName(), cpu);
+                return false;
+            }
+            log.info("Thread pinned: thread={}, tid={}, cpu={}", Thread.currentThread().getName(), tid, cpu);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to pin thread: thread={}, cpu={}, e={}, msg={}",
+                Thread.currentThread().getName(), cpu, e.getClass(), e.getMessage());
+            return false;
+        }
+    }
+}
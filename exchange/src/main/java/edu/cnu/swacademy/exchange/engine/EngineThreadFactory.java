@@ -0,0 +1,36 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔진 스레드 팩토리
+ * 생성 순서대로 engine-shard-{번호} 이름을 붙이고, CPU 목록이 설정되면 스레드가 시작할 때 목록의 CPU에 차례로 고정합니다.
+ */
+public final class EngineThreadFactory implements ThreadFactory {
+
+    private final List<Integer> cpus;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * @param cpus 고정할 CPU 번호 목록 (비어 있으면 고정하지 않음)
+     */
+    public EngineThreadFactory(List<Integer> cpus) {
+        this.cpus = List.copyOf(cpus);
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        int index = count.getAndIncrement();
+        Runnable task = runnable;
+        if (!cpus.isEmpty()) {
+            int cpu = cpus.get(index % cpus.size());
+            task = () -> {
+                CpuAffinity.pinCurrentThread(cpu);
+                runnable.run();
+            };
+        }
+        return new Thread(task, "engine-shard-" + index);
+    }
+}
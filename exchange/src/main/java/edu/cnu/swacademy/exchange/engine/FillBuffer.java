@@ -0,0 +1,74 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.Arrays;
+
+/**
+ * 체결 버퍼
+ * 한 번의 매칭에서 발생한 maker 체결을 기본형 배열에 순서대로 담습니다.
+ * 오더북마다 하나를 두고 매칭할 때마다 비워서 재사용하므로 체결 객체를 만들지 않습니다.
+ * 다음 매칭 전까지만 유효합니다.
+ */
+public final class FillBuffer {
+
+    private int[] makerOrderIds;
+    private int[] matchedAmounts;
+    private int[] prices;
+    private int size;
+    private int totalMatchedAmount;
+
+    FillBuffer(int initialCapacity) {
+        this.makerOrderIds = new int[initialCapacity];
+        this.matchedAmounts = new int[initialCapacity];
+        this.prices = new int[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int makerOrderId(int index) {
+        return makerOrderIds[index];
+    }
+
+    public int matchedAmount(int index) {
+        return matchedAmounts[index];
+    }
+
+    public int price(int index) {
+        return prices[index];
+    }
+
+    public int totalMatchedAmount() {
+        return totalMatchedAmount;
+    }
+
+    /**
+     * 마지막 체결 가격
+     */
+    public int lastPrice() {
+        return prices[size - 1];
+    }
+
+    void add(int makerOrderId, int matchedAmount, int price) {
+        if (size == makerOrderIds.length) {
+            int capacity = size * 2;
+            makerOrderIds = Arrays.copyOf(makerOrderIds, capacity);
+            matchedAmounts = Arrays.copyOf(matchedAmounts, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        makerOrderIds[size] = makerOrderId;
+        matchedAmounts[size] = matchedAmount;
+        prices[size] = price;
+        size++;
+        totalMatchedAmount += matchedAmount;
+    }
+
+    void clear() {
+        size = 0;
+        totalMatchedAmount = 0;
+    }
+}
@@ -0,0 +1,241 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.Arrays;
+
+/**
+ * int → int 오픈 어드레싱 해시 맵
+ * 키를 박싱하지 않도록 키/값을 기본형 배열에 저장하고 선형 탐사로 충돌을 해결합니다.
+ * 삭제된 슬롯은 툼스톤으로 남기되, 탐사 체인의 끝이면 바로 빈 슬롯으로 되돌려 툼스톤이 쌓이지 않게 합니다.
+ * 남은 툼스톤이 적재율 한도를 채우면, 실제 엔트리가 절반 이하일 때는 같은 용량의 예비 배열로 다시 배치(compaction)하고
+ * 그렇지 않을 때만 용량을 두 배로 늘립니다. 예비 배열은 재사용하므로 compaction은 첫 회 이후 할당이 없습니다.
+ * 예상 대기 주문 수로 초기 용량을 잡으면 장중에 재할당이 일어나지 않습니다.
+ * 스레드 안전하지 않습니다.
+ */
+public final class IntIntHashMap {
+
+    private static final byte FREE = 0;
+    private static final byte USED = 1;
+    private static final byte REMOVED = 2;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private final int missingValue;
+
+    private int[] keys;
+    private int[] values;
+    private byte[] states;
+
+    // compaction용 예비 배열 (현재 배열과 같은 용량일 때만 재사용)
+    private int[] spareKeys;
+    private int[] spareValues;
+    private byte[] spareStates;
+
+    private int size;
+    private int tombstones;
+    private int threshold;
+
+    /**
+     * @param expectedSize 예상 엔트리 수
+     * @param missingValue 키가 없을 때 반환할 값
+     */
+    public IntIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    private IntIntHashMap(IntIntHashMap source) {
+        this.missingValue = source.missingValue;
+        this.keys = source.keys.clone();
+        this.values = source.values.clone();
+        this.states = source.states.clone();
+        this.size = source.size;
+        this.tombstones = source.tombstones;
+        this.threshold = source.threshold;
+    }
+
+    /**
+     * 사본 (예비 배열은 복사하지 않음)
+     */
+    public IntIntHashMap copy() {
+        return new IntIntHashMap(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 키 (순서 없음, 스냅샷처럼 드문 경로용으로 새 배열을 할당)
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (states[slot] == USED) {
+                result[count++] = keys[slot];
+            }
+        }
+        return result;
+    }
+
+    public int get(int key) {
+        int slot = find(key);
+        return slot < 0 ? missingValue : values[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * @return 이전 값 (없으면 missingValue)
+     */
+    public int put(int key, int value) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        int firstRemoved = -1;
+
+        while (states[slot] != FREE) {
+            if (states[slot] == USED && keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            if (states[slot] == REMOVED && firstRemoved < 0) {
+                firstRemoved = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (firstRemoved >= 0) {
+            slot = firstRemoved;
+            tombstones--;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        states[slot] = USED;
+        size++;
+
+        if (size + tombstones > threshold) {
+            if (size <= threshold / 2) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return 삭제된 값 (없으면 missingValue)
+     */
+    public int remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return missingValue;
+        }
+        int value = values[slot];
+        size--;
+
+        // 다음 슬롯이 비어 있으면 이 슬롯과 바로 앞의 툼스톤들은 어떤 탐사 체인에도 필요 없습니다.
+        int mask = keys.length - 1;
+        if (states[(slot + 1) & mask] == FREE) {
+            states[slot] = FREE;
+            int prev = (slot - 1) & mask;
+            while (states[prev] == REMOVED) {
+                states[prev] = FREE;
+                tombstones--;
+                prev = (prev - 1) & mask;
+            }
+        } else {
+            states[slot] = REMOVED;
+            tombstones++;
+        }
+        return value;
+    }
+
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (states[slot] != FREE) {
+            if (states[slot] == USED && keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 툼스톤 정리 (같은 용량으로 재배치)
+     */
+    private void compact() {
+        int capacity = keys.length;
+        if (spareKeys == null || spareKeys.length != capacity) {
+            spareKeys = new int[capacity];
+            spareValues = new int[capacity];
+            spareStates = new byte[capacity];
+        } else {
+            Arrays.fill(spareStates, FREE);
+        }
+
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        byte[] oldStates = states;
+        keys = spareKeys;
+        values = spareValues;
+        states = spareStates;
+        spareKeys = oldKeys;
+        spareValues = oldValues;
+        spareStates = oldStates;
+
+        reinsert(oldKeys, oldValues, oldStates);
+        tombstones = 0;
+    }
+
+    /**
+     * 용량 확장 (두 배)
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        byte[] oldStates = states;
+        allocate(keys.length << 1);
+        spareKeys = null;
+        spareValues = null;
+        spareStates = null;
+        reinsert(oldKeys, oldValues, oldStates);
+    }
+
+    private void reinsert(int[] oldKeys, int[] oldValues, byte[] oldStates) {
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldStates.length; i++) {
+            if (oldStates[i] == USED) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (states[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                states[slot] = USED;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        states = new byte[capacity];
+        tombstones = 0;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (size / LOAD_FACTOR) + 1));
+        return capacity << 1;
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
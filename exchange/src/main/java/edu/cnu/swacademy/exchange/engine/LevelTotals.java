@@ -0,0 +1,81 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 가격 레벨 총 수량 게시판 (Redis 프로젝션용)
+ * 엔진 스레드가 레벨 총 수량을 덮어쓰고 변경 비트를 세우면, 프로젝션 스레드가 변경된 레벨만 읽어 갑니다.
+ * 같은 레벨의 변경은 마지막 값 하나로 합쳐지므로 프로젝션이 밀려도 메모리가 늘지 않고, 엔진 스레드는 힙 할당 없이 기록합니다.
+ */
+public final class LevelTotals {
+
+    private final PriceLadder ladder;
+
+    // [방향 * 사다리 크기 + 인덱스] → 총 수량
+    private final AtomicIntegerArray totals;
+    private final AtomicLongArray dirty;
+
+    // 프로젝션 대기열에 등록되어 있는지 여부 (오더북당 한 번만 등록)
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    LevelTotals(PriceLadder ladder) {
+        this.ladder = ladder;
+        this.totals = new AtomicIntegerArray(ladder.size() * 2);
+        this.dirty = new AtomicLongArray((ladder.size() * 2 + 63) >>> 6);
+    }
+
+    /**
+     * 레벨 총 수량 기록 (엔진 스레드)
+     */
+    void set(Side side, int index, int totalUnit) {
+        int slot = side.ordinal() * ladder.size() + index;
+        totals.set(slot, totalUnit);
+
+        int word = slot >>> 6;
+        long bit = 1L << slot;
+        long current = dirty.get(word);
+        while ((current & bit) == 0 && !dirty.compareAndSet(word, current, current | bit)) {
+            current = dirty.get(word);
+        }
+    }
+
+    /**
+     * 프로젝션 대기열 등록 표시
+     *
+     * @return 이미 등록되어 있지 않아 새로 등록해야 하면 true
+     */
+    public boolean markPending() {
+        return !pending.get() && pending.compareAndSet(false, true);
+    }
+
+    /**
+     * 프로젝션 대기열에서 꺼낸 뒤(또는 등록에 실패한 뒤) 호출
+     * 이후 엔진 스레드의 변경은 오더북을 다시 등록합니다.
+     */
+    public void clearPending() {
+        pending.set(false);
+    }
+
+    /**
+     * 변경된 레벨의 최신 총 수량을 읽고 변경 비트를 지움 (프로젝션 스레드)
+     */
+    public void drain(LevelVisitor visitor) {
+        int size = ladder.size();
+        for (int word = 0; word < dirty.length(); word++) {
+            long bits = dirty.getAndSet(word, 0L);
+            while (bits != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                Side side = slot < size ? Side.BUY : Side.SELL;
+                visitor.visit(side, ladder.priceAt(slot % size), totals.get(slot));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface LevelVisitor {
+        void visit(Side side, int price, int totalUnit);
+    }
+}
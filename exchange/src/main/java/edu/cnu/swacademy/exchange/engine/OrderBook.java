@@ -0,0 +1,268 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종목별 인메모리 오더북
+ * 매수/매도 가격 레벨과 레벨별 FIFO 큐를 JVM 힙에서 관리하며 가격-시간 우선 원칙으로 매칭합니다.
+ * 가격 레벨은 당일 상하한가로 만든 호가 사다리의 인덱스로 접근합니다.
+ * 대기 주문은 오프힙 슬랩({@link OrderSlab})에 저장하고, 주문 ID → 핸들 인덱스로 가격/방향 없이 O(1)로 취소합니다.
+ * 매칭 경로는 슬랩 레코드, 기본형 인덱스, 재사용 체결 버퍼만 사용하여 주문당 힙 할당이 없습니다.
+ * 스레드 안전하지 않으므로 호출자가 종목 단위로 직렬화해야 합니다.
+ */
+public class OrderBook {
+
+    private final int stockId;
+    private final PriceLadder ladder;
+
+    // 신규 주문에 적용하는 당일 상하한가 (이월된 대기 주문이 있으면 사다리가 이보다 넓을 수 있음)
+    private final int lowerLimitPrice;
+    private final int upperLimitPrice;
+    private final BookSide bids;
+    private final BookSide asks;
+    private final OrderSlab slab;
+    private final IntIntHashMap orderIndex;
+    private final FillBuffer fills = new FillBuffer(16);
+
+    // 변경된 레벨의 총 수량 (Redis 프로젝션용)
+    private final LevelTotals levelTotals;
+
+    private static final int DEFAULT_EXPECTED_RESTING_ORDERS = 1024;
+
+    public OrderBook(int stockId, PriceLadder ladder) {
+        this(stockId, ladder, DEFAULT_EXPECTED_RESTING_ORDERS);
+    }
+
+    /**
+     * @param expectedRestingOrders 예상 대기 주문 수 (주문 ID 인덱스 초기 용량)
+     */
+    public OrderBook(int stockId, PriceLadder ladder, int expectedRestingOrders) {
+        this(stockId, ladder, ladder.getLowerLimitPrice(), ladder.getUpperLimitPrice(), expectedRestingOrders);
+    }
+
+    private OrderBook(int stockId, PriceLadder ladder, int lowerLimitPrice, int upperLimitPrice, int expectedRestingOrders) {
+        this.stockId = stockId;
+        this.ladder = ladder;
+        this.lowerLimitPrice = lowerLimitPrice;
+        this.upperLimitPrice = upperLimitPrice;
+        this.slab = new OrderSlab();
+        this.orderIndex = new IntIntHashMap(expectedRestingOrders, OrderSlab.NIL);
+        this.bids = new BookSide(Side.BUY, ladder, slab);
+        this.asks = new BookSide(Side.SELL, ladder, slab);
+        this.levelTotals = new LevelTotals(ladder);
+    }
+
+    private OrderBook(OrderBook source) {
+        this.stockId = source.stockId;
+        this.ladder = source.ladder;
+        this.lowerLimitPrice = source.lowerLimitPrice;
+        this.upperLimitPrice = source.upperLimitPrice;
+        this.slab = source.slab.copy();
+        this.orderIndex = source.orderIndex.copy();
+        this.bids = source.bids.copy(slab);
+        this.asks = source.asks.copy(slab);
+        this.levelTotals = new LevelTotals(ladder);
+    }
+
+    /**
+     * 사본 (스냅샷용)
+     * 엔진 스레드에서 슬랩과 인덱스 배열을 통째로 복사하여 일관된 시점을 잡고, 인코딩은 사본으로 다른 스레드에서 수행합니다.
+     */
+    public OrderBook copy() {
+        return new OrderBook(this);
+    }
+
+    public int getStockId() {
+        return stockId;
+    }
+
+    public PriceLadder getLadder() {
+        return ladder;
+    }
+
+    /**
+     * 당일 상하한가가 같은지 확인
+     */
+    public boolean hasLimits(int lowerLimitPrice, int upperLimitPrice) {
+        return this.lowerLimitPrice == lowerLimitPrice && this.upperLimitPrice == upperLimitPrice;
+    }
+
+    /**
+     * 신규 주문 가격 검증 (당일 상하한가 범위이면서 호가 단위에 맞는지)
+     */
+    public boolean accepts(int price) {
+        return price >= lowerLimitPrice && price <= upperLimitPrice && ladder.indexOf(price) >= 0;
+    }
+
+    /**
+     * 새 상하한가로 다시 만든 오더북 (장이 바뀐 뒤 첫 주문)
+     * 이전 장의 대기 주문은 레벨 내 시간 순서대로 옮기며, 새 범위를 벗어난 대기 주문도 유지되도록
+     * 호가 사다리는 대기 주문 가격까지 넓힙니다. 신규 주문은 새 상하한가로만 검증합니다.
+     */
+    public OrderBook withLimits(int lowerLimitPrice, int upperLimitPrice, int expectedRestingOrders) {
+        int ladderLower = lowerLimitPrice;
+        int ladderUpper = upperLimitPrice;
+        for (Side side : Side.values()) {
+            for (int price : side(side).getPrices()) {
+                ladderLower = Math.min(ladderLower, price);
+                ladderUpper = Math.max(ladderUpper, price);
+            }
+        }
+
+        OrderBook book = new OrderBook(stockId, PriceLadder.of(ladderLower, ladderUpper), lowerLimitPrice, upperLimitPrice,
+            Math.max(expectedRestingOrders, getRestingOrderCount()));
+        for (Side side : Side.values()) {
+            BookSide bookSide = side(side);
+            for (int index = 0; index < ladder.size(); index++) {
+                PriceLevel level = bookSide.levelAt(index);
+                for (RestingOrder order : level.getOrders()) {
+                    book.restore(order.getOrderId(), side, level.getPrice(), order.getUnfilledUnit(), order.getCreatedAt());
+                }
+            }
+        }
+        return book;
+    }
+
+    public BookSide side(Side side) {
+        return side == Side.BUY ? bids : asks;
+    }
+
+    /**
+     * 직전 매칭의 체결 내역 (다음 매칭 전까지 유효)
+     */
+    public FillBuffer getFills() {
+        return fills;
+    }
+
+    /**
+     * 대기 중인 주문 수
+     */
+    public int getRestingOrderCount() {
+        return slab.liveCount();
+    }
+
+    public LevelTotals getLevelTotals() {
+        return levelTotals;
+    }
+
+    /**
+     * 신규 주문 매칭
+     * 반대편 최우선 호가부터 지정가와 교차하는 모든 레벨을 한 번에 순회하며 FIFO 순서로 체결하고,
+     * 남은 수량은 지정가로 오더북에 등록합니다. 체결 가격은 maker 주문의 호가입니다.
+     * 체결 내역은 {@link #getFills()}에 담깁니다.
+     *
+     * @return 체결되지 않고 오더북에 등록된 수량
+     * @throws IllegalArgumentException 가격이 호가 사다리 범위를 벗어난 경우
+     */
+    public int match(int orderId, Side side, int price, int amount, LocalDateTime createdAt) {
+        int limitIndex = requireIndex(price);
+        BookSide opposite = side(side.opposite());
+        fills.clear();
+        int remainingAmount = amount;
+
+        while (remainingAmount > 0 && isCrossing(side, opposite.getBestIndex(), limitIndex)) {
+            int index = opposite.getBestIndex();
+            PriceLevel level = opposite.levelAt(index);
+
+            while (remainingAmount > 0 && !level.isEmpty()) {
+                int front = level.peekFront();
+                int makerOrderId = slab.orderId(front);
+                int matchedAmount = Math.min(remainingAmount, slab.unfilledUnit(front));
+
+                level.fillFront(matchedAmount);
+                if (slab.unfilledUnit(front) == 0) {
+                    orderIndex.remove(makerOrderId);
+                    slab.free(front);
+                }
+                remainingAmount -= matchedAmount;
+                fills.add(makerOrderId, matchedAmount, level.getPrice());
+            }
+            touch(opposite.getSide(), index, level);
+
+            if (level.isEmpty()) {
+                opposite.onLevelEmptied(index);
+            }
+        }
+
+        if (remainingAmount > 0) {
+            rest(orderId, side, limitIndex, remainingAmount, createdAt);
+        }
+
+        return remainingAmount;
+    }
+
+    /**
+     * 대기 중인 주문 여부
+     */
+    public boolean contains(int orderId) {
+        return orderIndex.containsKey(orderId);
+    }
+
+    /**
+     * 주문 취소
+     * 주문 ID 인덱스로 노드를 찾아 레벨 리스트에서 바로 제거합니다.
+     *
+     * @return 취소된 주문 (오더북에 없으면 null)
+     */
+    public RestingOrder cancel(int orderId) {
+        int handle = orderIndex.remove(orderId);
+        if (handle == OrderSlab.NIL) {
+            return null;
+        }
+
+        BookSide bookSide = side(slab.side(handle));
+        int index = slab.levelIndex(handle);
+        PriceLevel level = bookSide.levelAt(index);
+        RestingOrder order = slab.view(handle);
+        level.remove(handle);
+        slab.free(handle);
+        touch(bookSide.getSide(), index, level);
+
+        if (level.isEmpty()) {
+            bookSide.onLevelEmptied(index);
+        }
+        return order;
+    }
+
+    /**
+     * 스냅샷의 대기 주문을 매칭 없이 그대로 등록
+     * 같은 가격의 주문은 등록 순서가 곧 시간 우선순위이므로 스냅샷에 기록된 순서대로 호출해야 합니다.
+     */
+    public void restore(int orderId, Side side, int price, int amount, LocalDateTime createdAt) {
+        rest(orderId, side, requireIndex(price), amount, createdAt);
+    }
+
+    private void rest(int orderId, Side side, int index, int amount, LocalDateTime createdAt) {
+        BookSide bookSide = side(side);
+        PriceLevel level = bookSide.levelAt(index);
+        if (level.isEmpty()) {
+            bookSide.onLevelFilled(index);
+        }
+        int handle = slab.allocate(orderId, amount, createdAt, side, index);
+        level.add(handle);
+        orderIndex.put(orderId, handle);
+        touch(side, index, level);
+    }
+
+    /**
+     * 반대편 최우선 호가가 지정가와 교차하는지 확인 (매수: 매도 호가 <= 지정가, 매도: 매수 호가 >= 지정가)
+     */
+    private boolean isCrossing(Side side, int oppositeBestIndex, int limitIndex) {
+        if (oppositeBestIndex < 0) {
+            return false;
+        }
+        return side == Side.BUY ? oppositeBestIndex <= limitIndex : oppositeBestIndex >= limitIndex;
+    }
+
+    private int requireIndex(int price) {
+        int index = ladder.indexOf(price);
+        if (index < 0) {
+            throw new IllegalArgumentException("Price out of ladder: stockId=" + stockId + ", price=" + price);
+        }
+        return index;
+    }
+
+    private void touch(Side side, int index, PriceLevel level) {
+        levelTotals.set(side, index, level.getTotalUnit());
+    }
+}
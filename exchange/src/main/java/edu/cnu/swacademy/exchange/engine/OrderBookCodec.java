@@ -0,0 +1,133 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 오더북 스냅샷 바이너리 코덱
+ * 종목별 호가 사다리(상하한가)와 대기 주문을 가격 레벨 순서, 레벨 내 시간 순서로 기록합니다.
+ * 샤드 스냅샷은 다른 노드로 이관된 종목 목록도 뒤에 붙입니다. (이관용 오더북과 이전 스냅샷에는 없음)
+ *
+ * 형식: [MAGIC][종목 수] { [종목 ID][하한가][상한가][주문 수] { [주문 ID][방향][가격][잔량][초][나노초] } }
+ *       ([이관된 종목 수] { [종목 ID] })
+ */
+public final class OrderBookCodec {
+
+    private static final int MAGIC = 0x4F425331; // "OBS1"
+    private static final int BOOK_HEADER_SIZE = 16;
+    private static final int ORDER_SIZE = 25;
+
+    private OrderBookCodec() {
+    }
+
+    /**
+     * 오더북들을 바이트 배열로 인코딩
+     * 엔진 스레드에서 호출하여 일관된 시점의 사본을 만들고, 파일 기록은 다른 스레드에서 수행합니다.
+     */
+    public static byte[] encode(Collection<OrderBook> books) {
+        return encode(books, new int[0]);
+    }
+
+    /**
+     * 오더북들과 이관된 종목 목록을 바이트 배열로 인코딩 (샤드 스냅샷)
+     */
+    public static byte[] encode(Collection<OrderBook> books, int[] detachedStockIds) {
+        int size = 8 + (detachedStockIds.length == 0 ? 0 : 4 + 4 * detachedStockIds.length);
+        for (OrderBook book : books) {
+            size += BOOK_HEADER_SIZE + ORDER_SIZE * book.getRestingOrderCount();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.putInt(books.size());
+        for (OrderBook book : books) {
+            PriceLadder ladder = book.getLadder();
+            buffer.putInt(book.getStockId());
+            buffer.putInt(ladder.getLowerLimitPrice());
+            buffer.putInt(ladder.getUpperLimitPrice());
+            buffer.putInt(book.getRestingOrderCount());
+
+            for (Side side : Side.values()) {
+                BookSide bookSide = book.side(side);
+                for (int index = 0; index < ladder.size(); index++) {
+                    PriceLevel level = bookSide.levelAt(index);
+                    for (RestingOrder order : level.getOrders()) {
+                        buffer.putInt(order.getOrderId());
+                        buffer.put((byte) side.ordinal());
+                        buffer.putInt(level.getPrice());
+                        buffer.putInt(order.getUnfilledUnit());
+                        buffer.putLong(order.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                        buffer.putInt(order.getCreatedAt().getNano());
+                    }
+                }
+            }
+        }
+        if (detachedStockIds.length > 0) {
+            buffer.putInt(detachedStockIds.length);
+            for (int stockId : detachedStockIds) {
+                buffer.putInt(stockId);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 바이트 배열에서 오더북 복원
+     *
+     * @param expectedRestingOrders 종목별 예상 대기 주문 수 (스냅샷 주문 수가 더 많으면 그 수로 잡음)
+     * @throws IllegalArgumentException 스냅샷 형식이 아닌 경우
+     */
+    public static List<OrderBook> decode(byte[] data, int expectedRestingOrders) {
+        return decodeContents(data, expectedRestingOrders).books();
+    }
+
+    /**
+     * 바이트 배열에서 오더북과 이관된 종목 목록 복원
+     *
+     * @throws IllegalArgumentException 스냅샷 형식이 아닌 경우
+     */
+    public static Contents decodeContents(byte[] data, int expectedRestingOrders) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Invalid order book snapshot");
+        }
+
+        int bookCount = buffer.getInt();
+        List<OrderBook> books = new ArrayList<>(bookCount);
+        for (int i = 0; i < bookCount; i++) {
+            int stockId = buffer.getInt();
+            PriceLadder ladder = PriceLadder.of(buffer.getInt(), buffer.getInt());
+            int orderCount = buffer.getInt();
+            OrderBook book = new OrderBook(stockId, ladder, Math.max(expectedRestingOrders, orderCount));
+
+            for (int j = 0; j < orderCount; j++) {
+                int orderId = buffer.getInt();
+                Side side = Side.values()[buffer.get()];
+                int price = buffer.getInt();
+                int unfilledUnit = buffer.getInt();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+                book.restore(orderId, side, price, unfilledUnit, createdAt);
+            }
+            books.add(book);
+        }
+
+        int[] detachedStockIds = new int[buffer.hasRemaining() ? buffer.getInt() : 0];
+        for (int i = 0; i < detachedStockIds.length; i++) {
+            detachedStockIds[i] = buffer.getInt();
+        }
+        return new Contents(books, detachedStockIds);
+    }
+
+    /**
+     * 복원한 스냅샷 내용
+     *
+     * @param books            오더북
+     * @param detachedStockIds 다른 노드로 이관된 종목 ID
+     */
+    public record Contents(List<OrderBook> books, int[] detachedStockIds) {
+    }
+}
@@ -0,0 +1,169 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 오프힙 대기 주문 저장소
+ * 대기 주문을 다이렉트 ByteBuffer 청크에 고정 길이 레코드로 저장하고 int 핸들로 접근합니다.
+ * 해제된 레코드는 free list로 재사용하므로 호가가 깊어져도 힙 객체와 GC 부담이 늘지 않습니다.
+ *
+ * 레코드(32바이트): [주문 ID][미체결 수량][주문 시각(epoch 나노초, long)][이전][다음][레벨 인덱스][방향]
+ * 이전/다음은 같은 가격 레벨의 FIFO 이중 연결 리스트 링크이며, 해제된 레코드에서는 다음 링크를 free list로 사용합니다.
+ * 스레드 안전하지 않습니다.
+ */
+final class OrderSlab {
+
+    static final int NIL = -1;
+
+    private static final int RECORD_SIZE = 32;
+    private static final int ORDER_ID = 0;
+    private static final int UNFILLED_UNIT = 4;
+    private static final int CREATED_AT = 8;
+    private static final int PREV = 16;
+    private static final int NEXT = 20;
+    private static final int LEVEL_INDEX = 24;
+    private static final int SIDE = 28;
+
+    private static final int CHUNK_BITS = 14;
+    private static final int CHUNK_RECORDS = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_RECORDS - 1;
+
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private int highWater;
+    private int freeHead = NIL;
+    private int liveCount;
+
+    /**
+     * 사본 (스냅샷용)
+     * 사용한 레코드 구간만 힙 버퍼로 통째로 복사하므로 레코드 수에 비례하는 객체를 만들지 않습니다.
+     */
+    OrderSlab copy() {
+        OrderSlab copy = new OrderSlab();
+        copy.chunks = new ByteBuffer[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            int records = Math.min(CHUNK_RECORDS, highWater - (i << CHUNK_BITS));
+            copy.chunks[i] = ByteBuffer.allocate(CHUNK_RECORDS * RECORD_SIZE).order(ByteOrder.nativeOrder())
+                .put(0, chunks[i], 0, records * RECORD_SIZE);
+        }
+        copy.highWater = highWater;
+        copy.freeHead = freeHead;
+        copy.liveCount = liveCount;
+        return copy;
+    }
+
+    /**
+     * 레코드 할당 (free list 우선 재사용)
+     *
+     * @return 핸들
+     */
+    int allocate(int orderId, int unfilledUnit, LocalDateTime createdAt, Side side, int levelIndex) {
+        int handle;
+        if (freeHead != NIL) {
+            handle = freeHead;
+            freeHead = getInt(handle, NEXT);
+        } else {
+            handle = highWater++;
+            if ((handle >>> CHUNK_BITS) == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length + 1);
+                chunks[chunks.length - 1] = ByteBuffer.allocateDirect(CHUNK_RECORDS * RECORD_SIZE).order(ByteOrder.nativeOrder());
+            }
+        }
+
+        ByteBuffer chunk = chunk(handle);
+        int offset = offset(handle);
+        chunk.putInt(offset + ORDER_ID, orderId);
+        chunk.putInt(offset + UNFILLED_UNIT, unfilledUnit);
+        chunk.putLong(offset + CREATED_AT, toEpochNanos(createdAt));
+        chunk.putInt(offset + PREV, NIL);
+        chunk.putInt(offset + NEXT, NIL);
+        chunk.putInt(offset + LEVEL_INDEX, levelIndex);
+        chunk.putInt(offset + SIDE, side.ordinal());
+        liveCount++;
+        return handle;
+    }
+
+    /**
+     * 레코드 해제 (free list에 반환)
+     */
+    void free(int handle) {
+        setInt(handle, NEXT, freeHead);
+        freeHead = handle;
+        liveCount--;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    int orderId(int handle) {
+        return getInt(handle, ORDER_ID);
+    }
+
+    int unfilledUnit(int handle) {
+        return getInt(handle, UNFILLED_UNIT);
+    }
+
+    void setUnfilledUnit(int handle, int unfilledUnit) {
+        setInt(handle, UNFILLED_UNIT, unfilledUnit);
+    }
+
+    LocalDateTime createdAt(int handle) {
+        long epochNanos = chunk(handle).getLong(offset(handle) + CREATED_AT);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    int prev(int handle) {
+        return getInt(handle, PREV);
+    }
+
+    void setPrev(int handle, int prev) {
+        setInt(handle, PREV, prev);
+    }
+
+    int next(int handle) {
+        return getInt(handle, NEXT);
+    }
+
+    void setNext(int handle, int next) {
+        setInt(handle, NEXT, next);
+    }
+
+    int levelIndex(int handle) {
+        return getInt(handle, LEVEL_INDEX);
+    }
+
+    Side side(int handle) {
+        return getInt(handle, SIDE) == Side.BUY.ordinal() ? Side.BUY : Side.SELL;
+    }
+
+    /**
+     * 읽기 전용 사본 (스냅샷, 취소 응답용)
+     */
+    RestingOrder view(int handle) {
+        return new RestingOrder(orderId(handle), unfilledUnit(handle), createdAt(handle));
+    }
+
+    private int getInt(int handle, int field) {
+        return chunk(handle).getInt(offset(handle) + field);
+    }
+
+    private void setInt(int handle, int field, int value) {
+        chunk(handle).putInt(offset(handle) + field, value);
+    }
+
+    private ByteBuffer chunk(int handle) {
+        return chunks[handle >>> CHUNK_BITS];
+    }
+
+    private int offset(int handle) {
+        return (handle & CHUNK_MASK) * RECORD_SIZE;
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+}
@@ -0,0 +1,31 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 일정 횟수 스핀 후 제한 시간 동안 파킹 (CPU 사용 최소, 유휴 후 첫 명령은 최대 제한 시간만큼 지연)
+ */
+public final class ParkWaitStrategy implements WaitStrategy {
+
+    private final int spinTries;
+    private final long parkNanos;
+
+    public ParkWaitStrategy(int spinTries, long parkNanos) {
+        this.spinTries = spinTries;
+        this.parkNanos = parkNanos;
+    }
+
+    @Override
+    public void idle(int idleCount) {
+        if (idleCount < spinTries) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(parkNanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PARK";
+    }
+}
@@ -0,0 +1,113 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.Arrays;
+
+/**
+ * 호가 사다리
+ * 당일 하한가부터 상한가까지의 유효 호가를 틱 단위 인덱스로 매핑합니다.
+ * 상하한가(기준가 ±5%) 범위 안의 호가는 수백 개 수준이므로 배열로 미리 할당하고,
+ * 가격 구간(band)별 시작 가격과 틱 사이즈로 가격 ↔ 인덱스를 O(1)에 변환합니다.
+ */
+public final class PriceLadder {
+
+    private final int lowerLimitPrice;
+    private final int upperLimitPrice;
+
+    // 인덱스 → 가격
+    private final int[] prices;
+
+    // 틱 사이즈가 같은 구간별 시작 가격, 틱 사이즈, 시작 인덱스
+    private final int[] segmentStartPrices;
+    private final int[] segmentTickSizes;
+    private final int[] segmentStartIndexes;
+
+    private PriceLadder(int lowerLimitPrice, int upperLimitPrice, int[] prices,
+                        int[] segmentStartPrices, int[] segmentTickSizes, int[] segmentStartIndexes) {
+        this.lowerLimitPrice = lowerLimitPrice;
+        this.upperLimitPrice = upperLimitPrice;
+        this.prices = prices;
+        this.segmentStartPrices = segmentStartPrices;
+        this.segmentTickSizes = segmentTickSizes;
+        this.segmentStartIndexes = segmentStartIndexes;
+    }
+
+    /**
+     * 하한가 ~ 상한가 범위의 호가 사다리 생성
+     */
+    public static PriceLadder of(int lowerLimitPrice, int upperLimitPrice) {
+        if (lowerLimitPrice <= 0 || upperLimitPrice < lowerLimitPrice) {
+            throw new IllegalArgumentException(
+                "Invalid price limits: lower=" + lowerLimitPrice + ", upper=" + upperLimitPrice);
+        }
+
+        int[] prices = new int[64];
+        int[] startPrices = new int[8];
+        int[] tickSizes = new int[8];
+        int[] startIndexes = new int[8];
+        int size = 0;
+        int segments = 0;
+
+        for (int price = TickSizeUtil.ceilToTick(lowerLimitPrice); price <= upperLimitPrice; price += TickSizeUtil.getTickSize(price)) {
+            int tickSize = TickSizeUtil.getTickSize(price);
+            if (segments == 0 || tickSizes[segments - 1] != tickSize) {
+                startPrices[segments] = price;
+                tickSizes[segments] = tickSize;
+                startIndexes[segments] = size;
+                segments++;
+            }
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+            }
+            prices[size++] = price;
+        }
+
+        return new PriceLadder(
+            lowerLimitPrice,
+            upperLimitPrice,
+            Arrays.copyOf(prices, size),
+            Arrays.copyOf(startPrices, segments),
+            Arrays.copyOf(tickSizes, segments),
+            Arrays.copyOf(startIndexes, segments)
+        );
+    }
+
+    public int getLowerLimitPrice() {
+        return lowerLimitPrice;
+    }
+
+    public int getUpperLimitPrice() {
+        return upperLimitPrice;
+    }
+
+    /**
+     * 호가 개수
+     */
+    public int size() {
+        return prices.length;
+    }
+
+    public int priceAt(int index) {
+        return prices[index];
+    }
+
+    /**
+     * 가격에 해당하는 인덱스
+     *
+     * @return 인덱스 (상하한가 범위를 벗어나거나 틱 사이즈에 맞지 않으면 -1)
+     */
+    public int indexOf(int price) {
+        if (price < lowerLimitPrice || price > upperLimitPrice) {
+            return -1;
+        }
+
+        for (int segment = segmentStartPrices.length - 1; segment >= 0; segment--) {
+            int startPrice = segmentStartPrices[segment];
+            if (price >= startPrice) {
+                int offset = price - startPrice;
+                int tickSize = segmentTickSizes[segment];
+                return offset % tickSize == 0 ? segmentStartIndexes[segment] + offset / tickSize : -1;
+            }
+        }
+        return -1;
+    }
+}
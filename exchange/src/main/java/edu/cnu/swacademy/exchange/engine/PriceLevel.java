@@ -0,0 +1,124 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가격 레벨
+ * 동일 가격의 미체결 주문을 시간 순서(FIFO)의 이중 연결 리스트로 보관하고 총 수량을 함께 관리합니다.
+ * 리스트 노드는 {@link OrderSlab}의 핸들이며, 레벨은 머리/꼬리 핸들만 가집니다.
+ */
+public class PriceLevel {
+
+    private final Side side;
+    private final int price;
+    private final OrderSlab slab;
+    private int head = OrderSlab.NIL;
+    private int tail = OrderSlab.NIL;
+    private int size;
+    private int totalUnit;
+
+    PriceLevel(Side side, int price, OrderSlab slab) {
+        this.side = side;
+        this.price = price;
+        this.slab = slab;
+    }
+
+    /**
+     * 사본 슬랩을 가리키는 레벨 사본
+     */
+    PriceLevel copy(OrderSlab slab) {
+        PriceLevel copy = new PriceLevel(side, price, slab);
+        copy.head = head;
+        copy.tail = tail;
+        copy.size = size;
+        copy.totalUnit = totalUnit;
+        return copy;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public int getTotalUnit() {
+        return totalUnit;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return head == OrderSlab.NIL;
+    }
+
+    /**
+     * 대기 주문 목록 사본 (시간 순서)
+     */
+    public List<RestingOrder> getOrders() {
+        List<RestingOrder> orders = new ArrayList<>(size);
+        for (int handle = head; handle != OrderSlab.NIL; handle = slab.next(handle)) {
+            orders.add(slab.view(handle));
+        }
+        return orders;
+    }
+
+    void add(int handle) {
+        slab.setPrev(handle, tail);
+        slab.setNext(handle, OrderSlab.NIL);
+        if (tail == OrderSlab.NIL) {
+            head = handle;
+        } else {
+            slab.setNext(tail, handle);
+        }
+        tail = handle;
+        size++;
+        totalUnit += slab.unfilledUnit(handle);
+    }
+
+    int peekFront() {
+        return head;
+    }
+
+    /**
+     * 맨 앞 주문을 체결 수량만큼 차감하고, 모두 체결되면 리스트에서 제거
+     * 제거된 핸들의 해제는 호출자가 합니다.
+     */
+    void fillFront(int matchedAmount) {
+        int front = head;
+        int unfilledUnit = slab.unfilledUnit(front) - matchedAmount;
+        slab.setUnfilledUnit(front, unfilledUnit);
+        totalUnit -= matchedAmount;
+        if (unfilledUnit == 0) {
+            unlink(front);
+        }
+    }
+
+    /**
+     * 주문을 리스트에서 제거하고 총 수량에서 잔량을 차감
+     */
+    void remove(int handle) {
+        totalUnit -= slab.unfilledUnit(handle);
+        unlink(handle);
+    }
+
+    private void unlink(int handle) {
+        int prev = slab.prev(handle);
+        int next = slab.next(handle);
+        if (prev == OrderSlab.NIL) {
+            head = next;
+        } else {
+            slab.setNext(prev, next);
+        }
+        if (next == OrderSlab.NIL) {
+            tail = prev;
+        } else {
+            slab.setPrev(next, prev);
+        }
+        size--;
+    }
+}
@@ -0,0 +1,32 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오더북에 대기 중인 미체결 주문 (읽기 전용 사본)
+ * 대기 주문 원본은 {@link OrderSlab}에 오프힙으로 저장되며, 이 객체는 프로젝션/스냅샷/취소 응답용 사본입니다.
+ */
+public class RestingOrder {
+
+    private final int orderId;
+    private final int unfilledUnit;
+    private final LocalDateTime createdAt;
+
+    public RestingOrder(int orderId, int unfilledUnit, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.unfilledUnit = unfilledUnit;
+        this.createdAt = createdAt;
+    }
+
+    public int getOrderId() {
+        return orderId;
+    }
+
+    public int getUnfilledUnit() {
+        return unfilledUnit;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
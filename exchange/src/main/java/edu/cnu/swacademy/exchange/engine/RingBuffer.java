@@ -0,0 +1,125 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 다중 생산자 / 단일 소비자 링 버퍼
+ * 슬롯 객체를 미리 할당해 두고 재사용하며, 잠금 없이 시퀀스 번호로 생산자와 소비자를 조율합니다.
+ * 생산자는 시퀀스를 선점(next)하고 슬롯을 채운 뒤 발행(publish)하며,
+ * 소비자는 연속으로 발행된 시퀀스까지 처리한 뒤 소비 위치를 갱신합니다.
+ */
+public final class RingBuffer<E> {
+
+    private final E[] entries;
+    private final int mask;
+
+    // 생산자가 선점한 마지막 시퀀스
+    private final AtomicLong claimedSequence = new AtomicLong(-1);
+
+    // 소비자가 처리를 마친 마지막 시퀀스
+    private final AtomicLong consumedSequence = new AtomicLong(-1);
+
+    // 슬롯별로 마지막으로 발행된 시퀀스
+    private final AtomicLongArray publishedSequences;
+
+    @SuppressWarnings("unchecked")
+    public RingBuffer(int capacity, Supplier<E> factory) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two: " + capacity);
+        }
+
+        this.entries = (E[]) new Object[capacity];
+        this.mask = capacity - 1;
+        this.publishedSequences = new AtomicLongArray(capacity);
+        for (int index = 0; index < capacity; index++) {
+            entries[index] = factory.get();
+            publishedSequences.set(index, -1);
+        }
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * 다음 시퀀스 선점 (버퍼가 가득 찬 경우 소비자가 따라올 때까지 대기)
+     */
+    public long next() {
+        long sequence = claimedSequence.incrementAndGet();
+        while (sequence - entries.length > consumedSequence.get()) {
+            LockSupport.parkNanos(1);
+        }
+        return sequence;
+    }
+
+    /**
+     * 다음 시퀀스 선점 시도 (대기 중인 명령이 한도에 이르면 기다리지 않고 -1 반환)
+     *
+     * @param maxOutstanding 선점 후 소비되지 않은 명령의 최대 수 (용량보다 크면 용량)
+     */
+    public long tryNext(int maxOutstanding) {
+        return tryNext(1, maxOutstanding);
+    }
+
+    /**
+     * 연속된 시퀀스 n개 선점 시도 (한도를 넘으면 기다리지 않고 -1 반환)
+     *
+     * @return 선점한 마지막 시퀀스 (첫 시퀀스는 반환값 - n + 1)
+     */
+    public long tryNext(int n, int maxOutstanding) {
+        int limit = Math.min(maxOutstanding, entries.length);
+        while (true) {
+            long current = claimedSequence.get();
+            long sequence = current + n;
+            if (sequence - consumedSequence.get() > limit) {
+                return -1;
+            }
+            if (claimedSequence.compareAndSet(current, sequence)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * 선점되었지만 아직 소비되지 않은 명령 수
+     */
+    public long depth() {
+        return Math.max(0, claimedSequence.get() - consumedSequence.get());
+    }
+
+    public E get(long sequence) {
+        return entries[(int) (sequence & mask)];
+    }
+
+    /**
+     * 슬롯을 채운 뒤 소비자에게 공개
+     */
+    public void publish(long sequence) {
+        publishedSequences.set((int) (sequence & mask), sequence);
+    }
+
+    /**
+     * 주어진 시퀀스부터 연속으로 발행된 마지막 시퀀스 (없으면 from - 1)
+     */
+    public long availableSequence(long from) {
+        long sequence = from;
+        while (publishedSequences.get((int) (sequence & mask)) == sequence) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    public long getConsumedSequence() {
+        return consumedSequence.get();
+    }
+
+    /**
+     * 소비 완료 처리 (해당 슬롯을 생산자가 다시 사용할 수 있게 됨)
+     */
+    public void markConsumed(long sequence) {
+        consumedSequence.lazySet(sequence);
+    }
+}
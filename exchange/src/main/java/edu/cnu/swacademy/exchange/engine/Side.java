@@ -0,0 +1,26 @@
+package edu.cnu.swacademy.exchange.engine;
+
+/**
+ * 주문 방향
+ */
+public enum Side {
+    BUY,
+    SELL;
+
+    public Side opposite() {
+        return this == BUY ? SELL : BUY;
+    }
+
+    /**
+     * 대소문자 구분 없이 변환 (문자열을 새로 만들지 않음)
+     */
+    public static Side from(String value) {
+        if (BUY.name().equalsIgnoreCase(value)) {
+            return BUY;
+        }
+        if (SELL.name().equalsIgnoreCase(value)) {
+            return SELL;
+        }
+        throw new IllegalArgumentException("Unknown side: " + value);
+    }
+}
@@ -0,0 +1,27 @@
+package edu.cnu.swacademy.exchange.engine;
+
+/**
+ * 일정 횟수 스핀 후 양보 (코어를 다른 스레드와 나눠 쓰되 깨어나는 지연 없음)
+ */
+public final class SpinYieldWaitStrategy implements WaitStrategy {
+
+    private final int spinTries;
+
+    public SpinYieldWaitStrategy(int spinTries) {
+        this.spinTries = spinTries;
+    }
+
+    @Override
+    public void idle(int idleCount) {
+        if (idleCount < spinTries) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SPIN_YIELD";
+    }
+}
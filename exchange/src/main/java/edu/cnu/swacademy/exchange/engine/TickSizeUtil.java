@@ -0,0 +1,45 @@
+package edu.cnu.swacademy.exchange.engine;
+
+/**
+ * 틱 사이즈 유틸리티
+ * 가격 구간에 따른 호가 단위를 계산합니다. (증권사 서버의 TickSizeUtil과 동일한 구간)
+ */
+public final class TickSizeUtil {
+
+    /**
+     * 가격 구간별 경계값과 호가 단위
+     */
+    private static final int[] BAND_LOWER_PRICES = {0, 2000, 5000, 20000, 50000, 200000, 500000};
+    private static final int[] BAND_TICK_SIZES = {1, 5, 10, 50, 100, 500, 1000};
+
+    private TickSizeUtil() {
+    }
+
+    /**
+     * 가격에 맞는 틱 사이즈를 반환합니다.
+     */
+    public static int getTickSize(int price) {
+        for (int band = BAND_LOWER_PRICES.length - 1; band > 0; band--) {
+            if (price >= BAND_LOWER_PRICES[band]) {
+                return BAND_TICK_SIZES[band];
+            }
+        }
+        return BAND_TICK_SIZES[0];
+    }
+
+    /**
+     * 가격이 틱 사이즈에 맞는지 검증합니다.
+     */
+    public static boolean isValidTickSize(int price) {
+        return price > 0 && price % getTickSize(price) == 0;
+    }
+
+    /**
+     * 가격 이상인 가장 가까운 유효 호가를 반환합니다.
+     */
+    public static int ceilToTick(int price) {
+        int tickSize = getTickSize(price);
+        int remainder = price % tickSize;
+        return remainder == 0 ? price : price + (tickSize - remainder);
+    }
+}
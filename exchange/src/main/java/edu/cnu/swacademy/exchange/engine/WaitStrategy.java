@@ -0,0 +1,16 @@
+package edu.cnu.swacademy.exchange.engine;
+
+/**
+ * 엔진 스레드 대기 전략
+ * 링 버퍼에 처리할 명령이 없을 때 엔진 루프가 호출합니다. 지연 시간과 CPU 사용량 사이의 선택입니다.
+ * 상태를 갖지 않으므로 여러 엔진 스레드가 공유해도 됩니다.
+ */
+public interface WaitStrategy {
+
+    /**
+     * 유휴 1회 대기
+     *
+     * @param idleCount 연속 유휴 횟수 (1부터, 명령을 처리하면 다시 1부터 셉니다)
+     */
+    void idle(int idleCount);
+}
@@ -0,0 +1,27 @@
+package edu.cnu.swacademy.exchange.engine;
+
+/**
+ * 엔진 대기 전략 종류 (exchange.engine.wait.strategy)
+ */
+public enum WaitStrategyType {
+    /**
+     * 바쁜 대기
+     */
+    BUSY_SPIN,
+    /**
+     * 스핀 후 Thread.yield
+     */
+    SPIN_YIELD,
+    /**
+     * 스핀 후 제한 시간 파킹
+     */
+    PARK;
+
+    public WaitStrategy create(int spinTries, long parkMicros) {
+        return switch (this) {
+            case BUSY_SPIN -> new BusySpinWaitStrategy();
+            case SPIN_YIELD -> new SpinYieldWaitStrategy(spinTries);
+            case PARK -> new ParkWaitStrategy(spinTries, parkMicros * 1_000);
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package edu.cnu.swacademy.exchange.gateway;
+
+import edu.cnu.swacademy.exchange.order.OrderBookService;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 게이트웨이 연결 하나의 수신/송신 상태
+ * 수신 버퍼에 모인 프레임을 모두 디코딩하여 엔진에 넘기고, 응답은 완료되는 대로 송신 대기열에 쌓습니다.
+ * 송신 대기열을 제외한 상태는 셀렉터 스레드만 접근합니다.
+ */
+@Slf4j
+class GatewayConnection {
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final OrderBookService orderBookService;
+    private final GatewayServer server;
+
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(GatewayProtocol.LENGTH_SIZE + GatewayProtocol.MAX_FRAME_SIZE);
+
+    // 엔진 스레드가 넣은 처리 결과 (인코딩 전)
+    private final Queue<PendingResponse> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    // 소켓 버퍼가 가득 차 다 쓰지 못한 응답 프레임
+    private final Queue<ByteBuffer> unsent = new ArrayDeque<>();
+
+    GatewayConnection(SocketChannel channel, SelectionKey key, OrderBookService orderBookService, GatewayServer server) {
+        this.channel = channel;
+        this.key = key;
+        this.orderBookService = orderBookService;
+        this.server = server;
+    }
+
+    /**
+     * 수신 가능한 바이트를 읽고 완성된 프레임을 모두 처리
+     */
+    void read() {
+        try {
+            if (channel.read(readBuffer) < 0) {
+                close();
+                return;
+            }
+
+            readBuffer.flip();
+            while (readBuffer.remaining() >= GatewayProtocol.LENGTH_SIZE) {
+                int length = readBuffer.getInt(readBuffer.position());
+                if (length < GatewayProtocol.HEADER_SIZE || length > GatewayProtocol.MAX_FRAME_SIZE) {
+                    throw new IllegalStateException("Invalid gateway frame length: " + length);
+                }
+                if (readBuffer.remaining() < GatewayProtocol.LENGTH_SIZE + length) {
+                    break;
+                }
+
+                int frameEnd = readBuffer.position() + GatewayProtocol.LENGTH_SIZE + length;
+                ByteBuffer frame = readBuffer.slice(readBuffer.position() + GatewayProtocol.LENGTH_SIZE, length);
+                readBuffer.position(frameEnd);
+                dispatch(frame);
+            }
+            readBuffer.compact();
+        } catch (Exception e) {
+            log.warn("Closing order gateway connection: e={}, msg={}", e.getClass(), e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * 프레임 하나를 엔진에 전달 (결과를 기다리지 않음)
+     */
+    private void dispatch(ByteBuffer frame) {
+        byte type = frame.get();
+        long correlationId = frame.getLong();
+
+        switch (type) {
+            case GatewayProtocol.TYPE_NEW_ORDER -> orderBookService.submitOrder(GatewayProtocol.decodeNewOrder(frame))
+                .whenComplete((response, e) -> complete(new PendingResponse(correlationId,
+                    e == null ? response : OrderProcessResponse.rejected("거래소 서버 오류"))));
+            case GatewayProtocol.TYPE_CANCEL -> orderBookService.submitCancel(GatewayProtocol.decodeCancel(frame))
+                .whenComplete((response, e) -> complete(new PendingResponse(correlationId,
+                    e == null ? response : OrderCancelResponse.rejected())));
+            default -> throw new IllegalStateException("Unknown gateway frame type: " + type);
+        }
+    }
+
+    /**
+     * 처리 결과 등록 (엔진 스레드에서 호출되므로 대기열에 넣고 셀렉터를 한 번만 깨움)
+     */
+    private void complete(PendingResponse response) {
+        completed.offer(response);
+        if (flushScheduled.compareAndSet(false, true)) {
+            server.scheduleFlush(this);
+        }
+    }
+
+    /**
+     * 쌓인 결과를 인코딩하여 송신 (셀렉터 스레드에서 호출)
+     * 소켓 버퍼가 가득 차면 남은 프레임을 보관하고 쓰기 가능 이벤트를 기다립니다.
+     */
+    void flush() {
+        flushScheduled.set(false);
+        if (!key.isValid()) {
+            return;
+        }
+
+        PendingResponse response;
+        while ((response = completed.poll()) != null) {
+            unsent.offer(response.encode());
+        }
+
+        try {
+            ByteBuffer frame;
+            while ((frame = unsent.peek()) != null) {
+                channel.write(frame);
+                if (frame.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+                unsent.poll();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        } catch (IOException e) {
+            log.warn("Closing order gateway connection: e={}, msg={}", e.getClass(), e.getMessage());
+            close();
+        }
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close order gateway connection: e={}, msg={}", e.getClass(), e.getMessage());
+        }
+    }
+
+    /**
+     * 상관 ID와 처리 결과
+     */
+    private record PendingResponse(long correlationId, Object response) {
+        ByteBuffer encode() {
+            if (response instanceof OrderProcessResponse orderResponse) {
+                return GatewayProtocol.encodeOrderResponse(correlationId, orderResponse);
+            }
+            return GatewayProtocol.encodeCancelResponse(correlationId, (OrderCancelResponse) response);
+        }
+    }
+}
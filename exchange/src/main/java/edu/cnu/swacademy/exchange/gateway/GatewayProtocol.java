@@ -0,0 +1,140 @@
+package edu.cnu.swacademy.exchange.gateway;
+
+import edu.cnu.swacademy.exchange.engine.Side;
+import edu.cnu.swacademy.exchange.order.dto.MakerOrderResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 주문 게이트웨이 바이너리 프로토콜
+ * 증권사 서버와 하나의 연결을 유지하며 요청을 파이프라인으로 주고받기 위한 고정 레이아웃 프레임입니다.
+ * 응답은 처리 완료 순서대로 전송되므로 요청의 상관 ID로 짝을 맞춥니다.
+ *
+ * 프레임: [길이(int)][유형(byte)][상관 ID(long)][본문] (길이는 자신을 제외한 바이트 수)
+ * 신규 주문: [주문 ID][종목 ID][가격][수량][방향(byte)][주문 시각 초(long)][주문 시각 나노(int)][하한가][상한가]
+ * 주문 취소: [주문 ID][종목 ID]
+ * 주문 응답: [결과(byte)][taker 주문 ID][마지막 체결 가격][총 체결 수량][maker 수] {[주문 ID][체결 수량][체결 가격]} [사유 길이(short)][사유(UTF-8)]
+ * 취소 응답: [결과(byte)][취소 수량]
+ *
+ * 본문이 최대 프레임 크기를 넘으면 (큰 주문이 많은 maker와 체결된 경우) 본문을 나누어 앞 조각들은 이어지는 프레임(TYPE_CONTINUATION)으로,
+ * 마지막 조각만 원래 유형으로 보냅니다. 수신 측은 같은 상관 ID의 조각을 이어 붙여 하나의 본문으로 읽습니다.
+ *
+ * 증권사 서버의 GatewayProtocol과 같은 레이아웃을 유지해야 합니다.
+ */
+public final class GatewayProtocol {
+
+    public static final byte TYPE_NEW_ORDER = 1;
+    public static final byte TYPE_CANCEL = 2;
+    public static final byte TYPE_ORDER_RESPONSE = 3;
+    public static final byte TYPE_CANCEL_RESPONSE = 4;
+    public static final byte TYPE_CONTINUATION = 5;
+
+    public static final byte RESULT_UNMATCHED = 0;
+    public static final byte RESULT_MATCHED = 1;
+    public static final byte RESULT_REJECTED = 2;
+    public static final byte RESULT_CANCELLED = 3;
+    public static final byte RESULT_OVERLOADED = 4;
+
+    public static final int LENGTH_SIZE = 4;
+    public static final int HEADER_SIZE = 1 + 8;
+    public static final int MAX_FRAME_SIZE = 64 * 1024;
+
+    private static final int NEW_ORDER_SIZE = 4 * 4 + 1 + 8 + 4 + 4 * 2;
+    private static final int CANCEL_SIZE = 4 * 2;
+
+    private GatewayProtocol() {
+    }
+
+    /**
+     * 신규 주문 프레임 본문 디코딩 (버퍼 위치는 본문 시작)
+     */
+    public static OrderProcessRequest decodeNewOrder(ByteBuffer frame) {
+        checkSize(frame, NEW_ORDER_SIZE);
+        int orderId = frame.getInt();
+        int stockId = frame.getInt();
+        int price = frame.getInt();
+        int amount = frame.getInt();
+        Side side = Side.values()[frame.get()];
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(frame.getLong(), frame.getInt(), ZoneOffset.UTC);
+        int lowerLimitPrice = frame.getInt();
+        int upperLimitPrice = frame.getInt();
+        return new OrderProcessRequest(orderId, stockId, price, amount, side.name(), createdAt, lowerLimitPrice, upperLimitPrice);
+    }
+
+    public static OrderCancelRequest decodeCancel(ByteBuffer frame) {
+        checkSize(frame, CANCEL_SIZE);
+        return new OrderCancelRequest(frame.getInt(), frame.getInt());
+    }
+
+    public static ByteBuffer encodeOrderResponse(long correlationId, OrderProcessResponse response) {
+        List<MakerOrderResponse> makers = response.makers() == null ? List.of() : response.makers();
+        byte[] reason = response.reason() == null ? new byte[0] : response.reason().getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer body = ByteBuffer.allocate(1 + 4 * 4 + makers.size() * 12 + 2 + reason.length);
+        body.put(toResult(response.matchResult()))
+            .putInt(valueOf(response.takerOrderId()))
+            .putInt(valueOf(response.price()))
+            .putInt(valueOf(response.totalMatchedAmount()))
+            .putInt(makers.size());
+        for (MakerOrderResponse maker : makers) {
+            body.putInt(maker.orderId()).putInt(maker.matchedAmount()).putInt(maker.price());
+        }
+        body.putShort((short) reason.length).put(reason);
+        return fragment(TYPE_ORDER_RESPONSE, correlationId, body.flip());
+    }
+
+    public static ByteBuffer encodeCancelResponse(long correlationId, OrderCancelResponse response) {
+        ByteBuffer buffer = allocate(TYPE_CANCEL_RESPONSE, correlationId, 1 + 4);
+        buffer.put(toResult(response.matchResult())).putInt(valueOf(response.canceledAmount()));
+        return buffer.flip();
+    }
+
+    /**
+     * 본문을 최대 프레임 크기 이하의 프레임들로 나누어 한 버퍼에 이어서 담기 (마지막 프레임만 원래 유형)
+     */
+    private static ByteBuffer fragment(byte type, long correlationId, ByteBuffer body) {
+        int maxBodySize = MAX_FRAME_SIZE - HEADER_SIZE;
+        int frames = Math.max(1, (body.remaining() + maxBodySize - 1) / maxBodySize);
+        ByteBuffer buffer = ByteBuffer.allocate(frames * (LENGTH_SIZE + HEADER_SIZE) + body.remaining());
+        while (body.remaining() > maxBodySize) {
+            buffer.putInt(HEADER_SIZE + maxBodySize).put(TYPE_CONTINUATION).putLong(correlationId)
+                .put(body.slice(body.position(), maxBodySize));
+            body.position(body.position() + maxBodySize);
+        }
+        buffer.putInt(HEADER_SIZE + body.remaining()).put(type).putLong(correlationId).put(body);
+        return buffer.flip();
+    }
+
+    private static ByteBuffer allocate(byte type, long correlationId, int bodySize) {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_SIZE + HEADER_SIZE + bodySize);
+        return buffer.putInt(HEADER_SIZE + bodySize).put(type).putLong(correlationId);
+    }
+
+    private static void checkSize(ByteBuffer frame, int bodySize) {
+        if (frame.remaining() != bodySize) {
+            throw new IllegalArgumentException("Invalid gateway frame body size: " + frame.remaining());
+        }
+    }
+
+    private static byte toResult(String matchResult) {
+        return switch (matchResult) {
+            case "Matched" -> RESULT_MATCHED;
+            case "Unmatched" -> RESULT_UNMATCHED;
+            case "Cancelled" -> RESULT_CANCELLED;
+            case "Overloaded" -> RESULT_OVERLOADED;
+            default -> RESULT_REJECTED;
+        };
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,142 @@
+package edu.cnu.swacademy.exchange.gateway;
+
+import edu.cnu.swacademy.exchange.order.OrderBookService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 주문 게이트웨이 서버
+ * REST 주문 API와 함께 동작하는 NIO 기반 바이너리 주문 접수 서버입니다.
+ * 셀렉터 스레드 하나가 모든 연결의 수신과 송신을 맡고, 디코딩한 주문은 기다리지 않고 매칭 엔진에 넘깁니다.
+ * 엔진 스레드는 처리 결과를 연결의 송신 대기열에 넣기만 하고, 인코딩과 소켓 쓰기는 셀렉터 스레드가 합니다.
+ *
+ * 프레임 형식은 {@link GatewayProtocol}을 참고합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "exchange.gateway.enabled", havingValue = "true", matchIfMissing = true)
+public class GatewayServer implements Runnable {
+
+    private final OrderBookService orderBookService;
+
+    @Value("${exchange.gateway.port:9081}")
+    private int port;
+
+    // 송신할 응답이 생긴 연결 (엔진 스레드가 등록하고 셀렉터 스레드가 비움)
+    private final Queue<GatewayConnection> writeReadyConnections = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        thread = new Thread(this, "order-gateway");
+        thread.start();
+        log.info("Order gateway started: port={}", port);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        selector.wakeup();
+        thread.join(5000);
+        log.info("Order gateway stopped: port={}", port);
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                selector.select();
+
+                GatewayConnection ready;
+                while ((ready = writeReadyConnections.poll()) != null) {
+                    ready.flush();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    GatewayConnection connection = (GatewayConnection) key.attachment();
+                    if (key.isReadable()) {
+                        connection.read();
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.flush();
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Order gateway loop failed: e={}, msg={}", e.getClass(), e.getMessage());
+            }
+        }
+        closeAll();
+    }
+
+    /**
+     * 응답 송신 예약 (엔진 스레드에서 호출)
+     */
+    void scheduleFlush(GatewayConnection connection) {
+        writeReadyConnections.offer(connection);
+        selector.wakeup();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new GatewayConnection(channel, key, orderBookService, this));
+        log.info("Order gateway connection accepted: remote={}", channel.getRemoteAddress());
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof GatewayConnection connection) {
+                connection.close();
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            log.warn("Failed to close order gateway: e={}, msg={}", e.getClass(), e.getMessage());
+        }
+    }
+}
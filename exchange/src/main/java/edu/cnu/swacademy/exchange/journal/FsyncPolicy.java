@@ -0,0 +1,19 @@
+package edu.cnu.swacademy.exchange.journal;
+
+/**
+ * 저널 fsync 정책
+ */
+public enum FsyncPolicy {
+    /**
+     * 이벤트마다 디스크에 강제 기록 (유실 없음, 가장 느림)
+     */
+    EVERY_EVENT,
+    /**
+     * 그룹 커밋: 마지막 강제 기록 후 설정한 시간(µs)이 지나면 모아서 기록 (최대 해당 구간 유실)
+     */
+    GROUP,
+    /**
+     * OS 페이지 캐시 반영에 맡김 (프로세스 장애는 안전, 장비 장애 시 유실 가능)
+     */
+    OS
+}
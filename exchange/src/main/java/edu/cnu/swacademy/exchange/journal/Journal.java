@@ -0,0 +1,477 @@
+package edu.cnu.swacademy.exchange.journal;
+
+import edu.cnu.swacademy.exchange.engine.Side;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 엔진 샤드 선기록 저널 (Write-Ahead Journal)
+ * 엔진 스레드가 수신한 주문/취소/결과 조회(및 종목 이관)와 그 결과 체결을 메모리 매핑된 세그먼트 파일에 순서대로 추가합니다.
+ * 네트워크 왕복 없이 페이지 캐시에 쓰고, fsync 시점은 {@link FsyncPolicy}로 정합니다.
+ *
+ * 레코드: [길이(int)][CRC32C(int)][유형(byte)][본문]
+ * 주문/취소/체결 레코드는 고정 크기 버퍼에서 인코딩하고, 이관받은 오더북을 담는 가져오기 레코드만 가변 길이입니다.
+ * 길이 0 또는 CRC 불일치 지점을 저널의 끝으로 봅니다.
+ * 세그먼트: journal-{샤드 ID}-{첫 레코드 순번}.log
+ * 스냅샷이 기록되면 스냅샷 순번 이전 레코드만 담긴 세그먼트는 삭제합니다.
+ *
+ * 엔진 스레드 하나만 접근하므로 동기화하지 않습니다.
+ */
+@Slf4j
+public class Journal implements AutoCloseable {
+
+    static final byte TYPE_PROCESS = 1;
+    static final byte TYPE_CANCEL = 2;
+    static final byte TYPE_FILL = 3;
+    static final byte TYPE_DETACH = 4;
+    static final byte TYPE_RECONCILE = 5;
+    static final byte TYPE_ATTACH = 6;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_FIXED_RECORD_SIZE = 64;
+
+    private final Path directory;
+    private final int shardId;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long groupCommitNanos;
+
+    private final CRC32C crc = new CRC32C();
+    private final byte[] scratch = new byte[MAX_FIXED_RECORD_SIZE];
+    private final Encoder encoder = new Encoder(scratch);
+    private final Decoder decoder = new Decoder();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long nextSequence;
+    private boolean dirty;
+    private long lastForceNanos;
+
+    public Journal(Path directory, int shardId, int segmentSize, FsyncPolicy fsyncPolicy, long groupCommitMicros) {
+        this.directory = directory;
+        this.shardId = shardId;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.groupCommitNanos = groupCommitMicros * 1_000;
+    }
+
+    /**
+     * 기존 세그먼트를 순서대로 재생하고 마지막 기록 위치에서 이어 쓸 수 있도록 엽니다.
+     *
+     * @param fromSequence 재생을 시작할 레코드 순번 (스냅샷에 이미 반영된 레코드는 건너뜀)
+     * @return 재생한 주문/취소/결과 조회 건수
+     */
+    public long replay(JournalHandler handler, long fromSequence) {
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = listSegments();
+            long replayed = 0;
+
+            for (int i = 0; i < segments.size(); i++) {
+                boolean last = i == segments.size() - 1;
+                FileChannel segmentChannel = FileChannel.open(segments.get(i), StandardOpenOption.READ, StandardOpenOption.WRITE);
+                MappedByteBuffer segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+                nextSequence = startSequenceOf(segments.get(i));
+                replayed += replaySegment(segment, handler, fromSequence);
+
+                if (last) {
+                    channel = segmentChannel;
+                    buffer = segment;
+                } else {
+                    segmentChannel.close();
+                }
+            }
+
+            if (buffer == null) {
+                nextSequence = Math.max(nextSequence, fromSequence);
+                openSegment(nextSequence);
+            }
+            lastForceNanos = System.nanoTime();
+            log.info("Journal replayed: shard-id={}, records={}, next-sequence={}", shardId, replayed, nextSequence);
+            return replayed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay journal: shard-id=" + shardId, e);
+        }
+    }
+
+    public void appendProcess(OrderProcessRequest request) {
+        LocalDateTime createdAt = request.createdAt();
+        int length = encoder.reset()
+            .putByte(TYPE_PROCESS)
+            .putInt(request.orderId())
+            .putInt(request.stockId())
+            .putByte((byte) Side.from(request.side()).ordinal())
+            .putInt(request.price())
+            .putInt(request.amount())
+            .putInt(request.lowerLimitPrice())
+            .putInt(request.upperLimitPrice())
+            .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+            .putInt(createdAt.getNano())
+            .length();
+        append(length);
+    }
+
+    public void appendCancel(OrderCancelRequest request) {
+        int length = encoder.reset()
+            .putByte(TYPE_CANCEL)
+            .putInt(request.orderId())
+            .putInt(request.stockId())
+            .length();
+        append(length);
+    }
+
+    /**
+     * 주문 결과 조회 기록 (아직 도착하지 않은 주문을 무효화하므로 재생 대상)
+     */
+    public void appendReconcile(OrderCancelRequest request) {
+        int length = encoder.reset()
+            .putByte(TYPE_RECONCILE)
+            .putInt(request.orderId())
+            .putInt(request.stockId())
+            .length();
+        append(length);
+    }
+
+    public void appendFill(int takerOrderId, int makerOrderId, int matchedAmount, int price) {
+        int length = encoder.reset()
+            .putByte(TYPE_FILL)
+            .putInt(takerOrderId)
+            .putInt(makerOrderId)
+            .putInt(matchedAmount)
+            .putInt(price)
+            .length();
+        append(length);
+    }
+
+    /**
+     * 종목 오더북 이관(내보내기) 기록
+     */
+    public void appendDetach(int stockId) {
+        int length = encoder.reset()
+            .putByte(TYPE_DETACH)
+            .putInt(stockId)
+            .length();
+        append(length);
+    }
+
+    /**
+     * 종목 오더북 가져오기 기록 (이관받은 오더북을 그대로 담는 가변 길이 레코드)
+     *
+     * @throws IllegalArgumentException 레코드가 세그먼트 하나보다 큰 경우
+     */
+    public void appendAttach(int stockId, byte[] data) {
+        int headerLength = encoder.reset()
+            .putByte(TYPE_ATTACH)
+            .putInt(stockId)
+            .length();
+        int length = headerLength + data.length;
+        if (HEADER_SIZE + length > segmentSize) {
+            throw new IllegalArgumentException("Journal record exceeds segment size: stock-id=" + stockId + ", length=" + length);
+        }
+        if (buffer.remaining() < HEADER_SIZE + length) {
+            roll();
+        }
+
+        crc.reset();
+        crc.update(scratch, 0, headerLength);
+        crc.update(data, 0, data.length);
+        int position = buffer.position();
+        buffer.position(position + HEADER_SIZE);
+        buffer.put(scratch, 0, headerLength);
+        buffer.put(data);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, length);
+        recordAppended();
+    }
+
+    /**
+     * 다음에 기록될 레코드 순번
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * 주어진 순번 이전 레코드만 담긴 세그먼트 삭제
+     * 스냅샷 기록 후 스냅샷 스레드에서 호출하며, 기록 중인 마지막 세그먼트는 삭제하지 않습니다.
+     */
+    public void truncateBefore(long sequence) {
+        try {
+            List<Path> segments = listSegments();
+            for (int i = 0; i < segments.size() - 1; i++) {
+                if (startSequenceOf(segments.get(i + 1)) > sequence) {
+                    break;
+                }
+                Files.deleteIfExists(segments.get(i));
+                log.info("Journal segment truncated: shard-id={}, path={}", shardId, segments.get(i));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to truncate journal: shard-id={}, e={}, msg={}", shardId, e.getClass(), e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 처리가 끝났을 때와 엔진 유휴 시 호출
+     * 그룹 커밋 정책이면 마지막 기록 후 주기가 지난 경우에만 디스크에 기록합니다.
+     */
+    public void commit() {
+        if (fsyncPolicy == FsyncPolicy.GROUP && dirty && System.nanoTime() - lastForceNanos >= groupCommitNanos) {
+            force();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (buffer == null) {
+            return;
+        }
+        if (fsyncPolicy != FsyncPolicy.OS || dirty) {
+            force();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close journal: shard-id={}, e={}, msg={}", shardId, e.getClass(), e.getMessage());
+        }
+    }
+
+    private void append(int length) {
+        if (buffer.remaining() < HEADER_SIZE + length) {
+            roll();
+        }
+
+        crc.reset();
+        crc.update(scratch, 0, length);
+        int position = buffer.position();
+        buffer.position(position + HEADER_SIZE);
+        buffer.put(scratch, 0, length);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        // 길이를 마지막에 기록하여 중간까지 쓰인 레코드는 끝으로 인식되도록 합니다.
+        buffer.putInt(position, length);
+        recordAppended();
+    }
+
+    private void recordAppended() {
+        nextSequence++;
+        dirty = true;
+
+        if (fsyncPolicy == FsyncPolicy.EVERY_EVENT) {
+            force();
+        }
+    }
+
+    private long replaySegment(MappedByteBuffer segment, JournalHandler handler, long fromSequence) {
+        long replayed = 0;
+        while (segment.remaining() >= HEADER_SIZE) {
+            int position = segment.position();
+            int length = segment.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || segment.remaining() < HEADER_SIZE + length) {
+                log.warn("Journal record length invalid, truncating: shard-id={}, sequence={}, length={}", shardId, nextSequence, length);
+                clearFrom(segment, position);
+                break;
+            }
+
+            // 고정 크기 레코드는 재사용 버퍼로, 가져오기 레코드만 크기에 맞춰 할당하여 읽음
+            byte[] record = length <= scratch.length ? scratch : new byte[length];
+            segment.position(position + HEADER_SIZE);
+            segment.get(record, 0, length);
+            crc.reset();
+            crc.update(record, 0, length);
+            if ((int) crc.getValue() != segment.getInt(position + 4)) {
+                log.warn("Journal checksum mismatch, truncating: shard-id={}, sequence={}", shardId, nextSequence);
+                clearFrom(segment, position);
+                break;
+            }
+
+            if (nextSequence >= fromSequence && dispatch(decoder.reset(record, length), handler)) {
+                replayed++;
+            }
+            nextSequence++;
+        }
+        return replayed;
+    }
+
+    /**
+     * 잘못된 레코드부터 세그먼트 끝까지 0으로 지움
+     * 그 자리에 이어 쓴 레코드 뒤에 남은 이전 레코드가 다음 재생에서 되살아나지 않도록 합니다.
+     */
+    private void clearFrom(MappedByteBuffer segment, int position) {
+        byte[] zeros = new byte[Math.min(segmentSize - position, 64 * 1024)];
+        segment.position(position);
+        while (segment.hasRemaining()) {
+            segment.put(zeros, 0, Math.min(zeros.length, segment.remaining()));
+        }
+        segment.force();
+        segment.position(position);
+    }
+
+    private boolean dispatch(Decoder decoder, JournalHandler handler) {
+        byte type = decoder.getByte();
+        switch (type) {
+            case TYPE_PROCESS -> {
+                int orderId = decoder.getInt();
+                int stockId = decoder.getInt();
+                Side side = Side.values()[decoder.getByte()];
+                int price = decoder.getInt();
+                int amount = decoder.getInt();
+                int lowerLimitPrice = decoder.getInt();
+                int upperLimitPrice = decoder.getInt();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(decoder.getLong(), decoder.getInt(), ZoneOffset.UTC);
+                handler.onProcess(new OrderProcessRequest(orderId, stockId, price, amount, side.name(), createdAt, lowerLimitPrice, upperLimitPrice));
+                return true;
+            }
+            case TYPE_CANCEL -> {
+                handler.onCancel(new OrderCancelRequest(decoder.getInt(), decoder.getInt()));
+                return true;
+            }
+            case TYPE_DETACH -> {
+                handler.onDetach(decoder.getInt());
+                return true;
+            }
+            case TYPE_RECONCILE -> {
+                handler.onReconcile(new OrderCancelRequest(decoder.getInt(), decoder.getInt()));
+                return true;
+            }
+            case TYPE_ATTACH -> {
+                handler.onAttach(decoder.getInt(), decoder.getRemaining());
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private void roll() {
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close journal segment: shard-id={}, e={}, msg={}", shardId, e.getClass(), e.getMessage());
+        }
+        openSegment(nextSequence);
+    }
+
+    private void openSegment(long startSequence) {
+        Path path = directory.resolve(String.format("journal-%d-%020d.log", shardId, startSequence));
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal segment: " + path, e);
+        }
+        log.info("Journal segment opened: shard-id={}, path={}", shardId, path);
+    }
+
+    private void force() {
+        buffer.force();
+        dirty = false;
+        lastForceNanos = System.nanoTime();
+    }
+
+    private List<Path> listSegments() throws IOException {
+        String prefix = "journal-" + shardId + "-";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().startsWith(prefix))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private long startSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - ".log".length()));
+    }
+
+    /**
+     * 재사용 버퍼에 빅엔디언으로 기록하는 인코더
+     */
+    private static final class Encoder {
+        private final byte[] bytes;
+        private int position;
+
+        Encoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        Encoder reset() {
+            position = 0;
+            return this;
+        }
+
+        Encoder putByte(byte value) {
+            bytes[position++] = value;
+            return this;
+        }
+
+        Encoder putInt(int value) {
+            bytes[position++] = (byte) (value >>> 24);
+            bytes[position++] = (byte) (value >>> 16);
+            bytes[position++] = (byte) (value >>> 8);
+            bytes[position++] = (byte) value;
+            return this;
+        }
+
+        Encoder putLong(long value) {
+            putInt((int) (value >>> 32));
+            return putInt((int) value);
+        }
+
+        int length() {
+            return position;
+        }
+    }
+
+    private static final class Decoder {
+        private byte[] bytes;
+        private int position;
+        private int length;
+
+        Decoder reset(byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+            position = 0;
+            return this;
+        }
+
+        byte getByte() {
+            return bytes[position++];
+        }
+
+        int getInt() {
+            return ((bytes[position++] & 0xff) << 24)
+                | ((bytes[position++] & 0xff) << 16)
+                | ((bytes[position++] & 0xff) << 8)
+                | (bytes[position++] & 0xff);
+        }
+
+        long getLong() {
+            return ((long) getInt() << 32) | (getInt() & 0xffffffffL);
+        }
+
+        byte[] getRemaining() {
+            byte[] remaining = Arrays.copyOfRange(bytes, position, length);
+            position = length;
+            return remaining;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package edu.cnu.swacademy.exchange.journal;
+
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+
+/**
+ * 저널 재생 핸들러
+ * 체결 기록은 주문 재처리로 다시 만들어지므로 재생 대상이 아닙니다.
+ */
+public interface JournalHandler {
+
+    void onProcess(OrderProcessRequest request);
+
+    void onCancel(OrderCancelRequest request);
+
+    /**
+     * 주문 결과 조회 (아직 도착하지 않은 주문의 무효화)
+     */
+    void onReconcile(OrderCancelRequest request);
+
+    /**
+     * 다른 노드로 이관된 종목의 오더북 제거
+     */
+    void onDetach(int stockId);
+
+    /**
+     * 다른 노드에서 이관받은 종목의 오더북 등록
+     *
+     * @param data 이관받은 오더북 (스냅샷 형식)
+     */
+    void onAttach(int stockId, byte[] data);
+}
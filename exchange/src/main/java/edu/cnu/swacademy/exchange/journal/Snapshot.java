@@ -0,0 +1,10 @@
+package edu.cnu.swacademy.exchange.journal;
+
+/**
+ * 샤드 오더북 스냅샷
+ *
+ * @param sequence 스냅샷 이후 첫 저널 레코드 순번 (재시작 시 이 순번부터 재생)
+ * @param data     인코딩된 오더북
+ */
+public record Snapshot(long sequence, byte[] data) {
+}
@@ -0,0 +1,93 @@
+package edu.cnu.swacademy.exchange.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 샤드 스냅샷 파일 저장소
+ * 스냅샷은 임시 파일에 기록한 뒤 원자적으로 이름을 바꾸고, 최신 스냅샷 하나만 남깁니다.
+ * 파일: snapshot-{샤드 ID}-{저널 순번}.snap
+ */
+@Slf4j
+public class SnapshotStore {
+
+    private final Path directory;
+    private final int shardId;
+
+    public SnapshotStore(Path directory, int shardId) {
+        this.directory = directory;
+        this.shardId = shardId;
+    }
+
+    public void write(Snapshot snapshot) {
+        Path target = directory.resolve(String.format("snapshot-%d-%020d.snap", shardId, snapshot.sequence()));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(snapshot.data());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            for (Path older : listSnapshots()) {
+                if (!older.equals(target)) {
+                    Files.deleteIfExists(older);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write snapshot: " + target, e);
+        }
+        log.info("Snapshot written: shard-id={}, sequence={}, bytes={}", shardId, snapshot.sequence(), snapshot.data().length);
+    }
+
+    /**
+     * 최신 스냅샷 조회
+     *
+     * @return 스냅샷 (없으면 null)
+     */
+    public Snapshot loadLatest() {
+        try {
+            if (!Files.isDirectory(directory)) {
+                return null;
+            }
+            List<Path> snapshots = listSnapshots();
+            if (snapshots.isEmpty()) {
+                return null;
+            }
+
+            Path latest = snapshots.get(snapshots.size() - 1);
+            String name = latest.getFileName().toString();
+            long sequence = Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - ".snap".length()));
+            return new Snapshot(sequence, Files.readAllBytes(latest));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load snapshot: shard-id=" + shardId, e);
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        String prefix = "snapshot-" + shardId + "-";
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(prefix) && name.endsWith(".snap");
+                })
+                .sorted()
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.FillBuffer;
+import edu.cnu.swacademy.exchange.engine.OrderBook;
+import edu.cnu.swacademy.exchange.engine.OrderBookCodec;
+import edu.cnu.swacademy.exchange.engine.RingBuffer;
+import edu.cnu.swacademy.exchange.engine.WaitStrategy;
+import edu.cnu.swacademy.exchange.journal.Journal;
+import edu.cnu.swacademy.exchange.journal.JournalHandler;
+import edu.cnu.swacademy.exchange.journal.Snapshot;
+import edu.cnu.swacademy.exchange.journal.SnapshotStore;
+import edu.cnu.swacademy.exchange.order.dto.EngineStatsResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchItem;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchResult;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 엔진 샤드
+ * 요청 스레드들이 링 버퍼에 명령을 발행하면, 샤드 전용 엔진 스레드 하나가 순서대로 꺼내 매칭하고
+ * 호출자의 future를 완료합니다. 오더북은 이 스레드만 변경하므로 잠금이 필요 없습니다.
+ * 저널이 설정되면 명령을 처리하기 전에 저널에 먼저 기록하고, 체결 결과도 함께 남깁니다.
+ * 노드 간 종목 이관(내보내기/가져오기)도 링 버퍼를 거쳐 다른 명령 사이에서 처리됩니다.
+ * 스냅샷은 링 버퍼를 거쳐 엔진 스레드가 명령 사이의 일관된 시점에 오더북 사본만 만들고,
+ * 인코딩과 파일 기록, 저널 정리는 호출한 스레드에서 수행합니다.
+ */
+@Slf4j
+class EngineShard implements Runnable {
+
+    private final int shardId;
+    private final RingBuffer<OrderCommand> ringBuffer;
+    private final OrderBookProcessor processor;
+    private final Journal journal;
+    private final SnapshotStore snapshotStore;
+    private final WaitStrategy waitStrategy;
+    private final Thread thread;
+
+    // 엔진 스레드만 갱신하는 통계 (lazySet으로 기록, 조회 스레드는 약간 늦은 값을 볼 수 있음)
+    private final AtomicLong busyCycles = new AtomicLong();
+    private final AtomicLong idleCycles = new AtomicLong();
+    private final AtomicLong processedCommands = new AtomicLong();
+    private final AtomicLong processedOrders = new AtomicLong();
+    private final AtomicLong queueWaitNanos = new AtomicLong();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    // 대기열 초과로 거부한 주문 수 (요청 스레드들이 갱신)
+    private final AtomicLong rejectedOrders = new AtomicLong();
+    private final int maxQueueDepth;
+
+    private volatile boolean running;
+
+    EngineShard(int shardId, int ringSize, int maxQueueDepth, int expectedRestingOrders, int recentOrders, OrderBookProjection orderBookProjection,
+                Journal journal, SnapshotStore snapshotStore, WaitStrategy waitStrategy, ThreadFactory threadFactory) {
+        this.shardId = shardId;
+        this.ringBuffer = new RingBuffer<>(ringSize, OrderCommand::new);
+        this.maxQueueDepth = Math.min(maxQueueDepth, ringSize);
+        this.processor = new OrderBookProcessor(orderBookProjection, expectedRestingOrders, recentOrders);
+        this.journal = journal;
+        this.snapshotStore = snapshotStore;
+        this.waitStrategy = waitStrategy;
+        this.thread = threadFactory.newThread(this);
+    }
+
+    /**
+     * 최신 스냅샷을 불러온 뒤 그 이후의 저널만 재생하여 오더북 복구
+     * 엔진 스레드 시작 전에 호출해야 합니다.
+     */
+    void replay() {
+        if (journal == null) {
+            return;
+        }
+
+        long fromSequence = 0;
+        Snapshot snapshot = snapshotStore.loadLatest();
+        if (snapshot != null) {
+            OrderBookCodec.Contents contents = OrderBookCodec.decodeContents(snapshot.data(), processor.getExpectedRestingOrders());
+            processor.restore(contents.books());
+            processor.restoreDetached(contents.detachedStockIds());
+            fromSequence = snapshot.sequence();
+            log.info("Snapshot loaded: shard-id={}, sequence={}, books={}, detached-stocks={}",
+                shardId, fromSequence, contents.books().size(), contents.detachedStockIds().length);
+        }
+
+        journal.replay(new JournalHandler() {
+            @Override
+            public void onProcess(OrderProcessRequest request) {
+                processor.process(request);
+            }
+
+            @Override
+            public void onCancel(OrderCancelRequest request) {
+                processor.cancel(request);
+            }
+
+            @Override
+            public void onReconcile(OrderCancelRequest request) {
+                processor.reconcile(request);
+            }
+
+            @Override
+            public void onDetach(int stockId) {
+                processor.detach(stockId);
+            }
+
+            @Override
+            public void onAttach(int stockId, byte[] data) {
+                processor.attach(stockId, OrderBookCodec.decode(data, processor.getExpectedRestingOrders()));
+            }
+        }, fromSequence);
+    }
+
+    void start() {
+        running = true;
+        thread.start();
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * 주문 발행
+     * 대기 중인 명령이 한도에 이르면 기다리지 않고 즉시 거부합니다. (취소는 부하를 줄이므로 한도 없이 받음)
+     */
+    CompletableFuture<OrderProcessResponse> submit(OrderProcessRequest request) {
+        long sequence = ringBuffer.tryNext(maxQueueDepth);
+        if (sequence < 0) {
+            rejectedOrders.incrementAndGet();
+            return CompletableFuture.completedFuture(OrderProcessResponse.overloaded());
+        }
+        CompletableFuture<OrderProcessResponse> future = new CompletableFuture<>();
+        ringBuffer.get(sequence).setProcess(request, future);
+        ringBuffer.publish(sequence);
+        return future;
+    }
+
+    CompletableFuture<OrderCancelResponse> submit(OrderCancelRequest request) {
+        CompletableFuture<OrderCancelResponse> future = new CompletableFuture<>();
+        long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).setCancel(request, future);
+        ringBuffer.publish(sequence);
+        return future;
+    }
+
+    /**
+     * 주문 결과 조회 발행 (앞서 발행된 같은 주문보다 늦게 처리되므로 조회 이후에는 주문이 처리되지 않음)
+     */
+    CompletableFuture<OrderProcessResponse> reconcile(OrderCancelRequest request) {
+        CompletableFuture<OrderProcessResponse> future = new CompletableFuture<>();
+        long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).setReconcile(request, future);
+        ringBuffer.publish(sequence);
+        return future;
+    }
+
+    /**
+     * 일괄 발행
+     * 항목 수만큼 연속된 슬롯을 한 번에 선점하여 엔진 스레드가 요청 순서대로 처리합니다.
+     * 큐 한도 안에 모두 들어갈 자리가 없으면 (한도보다 큰 일괄 포함) 주문은 모두 거부하고 취소만 개별로 발행합니다.
+     */
+    List<CompletableFuture<OrderBatchResult>> submitBatch(List<OrderBatchItem> items) {
+        List<CompletableFuture<OrderBatchResult>> futures = new ArrayList<>(items.size());
+
+        long last = ringBuffer.tryNext(items.size(), maxQueueDepth);
+        if (last < 0) {
+            for (OrderBatchItem item : items) {
+                if (item.order() != null) {
+                    rejectedOrders.incrementAndGet();
+                    futures.add(CompletableFuture.completedFuture(OrderBatchResult.of(OrderProcessResponse.overloaded())));
+                } else {
+                    futures.add(submit(item.cancel()).thenApply(OrderBatchResult::of));
+                }
+            }
+            return futures;
+        }
+
+        long first = last - items.size() + 1;
+        for (int i = 0; i < items.size(); i++) {
+            OrderBatchItem item = items.get(i);
+            OrderCommand command = ringBuffer.get(first + i);
+            if (item.order() != null) {
+                CompletableFuture<OrderProcessResponse> future = new CompletableFuture<>();
+                command.setProcess(item.order(), future);
+                futures.add(future.thenApply(OrderBatchResult::of));
+            } else {
+                CompletableFuture<OrderCancelResponse> future = new CompletableFuture<>();
+                command.setCancel(item.cancel(), future);
+                futures.add(future.thenApply(OrderBatchResult::of));
+            }
+        }
+        for (long sequence = first; sequence <= last; sequence++) {
+            ringBuffer.publish(sequence);
+        }
+        return futures;
+    }
+
+    /**
+     * 종목 오더북 내보내기 (엔진 스레드에서 제거 후 인코딩)
+     */
+    CompletableFuture<byte[]> detach(int stockId) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).setDetach(stockId, future);
+        ringBuffer.publish(sequence);
+        return future;
+    }
+
+    /**
+     * 종목 오더북 가져오기 (가져온 오더북을 그대로 저널에 기록하므로 재생으로 복구됨)
+     */
+    CompletableFuture<Void> attach(int stockId, byte[] data) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).setAttach(stockId, data, future);
+        ringBuffer.publish(sequence);
+        return future;
+    }
+
+    /**
+     * 스냅샷 기록
+     * 엔진 스레드가 만든 사본을 이 스레드에서 인코딩하여 파일로 남기고, 스냅샷에 반영된 저널 세그먼트를 정리합니다.
+     */
+    void writeSnapshot() {
+        if (journal == null) {
+            return;
+        }
+
+        CompletableFuture<SnapshotCopy> future = new CompletableFuture<>();
+        long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).setSnapshot(future);
+        ringBuffer.publish(sequence);
+
+        Snapshot snapshot = future.join().encode();
+        snapshotStore.write(snapshot);
+        journal.truncateBefore(snapshot.sequence());
+    }
+
+    /**
+     * 엔진 통계
+     * 바쁜 사이클은 명령을 한 건 이상 처리한 루프, 유휴 사이클은 대기 전략을 호출한 루프입니다.
+     */
+    EngineStatsResponse getStats() {
+        long busy = busyCycles.get();
+        long idle = idleCycles.get();
+        double busyRatio = busy + idle == 0 ? 0 : (double) busy / (busy + idle);
+        long orders = processedOrders.get();
+        long avgQueueWaitMicros = orders == 0 ? 0 : queueWaitNanos.get() / orders / 1_000;
+        return new EngineStatsResponse(shardId, waitStrategy.toString(), busy, idle, processedCommands.get(), busyRatio,
+            ringBuffer.depth(), maxQueueDepth, rejectedOrders.get(), avgQueueWaitMicros, maxQueueWaitNanos.get() / 1_000);
+    }
+
+    /**
+     * 엔진 루프
+     * 발행된 명령이 있으면 연속된 구간을 모두 처리하고, 없으면 대기 전략에 따라 기다립니다.
+     * 종료 요청 시 이미 발행된 명령까지 처리하고 빠져나갑니다.
+     */
+    @Override
+    public void run() {
+        log.info("Engine shard started: shard-id={}", shardId);
+        int idleCount = 0;
+
+        while (true) {
+            long next = ringBuffer.getConsumedSequence() + 1;
+            long available = ringBuffer.availableSequence(next);
+
+            if (available < next) {
+                if (!running) {
+                    break;
+                }
+                if (journal != null) {
+                    journal.commit();
+                }
+                idleCycles.lazySet(idleCycles.get() + 1);
+                waitStrategy.idle(++idleCount);
+                continue;
+            }
+
+            idleCount = 0;
+            busyCycles.lazySet(busyCycles.get() + 1);
+            processedCommands.lazySet(processedCommands.get() + available - next + 1);
+            for (long sequence = next; sequence <= available; sequence++) {
+                OrderCommand command = ringBuffer.get(sequence);
+                handle(command);
+                command.clear();
+                ringBuffer.markConsumed(sequence);
+            }
+            if (journal != null) {
+                journal.commit();
+            }
+        }
+
+        log.info("Engine shard stopped: shard-id={}", shardId);
+    }
+
+    private void handle(OrderCommand command) {
+        switch (command.getType()) {
+            case PROCESS -> {
+                recordQueueWait(System.nanoTime() - command.getEnqueuedNanos());
+                try {
+                    OrderProcessRequest request = command.getProcessRequest();
+                    if (journal != null) {
+                        journal.appendProcess(request);
+                    }
+                    ProcessResult result = processor.process(request);
+                    if (journal != null && result.getStatus() == ProcessResult.Status.MATCHED) {
+                        FillBuffer fills = result.getFills();
+                        for (int i = 0; i < fills.size(); i++) {
+                            journal.appendFill(request.orderId(), fills.makerOrderId(i), fills.matchedAmount(i), fills.price(i));
+                        }
+                    }
+                    command.getProcessFuture().complete(result.toResponse());
+                } catch (Exception e) {
+                    log.error("Failed to process order: shard-id={}, order-id={}, e={}, msg={}",
+                        shardId, command.getProcessRequest().orderId(), e.getClass(), e.getMessage());
+                    command.getProcessFuture().completeExceptionally(e);
+                }
+            }
+            case CANCEL -> {
+                try {
+                    if (journal != null) {
+                        journal.appendCancel(command.getCancelRequest());
+                    }
+                    command.getCancelFuture().complete(processor.cancel(command.getCancelRequest()));
+                } catch (Exception e) {
+                    log.error("Failed to cancel order: shard-id={}, order-id={}, e={}, msg={}",
+                        shardId, command.getCancelRequest().orderId(), e.getClass(), e.getMessage());
+                    command.getCancelFuture().completeExceptionally(e);
+                }
+            }
+            case RECONCILE -> {
+                try {
+                    if (journal != null) {
+                        journal.appendReconcile(command.getCancelRequest());
+                    }
+                    command.getProcessFuture().complete(processor.reconcile(command.getCancelRequest()));
+                } catch (Exception e) {
+                    log.error("Failed to reconcile order: shard-id={}, order-id={}, e={}, msg={}",
+                        shardId, command.getCancelRequest().orderId(), e.getClass(), e.getMessage());
+                    command.getProcessFuture().completeExceptionally(e);
+                }
+            }
+            case SNAPSHOT -> {
+                try {
+                    command.getSnapshotFuture().complete(
+                        new SnapshotCopy(journal.getNextSequence(), processor.copyOrderBooks(), processor.copyDetachedStocks()));
+                } catch (Exception e) {
+                    log.error("Failed to take snapshot: shard-id={}, e={}, msg={}", shardId, e.getClass(), e.getMessage());
+                    command.getSnapshotFuture().completeExceptionally(e);
+                }
+            }
+            case DETACH -> {
+                try {
+                    if (journal != null) {
+                        journal.appendDetach(command.getStockId());
+                    }
+                    command.getDetachFuture().complete(processor.detach(command.getStockId()));
+                } catch (Exception e) {
+                    log.error("Failed to detach order book: shard-id={}, stock-id={}, e={}, msg={}",
+                        shardId, command.getStockId(), e.getClass(), e.getMessage());
+                    command.getDetachFuture().completeExceptionally(e);
+                }
+            }
+            case ATTACH -> {
+                try {
+                    // 형식이 잘못되었거나 종목이 다른 오더북은 저널에 남기지 않음
+                    List<OrderBook> books = OrderBookCodec.decode(command.getBookData(), processor.getExpectedRestingOrders());
+                    OrderBookProcessor.checkStock(command.getStockId(), books);
+                    if (journal != null) {
+                        journal.appendAttach(command.getStockId(), command.getBookData());
+                    }
+                    processor.attach(command.getStockId(), books);
+                    command.getAttachFuture().complete(null);
+                } catch (Exception e) {
+                    log.error("Failed to attach order book: shard-id={}, stock-id={}, e={}, msg={}",
+                        shardId, command.getStockId(), e.getClass(), e.getMessage());
+                    command.getAttachFuture().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void recordQueueWait(long waitNanos) {
+        processedOrders.lazySet(processedOrders.get() + 1);
+        queueWaitNanos.lazySet(queueWaitNanos.get() + waitNanos);
+        if (waitNanos > maxQueueWaitNanos.get()) {
+            maxQueueWaitNanos.lazySet(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.FillBuffer;
+import edu.cnu.swacademy.exchange.order.dto.MakerOrderResponse;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 체결 maker 응답 목록
+ * 엔진 스레드는 체결 버퍼를 기본형 배열 하나로 복사만 하고, maker DTO는 응답을 직렬화하는 스레드가 읽을 때 만듭니다.
+ */
+final class MakerOrderList extends AbstractList<MakerOrderResponse> implements RandomAccess {
+
+    // [maker 주문 ID][체결 수량][체결 가격] 반복
+    private final int[] fills;
+
+    private MakerOrderList(int[] fills) {
+        this.fills = fills;
+    }
+
+    static MakerOrderList copyOf(FillBuffer buffer) {
+        int[] fills = new int[buffer.size() * 3];
+        for (int i = 0; i < buffer.size(); i++) {
+            fills[i * 3] = buffer.makerOrderId(i);
+            fills[i * 3 + 1] = buffer.matchedAmount(i);
+            fills[i * 3 + 2] = buffer.price(i);
+        }
+        return new MakerOrderList(fills);
+    }
+
+    /**
+     * 이미 [maker 주문 ID][체결 수량][체결 가격] 순서로 복사한 배열로 생성
+     */
+    static MakerOrderList of(int[] fills) {
+        return new MakerOrderList(fills);
+    }
+
+    @Override
+    public MakerOrderResponse get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        return new MakerOrderResponse(fills[index * 3], fills[index * 3 + 1], fills[index * 3 + 2]);
+    }
+
+    @Override
+    public int size() {
+        return fills.length / 3;
+    }
+}
@@ -0,0 +1,71 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.order.dto.EngineStatsResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchItem;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchResult;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 매칭 엔진
+ * exchange.engine.mode 설정에 따라 인메모리 엔진(memory) 또는 Redis 스크립트 엔진(redis)이 사용됩니다.
+ */
+public interface MatchingEngine {
+
+    CompletableFuture<OrderProcessResponse> submit(OrderProcessRequest request);
+
+    CompletableFuture<OrderCancelResponse> submit(OrderCancelRequest request);
+
+    /**
+     * 주문 결과 조회 (응답을 받지 못한 주문의 처리 결과 확인, 도착하지 않은 주문은 무효화)
+     * 기본 구현은 결과를 확인할 수 없다고 응답합니다.
+     */
+    default CompletableFuture<OrderProcessResponse> reconcile(OrderCancelRequest request) {
+        return CompletableFuture.completedFuture(OrderProcessResponse.unknown("결과 조회 미지원 엔진"));
+    }
+
+    /**
+     * 주문/취소 일괄 처리 (항목별 결과는 요청 순서와 같음)
+     * 기본 구현은 항목을 하나씩 처리합니다.
+     */
+    default List<CompletableFuture<OrderBatchResult>> submitBatch(List<OrderBatchItem> items) {
+        List<CompletableFuture<OrderBatchResult>> futures = new ArrayList<>(items.size());
+        for (OrderBatchItem item : items) {
+            futures.add(item.order() != null
+                ? submit(item.order()).thenApply(OrderBatchResult::of)
+                : submit(item.cancel()).thenApply(OrderBatchResult::of));
+        }
+        return futures;
+    }
+
+    /**
+     * 종목의 담당 샤드 번호 (ShardRouter)
+     */
+    int shardOf(int stockId);
+
+    /**
+     * 오더북 스냅샷 기록 (재시작 시 복구 시간 단축)
+     */
+    void snapshot();
+
+    /**
+     * 종목 오더북 내보내기 (노드 간 이관, 이후 이 노드는 해당 종목 주문을 거부)
+     */
+    byte[] exportBook(int stockId);
+
+    /**
+     * 다른 노드에서 내보낸 종목 오더북 가져오기
+     */
+    void importBook(int stockId, byte[] data);
+
+    /**
+     * 엔진 샤드별 통계 (엔진 스레드가 없는 구현은 빈 목록)
+     */
+    List<EngineStatsResponse> getEngineStats();
+}
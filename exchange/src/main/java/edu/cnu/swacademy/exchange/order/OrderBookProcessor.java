@@ -0,0 +1,273 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.FillBuffer;
+import edu.cnu.swacademy.exchange.engine.IntIntHashMap;
+import edu.cnu.swacademy.exchange.engine.OrderBook;
+import edu.cnu.swacademy.exchange.engine.OrderBookCodec;
+import edu.cnu.swacademy.exchange.engine.PriceLadder;
+import edu.cnu.swacademy.exchange.engine.RestingOrder;
+import edu.cnu.swacademy.exchange.engine.Side;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 샤드 단위 오더북 처리기
+ * 샤드에 속한 종목들의 오더북을 보관하고 주문 매칭/취소를 수행합니다.
+ * 응답을 받지 못한 주문의 결과 조회를 위해 최근 처리한 주문의 결과를 남기며, 조회 시점까지 도착하지 않은 주문은 무효로 표시합니다.
+ * 엔진 스레드 하나만 접근하므로 동기화하지 않습니다.
+ */
+@Slf4j
+class OrderBookProcessor {
+
+    private final OrderBookProjection orderBookProjection;
+    private final int expectedRestingOrders;
+
+    // 종목 ID → orderBooks 인덱스 (박싱 없는 조회)
+    private final IntIntHashMap bookIndex = new IntIntHashMap(64, -1);
+    private final List<OrderBook> orderBooks = new ArrayList<>();
+
+    // 다른 노드로 이관된 종목 (이관 중 도착한 주문이 빈 오더북을 새로 만들지 않도록 거부)
+    private final IntIntHashMap detachedStocks = new IntIntHashMap(16, -1);
+
+    // 결과 조회로 무효화한 주문 (늦게 도착하면 처리하지 않고 거부)
+    private final IntIntHashMap voidedOrders = new IntIntHashMap(16, -1);
+
+    // 최근 처리한 주문의 결과 (결과 조회용)
+    private final OrderOutcomes outcomes;
+
+    // 주문마다 덮어쓰는 처리 결과 (매칭 경로 힙 할당 없음)
+    private final ProcessResult result = new ProcessResult();
+
+    OrderBookProcessor(OrderBookProjection orderBookProjection, int expectedRestingOrders) {
+        this(orderBookProjection, expectedRestingOrders, expectedRestingOrders);
+    }
+
+    OrderBookProcessor(OrderBookProjection orderBookProjection, int expectedRestingOrders, int recentOrders) {
+        this.orderBookProjection = orderBookProjection;
+        this.expectedRestingOrders = expectedRestingOrders;
+        this.outcomes = new OrderOutcomes(recentOrders);
+    }
+
+    /**
+     * 주문 매칭
+     *
+     * @return 처리 결과 (다음 처리 전까지 유효, 응답 DTO는 호출자가 필요할 때 변환)
+     */
+    ProcessResult process(OrderProcessRequest request) {
+        if (detachedStocks.containsKey(request.stockId())) {
+            log.warn("Order for detached stock: order-id={}, stock-id={}", request.orderId(), request.stockId());
+            return result.rejected("다른 노드로 이관된 종목");
+        }
+        if (voidedOrders.remove(request.orderId()) >= 0) {
+            log.warn("Voided order arrived: order-id={}, stock-id={}", request.orderId(), request.stockId());
+            return result.rejected(OrderProcessResponse.VOIDED_REASON);
+        }
+
+        // 1. 상하한가 검증 (당일 호가 사다리 범위)
+        OrderBook book = getOrderBook(request);
+        if (book == null || !book.accepts(request.price())) {
+            log.warn("Price out of limits for order-id: {}", request.orderId());
+            return result.rejected("상하한가 범위 초과");
+        }
+
+        // 2. 중복 접수 검증 (주문 큐 재처리 등으로 이미 대기 중인 주문이 다시 들어온 경우)
+        if (book.contains(request.orderId())) {
+            log.warn("Duplicate order: order-id={}, stock-id={}", request.orderId(), request.stockId());
+            return result.rejected("중복 주문");
+        }
+
+        // 3. 매칭 시도
+        book.match(request.orderId(), Side.from(request.side()), request.price(), request.amount(), request.createdAt());
+        orderBookProjection.publish(book);
+
+        FillBuffer fills = book.getFills();
+        outcomes.record(request.orderId(), fills.isEmpty() ? null : fills);
+        return fills.isEmpty() ? result.unmatched() : result.matched(request.orderId(), fills);
+    }
+
+    /**
+     * 주문 결과 조회
+     * 응답 제한 시간이 지나 결과를 모르는 증권사 서버가 호출합니다.
+     * 오더북에 반영된 주문이면 처리 당시의 응답을 다시 만들고, 아직 도착하지 않은 주문이면 무효로 표시하여
+     * 나중에 도착해도 처리하지 않습니다. 따라서 거부 응답은 주문이 체결되거나 오더북에 남지 않았음을 보장합니다.
+     * 결과 기록이 덮어쓰인 오래된 주문은 결과를 알 수 없다고 응답합니다.
+     */
+    OrderProcessResponse reconcile(OrderCancelRequest request) {
+        if (outcomes.contains(request.orderId())) {
+            OrderProcessResponse response = outcomes.toResponse(request.orderId());
+            return response != null ? response : OrderProcessResponse.unknown("체결 기록 만료");
+        }
+
+        OrderBook book = findOrderBook(request.stockId());
+        if (book != null && book.contains(request.orderId())) {
+            log.warn("Order outcome expired: order-id={}, stock-id={}", request.orderId(), request.stockId());
+            return OrderProcessResponse.unknown("처리 기록 만료");
+        }
+
+        voidedOrders.put(request.orderId(), 1);
+        log.info("Order voided before arrival: order-id={}, stock-id={}", request.orderId(), request.stockId());
+        return OrderProcessResponse.rejected(OrderProcessResponse.VOIDED_REASON);
+    }
+
+    /**
+     * 주문 취소
+     */
+    OrderCancelResponse cancel(OrderCancelRequest request) {
+        OrderBook book = findOrderBook(request.stockId());
+        if (book == null) {
+            log.info("No order book found for stockId={}", request.stockId());
+            return OrderCancelResponse.rejected();
+        }
+
+        RestingOrder cancelled = book.cancel(request.orderId());
+        orderBookProjection.publish(book);
+
+        if (cancelled == null) {
+            log.info("Order not found in order book: orderId={}, stockId={}", request.orderId(), request.stockId());
+            return OrderCancelResponse.rejected();
+        }
+        return OrderCancelResponse.cancelled(cancelled.getUnfilledUnit());
+    }
+
+    /**
+     * 샤드의 모든 오더북 사본 (스냅샷용)
+     */
+    List<OrderBook> copyOrderBooks() {
+        List<OrderBook> copies = new ArrayList<>(orderBooks.size());
+        for (OrderBook book : orderBooks) {
+            copies.add(book.copy());
+        }
+        return copies;
+    }
+
+    /**
+     * 다른 노드로 이관된 종목 ID (스냅샷용)
+     */
+    int[] copyDetachedStocks() {
+        return detachedStocks.keys();
+    }
+
+    int getExpectedRestingOrders() {
+        return expectedRestingOrders;
+    }
+
+    /**
+     * 스냅샷에서 복원한 오더북 등록
+     */
+    void restore(Collection<OrderBook> books) {
+        for (OrderBook book : books) {
+            register(book);
+        }
+    }
+
+    /**
+     * 스냅샷에서 복원한 이관된 종목 등록
+     */
+    void restoreDetached(int[] stockIds) {
+        for (int stockId : stockIds) {
+            detachedStocks.put(stockId, 1);
+        }
+    }
+
+    /**
+     * 종목 오더북 내보내기 (노드 간 이관)
+     * 오더북을 스냅샷 형식으로 인코딩하여 샤드에서 제거하고, 이후 해당 종목 주문은 거부합니다.
+     * 대기 주문이 없는 종목이면 빈 목록을 인코딩합니다.
+     */
+    byte[] detach(int stockId) {
+        detachedStocks.put(stockId, 1);
+        OrderBook book = findOrderBook(stockId);
+        if (book == null) {
+            return OrderBookCodec.encode(List.of());
+        }
+
+        unregister(stockId);
+        return OrderBookCodec.encode(List.of(book));
+    }
+
+    /**
+     * 다른 노드에서 내보낸 오더북 가져오기
+     * Redis 프로젝션은 노드들이 공유하므로 다시 반영하지 않습니다.
+     */
+    void attach(int stockId, Collection<OrderBook> books) {
+        checkStock(stockId, books);
+        detachedStocks.remove(stockId);
+        restore(books);
+    }
+
+    /**
+     * 가져올 오더북이 모두 해당 종목인지 검증 (저널에 기록하기 전에 호출)
+     */
+    static void checkStock(int stockId, Collection<OrderBook> books) {
+        for (OrderBook book : books) {
+            if (book.getStockId() != stockId) {
+                throw new IllegalArgumentException("Order book stock mismatch: expected=" + stockId + ", actual=" + book.getStockId());
+            }
+        }
+    }
+
+    /**
+     * 종목의 오더북 조회 (없으면 요청의 당일 상하한가로 생성)
+     * 저널 재생이나 스냅샷으로 이전 장의 오더북이 복원된 경우, 요청의 상하한가가 다르면 새 상하한가로 다시 만듭니다.
+     * 재생되는 요청도 원래 상하한가를 가지므로 재생 결과는 같습니다.
+     *
+     * @return 오더북 (상하한가 정보가 없어 생성할 수 없으면 null)
+     */
+    private OrderBook getOrderBook(OrderProcessRequest request) {
+        OrderBook book = findOrderBook(request.stockId());
+        boolean hasLimits = request.lowerLimitPrice() > 0 && request.upperLimitPrice() >= request.lowerLimitPrice();
+        if (book != null) {
+            if (hasLimits && !book.hasLimits(request.lowerLimitPrice(), request.upperLimitPrice())) {
+                log.info("Price limits changed: stock-id={}, lower={}, upper={}",
+                    request.stockId(), request.lowerLimitPrice(), request.upperLimitPrice());
+                book = book.withLimits(request.lowerLimitPrice(), request.upperLimitPrice(), expectedRestingOrders);
+                register(book);
+            }
+            return book;
+        }
+
+        if (!hasLimits) {
+            log.warn("Missing price limits for stockId={}", request.stockId());
+            return null;
+        }
+
+        book = new OrderBook(request.stockId(), PriceLadder.of(request.lowerLimitPrice(), request.upperLimitPrice()), expectedRestingOrders);
+        register(book);
+        return book;
+    }
+
+    private OrderBook findOrderBook(int stockId) {
+        int index = bookIndex.get(stockId);
+        return index < 0 ? null : orderBooks.get(index);
+    }
+
+    /**
+     * 오더북 제거 (마지막 오더북을 빈 자리로 옮겨 인덱스를 유지)
+     */
+    private void unregister(int stockId) {
+        int index = bookIndex.remove(stockId);
+        int last = orderBooks.size() - 1;
+        OrderBook moved = orderBooks.remove(last);
+        if (index != last) {
+            orderBooks.set(index, moved);
+            bookIndex.put(moved.getStockId(), index);
+        }
+    }
+
+    private void register(OrderBook book) {
+        int index = bookIndex.get(book.getStockId());
+        if (index < 0) {
+            bookIndex.put(book.getStockId(), orderBooks.size());
+            orderBooks.add(book);
+        } else {
+            orderBooks.set(index, book);
+        }
+    }
+}
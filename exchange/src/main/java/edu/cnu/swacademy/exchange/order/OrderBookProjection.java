@@ -0,0 +1,148 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.LevelTotals;
+import edu.cnu.swacademy.exchange.engine.OrderBook;
+import edu.cnu.swacademy.exchange.engine.Side;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오더북 Redis 프로젝션
+ * 인메모리 오더북의 가격 레벨 총 수량을 매칭 경로 밖에서 비동기로 Redis에 반영합니다.
+ * Redis는 조회용 사본이며, 오더북의 원본은 인메모리 엔진입니다.
+ *
+ * 엔진 스레드는 레벨 총 수량만 {@link LevelTotals}에 덮어쓰고 오더북을 크기 제한 대기열에 한 번만 등록합니다.
+ * 프로젝션이 밀리면 같은 레벨의 변경은 최신 값 하나로 합쳐지며, 대기열이 가득 차면 등록을 건너뛰고
+ * 다음 변경 때 다시 등록합니다. (변경 비트는 남아 있으므로 반영이 늦어질 뿐 유실되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBookProjection implements Runnable {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${exchange.engine.redis-projection.enabled:true}")
+    private boolean enabled;
+
+    @Value("${exchange.engine.redis-projection.queue-capacity:1024}")
+    private int queueCapacity;
+
+    private BlockingQueue<OrderBook> queue;
+    private Thread thread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this, "orderbook-projection");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 변경된 레벨이 있는 오더북을 Redis 반영 대기열에 등록
+     * 오더북을 직렬화하는 구간(엔진 스레드) 안에서 호출해야 합니다.
+     */
+    public void publish(OrderBook book) {
+        if (!enabled) {
+            return;
+        }
+
+        LevelTotals levelTotals = book.getLevelTotals();
+        if (levelTotals.markPending() && !queue.offer(book)) {
+            levelTotals.clearPending();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.join(5000);
+        }
+    }
+
+    /**
+     * 대기열의 오더북을 꺼내 변경된 레벨을 반영 (종료 시 남은 오더북까지 반영)
+     */
+    @Override
+    public void run() {
+        while (running || !queue.isEmpty()) {
+            OrderBook book;
+            try {
+                book = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (book == null) {
+                continue;
+            }
+
+            book.getLevelTotals().clearPending();
+            write(book);
+        }
+    }
+
+    /**
+     * 변경된 레벨의 총 수량과 가격 인덱스를 하나의 파이프라인으로 Redis에 기록
+     * 가격 인덱스는 가격을 score로 하는 Sorted Set이므로 레벨 단위 ZADD/ZREM만으로 정렬이 유지됩니다.
+     */
+    private void write(OrderBook book) {
+        int stockId = book.getStockId();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                book.getLevelTotals().drain((side, price, totalUnit) -> {
+                    byte[] totalUnitKey = toBytes(getTotalUnitKey(stockId, side));
+                    byte[] priceKey = toBytes(getPriceKey(stockId, side));
+                    byte[] priceBytes = toBytes(String.valueOf(price));
+
+                    if (totalUnit == 0) {
+                        connection.hashCommands().hDel(totalUnitKey, priceBytes);
+                        connection.zSetCommands().zRem(priceKey, priceBytes);
+                    } else {
+                        connection.hashCommands().hSet(totalUnitKey, priceBytes, toBytes(String.valueOf(totalUnit)));
+                        connection.zSetCommands().zAdd(priceKey, price, priceBytes);
+                    }
+                });
+                return null;
+            }, RedisSerializer.byteArray());
+        } catch (Exception e) {
+            log.error("Failed to project order book to redis: stockId={}, e={}, msg={}",
+                stockId, e.getClass(), e.getMessage());
+        }
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redis 키 메서드들
+     */
+    private String getPriceKey(int stockId, Side side) {
+        return String.format("{%d}:%s:prices", stockId, side);
+    }
+
+    private String getTotalUnitKey(int stockId, Side side) {
+        return String.format("{%d}:%s:total-unit", stockId, side);
+    }
+}
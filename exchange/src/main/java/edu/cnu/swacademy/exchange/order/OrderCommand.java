@@ -0,0 +1,134 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 링 버퍼 슬롯에 담기는 엔진 명령
+ * 슬롯은 재사용되므로 엔진 스레드가 처리를 마치면 비웁니다.
+ */
+class OrderCommand {
+
+    enum Type {
+        PROCESS,
+        CANCEL,
+        RECONCILE,
+        SNAPSHOT,
+        DETACH,
+        ATTACH
+    }
+
+    private Type type;
+    private OrderProcessRequest processRequest;
+    private CompletableFuture<OrderProcessResponse> processFuture;
+    private long enqueuedNanos;
+    private OrderCancelRequest cancelRequest;
+    private CompletableFuture<OrderCancelResponse> cancelFuture;
+    private CompletableFuture<SnapshotCopy> snapshotFuture;
+    private int stockId;
+    private byte[] bookData;
+    private CompletableFuture<byte[]> detachFuture;
+    private CompletableFuture<Void> attachFuture;
+
+    void setProcess(OrderProcessRequest request, CompletableFuture<OrderProcessResponse> future) {
+        this.type = Type.PROCESS;
+        this.processRequest = request;
+        this.processFuture = future;
+        this.enqueuedNanos = System.nanoTime();
+    }
+
+    void setCancel(OrderCancelRequest request, CompletableFuture<OrderCancelResponse> future) {
+        this.type = Type.CANCEL;
+        this.cancelRequest = request;
+        this.cancelFuture = future;
+    }
+
+    /**
+     * 주문 결과 조회 (응답은 주문 처리 응답 형식)
+     */
+    void setReconcile(OrderCancelRequest request, CompletableFuture<OrderProcessResponse> future) {
+        this.type = Type.RECONCILE;
+        this.cancelRequest = request;
+        this.processFuture = future;
+    }
+
+    void setSnapshot(CompletableFuture<SnapshotCopy> future) {
+        this.type = Type.SNAPSHOT;
+        this.snapshotFuture = future;
+    }
+
+    void setDetach(int stockId, CompletableFuture<byte[]> future) {
+        this.type = Type.DETACH;
+        this.stockId = stockId;
+        this.detachFuture = future;
+    }
+
+    void setAttach(int stockId, byte[] bookData, CompletableFuture<Void> future) {
+        this.type = Type.ATTACH;
+        this.stockId = stockId;
+        this.bookData = bookData;
+        this.attachFuture = future;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    OrderProcessRequest getProcessRequest() {
+        return processRequest;
+    }
+
+    CompletableFuture<OrderProcessResponse> getProcessFuture() {
+        return processFuture;
+    }
+
+    long getEnqueuedNanos() {
+        return enqueuedNanos;
+    }
+
+    OrderCancelRequest getCancelRequest() {
+        return cancelRequest;
+    }
+
+    CompletableFuture<OrderCancelResponse> getCancelFuture() {
+        return cancelFuture;
+    }
+
+    CompletableFuture<SnapshotCopy> getSnapshotFuture() {
+        return snapshotFuture;
+    }
+
+    int getStockId() {
+        return stockId;
+    }
+
+    byte[] getBookData() {
+        return bookData;
+    }
+
+    CompletableFuture<byte[]> getDetachFuture() {
+        return detachFuture;
+    }
+
+    CompletableFuture<Void> getAttachFuture() {
+        return attachFuture;
+    }
+
+    void clear() {
+        this.type = null;
+        this.processRequest = null;
+        this.processFuture = null;
+        this.enqueuedNanos = 0;
+        this.cancelRequest = null;
+        this.cancelFuture = null;
+        this.snapshotFuture = null;
+        this.stockId = 0;
+        this.bookData = null;
+        this.detachFuture = null;
+        this.attachFuture = null;
+    }
+}
@@ -1,13 +1,20 @@
 package edu.cnu.swacademy.exchange.order;
 
+import edu.cnu.swacademy.exchange.order.dto.EngineStatsResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchItem;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchResult;
 import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
 import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
 import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
 import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 주문 처리 컨트롤러
  */
@@ -46,6 +53,26 @@ public class OrderController {
     }
   }
 
+  /**
+   * 샤드 지정 주문 처리
+   * 증권사 서버가 종목의 담당 샤드를 계산하여 호출하는 경로입니다.
+   *
+   * @param shardId 담당 샤드 번호
+   * @param request 주문 처리 요청
+   * @return 주문 처리 결과
+   */
+  @PostMapping("/shards/{shardId}/order")
+  public OrderProcessResponse processOrder(@PathVariable int shardId, @RequestBody OrderProcessRequest request) {
+    try {
+        return orderBookService.processOrder(shardId, request);
+    } catch (Exception e) {
+        log.error("Failed to process order: orderId={}, shardId={}, e={}, msg={}",
+            request.orderId(), shardId, e.getClass(), e.getMessage());
+
+        return OrderProcessResponse.rejected("거래소 서버 오류");
+    }
+  }
+
   /**
    * 주문 취소
    * 오더북에 등록된 미체결 주문을 취소 처리합니다.
@@ -55,8 +82,8 @@ public class OrderController {
    */
   @DeleteMapping("/order")
   public OrderCancelResponse cancelOrder(@RequestBody OrderCancelRequest request) {
-    log.info("Received order cancellation request: orderId={}, stockId={}, side={}, price={}",
-        request.orderId(), request.stockId(), request.side(), request.price());
+    log.info("Received order cancellation request: orderId={}, stockId={}",
+        request.orderId(), request.stockId());
     try {
         OrderCancelResponse response = orderBookService.cancelOrder(request);
 
@@ -70,4 +97,127 @@ public class OrderController {
         return OrderCancelResponse.rejected();
     }
   }
+
+  /**
+   * 샤드 지정 주문 취소
+   *
+   * @param shardId 담당 샤드 번호
+   * @param request 주문 취소 요청
+   * @return 주문 취소 결과
+   */
+  @DeleteMapping("/shards/{shardId}/order")
+  public OrderCancelResponse cancelOrder(@PathVariable int shardId, @RequestBody OrderCancelRequest request) {
+    try {
+        return orderBookService.cancelOrder(shardId, request);
+    } catch (Exception e) {
+        log.error("Failed to cancel order: orderId={}, shardId={}, e={}, msg={}",
+            request.orderId(), shardId, e.getClass(), e.getMessage());
+        return OrderCancelResponse.rejected();
+    }
+  }
+
+  /**
+   * 샤드 지정 주문 결과 조회
+   * 증권사 서버가 주문 응답을 받지 못했을 때 호출합니다.
+   * 처리된 주문은 처리 당시의 응답을 돌려주고, 아직 도착하지 않은 주문은 무효화하여 거부 응답을 돌려줍니다.
+   *
+   * @param shardId 담당 샤드 번호
+   * @param request 조회할 주문
+   * @return 주문 처리 결과 (확인할 수 없으면 Unknown)
+   */
+  @PostMapping("/shards/{shardId}/order/reconcile")
+  public OrderProcessResponse reconcileOrder(@PathVariable int shardId, @RequestBody OrderCancelRequest request) {
+    try {
+        return orderBookService.reconcileOrder(shardId, request);
+    } catch (Exception e) {
+        log.error("Failed to reconcile order: orderId={}, shardId={}, e={}, msg={}",
+            request.orderId(), shardId, e.getClass(), e.getMessage());
+
+        return OrderProcessResponse.unknown("거래소 서버 오류");
+    }
+  }
+
+  /**
+   * 일괄 주문 처리
+   * 신규 주문과 취소를 한 번의 호출로 받아 요청 순서대로 처리하고, 항목별 결과를 같은 순서로 반환합니다.
+   *
+   * @param items 주문/취소 항목 목록
+   * @return 항목별 처리 결과 (일괄 한도를 넘으면 400)
+   */
+  @PostMapping("/orders/batch")
+  public ResponseEntity<List<OrderBatchResult>> processBatch(@RequestBody List<OrderBatchItem> items) {
+    try {
+        return ResponseEntity.ok(orderBookService.processBatch(items));
+    } catch (IllegalArgumentException e) {
+        log.warn("Rejected order batch: items={}, msg={}", items.size(), e.getMessage());
+        return ResponseEntity.badRequest().build();
+    } catch (Exception e) {
+        log.error("Failed to process order batch: items={}, e={}, msg={}",
+            items.size(), e.getClass(), e.getMessage());
+
+        return ResponseEntity.ok(items.stream()
+            .map(item -> item.order() != null
+                ? OrderBatchResult.of(OrderProcessResponse.rejected("거래소 서버 오류"))
+                : OrderBatchResult.of(OrderCancelResponse.rejected()))
+            .toList());
+    }
+  }
+
+  /**
+   * 오더북 스냅샷
+   * 장 종료 전 증권사 서버가 호출하여 현재 오더북을 스냅샷으로 남기고 저널을 정리합니다.
+   */
+  @PostMapping("/snapshot")
+  public ResponseEntity<Void> snapshot() {
+    try {
+        orderBookService.snapshot();
+        return ResponseEntity.ok().build();
+    } catch (Exception e) {
+        log.error("Failed to write snapshot: e={}, msg={}", e.getClass(), e.getMessage());
+        return ResponseEntity.internalServerError().build();
+    }
+  }
+
+  /**
+   * 엔진 통계
+   * 샤드별 대기 전략과 바쁜/유휴 사이클 수를 조회하여 대기 전략의 CPU 비용을 확인합니다.
+   */
+  @GetMapping("/engine/stats")
+  public List<EngineStatsResponse> getEngineStats() {
+    return orderBookService.getEngineStats();
+  }
+
+  /**
+   * 종목 오더북 내보내기
+   * 장 종료 시 증권사 서버가 종목을 다른 노드로 재배치할 때 호출하며, 이후 이 노드는 해당 종목 주문을 거부합니다.
+   *
+   * @param stockId 종목 ID
+   * @return 오더북 스냅샷 바이트
+   */
+  @PostMapping(value = "/stocks/{stockId}/export", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<byte[]> exportBook(@PathVariable int stockId) {
+    try {
+        return ResponseEntity.ok(orderBookService.exportBook(stockId));
+    } catch (Exception e) {
+        log.error("Failed to export order book: stockId={}, e={}, msg={}", stockId, e.getClass(), e.getMessage());
+        return ResponseEntity.internalServerError().build();
+    }
+  }
+
+  /**
+   * 종목 오더북 가져오기
+   *
+   * @param stockId 종목 ID
+   * @param data 다른 노드에서 내보낸 오더북 스냅샷 바이트
+   */
+  @PostMapping(value = "/stocks/{stockId}/import", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<Void> importBook(@PathVariable int stockId, @RequestBody byte[] data) {
+    try {
+        orderBookService.importBook(stockId, data);
+        return ResponseEntity.ok().build();
+    } catch (Exception e) {
+        log.error("Failed to import order book: stockId={}, e={}, msg={}", stockId, e.getClass(), e.getMessage());
+        return ResponseEntity.internalServerError().build();
+    }
+  }
 }
@@ -0,0 +1,93 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.FillBuffer;
+import edu.cnu.swacademy.exchange.engine.IntIntHashMap;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+
+/**
+ * 최근 주문 처리 결과
+ * 응답을 받지 못한 증권사 서버가 주문 결과를 다시 조회할 수 있도록, 오더북에 반영한 최근 주문과 그 주문의 taker 체결을 고정 크기 링에 남깁니다.
+ * 링이 한 바퀴 돌면 오래된 주문부터 덮어쓰며, 매칭 경로에서 할당하지 않도록 기본형 배열만 사용합니다.
+ * 엔진 스레드 하나만 접근하므로 동기화하지 않습니다.
+ */
+final class OrderOutcomes {
+
+    private final int[] orderIds;
+    private final long[] fillStarts;
+    private final int[] fillCounts;
+
+    // [maker 주문 ID][체결 수량][체결 가격] 반복
+    private final int[] fills;
+    private final int fillCapacity;
+
+    // 주문 ID → orderIds 슬롯
+    private final IntIntHashMap slots;
+
+    private long orderSequence;
+    private long fillSequence;
+
+    /**
+     * @param capacity 결과를 남길 최근 주문 수 (체결은 그 두 배까지 보관)
+     */
+    OrderOutcomes(int capacity) {
+        this.orderIds = new int[capacity];
+        this.fillStarts = new long[capacity];
+        this.fillCounts = new int[capacity];
+        this.fillCapacity = capacity * 2;
+        this.fills = new int[fillCapacity * 3];
+        this.slots = new IntIntHashMap(capacity, -1);
+    }
+
+    /**
+     * 오더북에 반영한 주문 기록
+     *
+     * @param takerFills 주문이 taker로 체결된 내역 (체결이 없으면 null)
+     */
+    void record(int orderId, FillBuffer takerFills) {
+        long sequence = orderSequence++;
+        int slot = (int) (sequence % orderIds.length);
+        if (sequence >= orderIds.length && slots.get(orderIds[slot]) == slot) {
+            slots.remove(orderIds[slot]);
+        }
+
+        int count = takerFills == null ? 0 : takerFills.size();
+        orderIds[slot] = orderId;
+        fillStarts[slot] = fillSequence;
+        fillCounts[slot] = count;
+        for (int i = 0; i < count; i++) {
+            int offset = (int) (fillSequence++ % fillCapacity) * 3;
+            fills[offset] = takerFills.makerOrderId(i);
+            fills[offset + 1] = takerFills.matchedAmount(i);
+            fills[offset + 2] = takerFills.price(i);
+        }
+        slots.put(orderId, slot);
+    }
+
+    boolean contains(int orderId) {
+        return slots.containsKey(orderId);
+    }
+
+    /**
+     * 기록된 주문의 처리 응답 (체결 내역이 이미 덮어쓰였으면 null)
+     */
+    OrderProcessResponse toResponse(int orderId) {
+        int slot = slots.get(orderId);
+        if (slot < 0 || fillStarts[slot] < fillSequence - fillCapacity) {
+            return null;
+        }
+
+        int count = fillCounts[slot];
+        if (count == 0) {
+            return OrderProcessResponse.unmatched();
+        }
+
+        int[] copy = new int[count * 3];
+        int totalMatchedAmount = 0;
+        for (int i = 0; i < count; i++) {
+            int offset = (int) ((fillStarts[slot] + i) % fillCapacity) * 3;
+            System.arraycopy(fills, offset, copy, i * 3, 3);
+            totalMatchedAmount += copy[i * 3 + 1];
+        }
+        return OrderProcessResponse.matched(orderId, MakerOrderList.of(copy), copy[count * 3 - 1], totalMatchedAmount);
+    }
+}
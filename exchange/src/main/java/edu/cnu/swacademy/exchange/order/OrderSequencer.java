@@ -0,0 +1,233 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.EngineThreadFactory;
+import edu.cnu.swacademy.exchange.engine.WaitStrategy;
+import edu.cnu.swacademy.exchange.journal.FsyncPolicy;
+import edu.cnu.swacademy.exchange.journal.Journal;
+import edu.cnu.swacademy.exchange.journal.SnapshotStore;
+import edu.cnu.swacademy.exchange.order.dto.EngineStatsResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchItem;
+import edu.cnu.swacademy.exchange.order.dto.OrderBatchResult;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 시퀀서
+ * 종목 ID의 해시로 엔진 샤드를 결정하여 해당 샤드의 링 버퍼에 주문을 발행합니다.
+ * 같은 종목의 주문은 항상 같은 샤드의 단일 엔진 스레드에서 도착 순서대로 처리되고,
+ * 샤드끼리는 상태를 공유하지 않으므로 주문이 여러 종목에 퍼져 있으면 샤드 수만큼 코어를 활용합니다.
+ * 기동 시 샤드별 저널을 재생하여 오더북을 복구한 뒤 엔진 스레드를 시작하므로,
+ * 빈 초기화가 끝나 웹 요청을 받기 시작할 때에는 이미 복구가 완료되어 있습니다.
+ * 저널은 샤드 단위로 기록되므로 저널이 남아 있는 동안 샤드 수를 바꾸면 안 됩니다. (ShardRouter 참고)
+ * 주기적으로(및 장 종료 시) 샤드별 스냅샷을 남겨 재시작 시 재생할 저널 구간을 줄입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "exchange.engine.mode", havingValue = "memory", matchIfMissing = true)
+public class OrderSequencer implements MatchingEngine {
+
+    private final OrderBookProjection orderBookProjection;
+    private final WaitStrategy waitStrategy;
+    private final EngineThreadFactory engineThreadFactory;
+
+    @Value("${exchange.engine.shards:2}")
+    private int shardCount;
+
+    @Value("${exchange.engine.ring-size:8192}")
+    private int ringSize;
+
+    @Value("${exchange.engine.admission.max-queue-depth:4096}")
+    private int maxQueueDepth;
+
+    @Value("${exchange.engine.expected-resting-orders:65536}")
+    private int expectedRestingOrders;
+
+    @Value("${exchange.engine.recent-orders:262144}")
+    private int recentOrders;
+
+    @Value("${exchange.engine.journal.enabled:true}")
+    private boolean journalEnabled;
+
+    @Value("${exchange.engine.journal.dir:./journal}")
+    private String journalDir;
+
+    @Value("${exchange.engine.journal.segment-size:67108864}")
+    private int journalSegmentSize;
+
+    @Value("${exchange.engine.journal.fsync:GROUP}")
+    private FsyncPolicy journalFsync;
+
+    @Value("${exchange.engine.journal.group-commit-micros:500}")
+    private long journalGroupCommitMicros;
+
+    @Value("${exchange.engine.snapshot.interval-seconds:300}")
+    private long snapshotIntervalSeconds;
+
+    private EngineShard[] shards;
+    private ScheduledExecutorService snapshotScheduler;
+
+    @PostConstruct
+    public void start() {
+        shards = new EngineShard[shardCount];
+        for (int shardId = 0; shardId < shardCount; shardId++) {
+            shards[shardId] = new EngineShard(shardId, ringSize, maxQueueDepth, expectedRestingOrders, recentOrders, orderBookProjection,
+                createJournal(shardId), createSnapshotStore(shardId), waitStrategy, engineThreadFactory);
+            shards[shardId].replay();
+        }
+        for (EngineShard shard : shards) {
+            shard.start();
+        }
+
+        if (journalEnabled && snapshotIntervalSeconds > 0) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "orderbook-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+        log.info("Order sequencer started: shards={}, ring-size={}, journal={}, wait-strategy={}", shardCount, ringSize,
+            journalEnabled ? journalFsync : "disabled", waitStrategy);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        for (EngineShard shard : shards) {
+            shard.stop();
+        }
+        log.info("Order sequencer stopped");
+    }
+
+    @Override
+    public CompletableFuture<OrderProcessResponse> submit(OrderProcessRequest request) {
+        return shards[shardOf(request.stockId())].submit(request);
+    }
+
+    @Override
+    public CompletableFuture<OrderCancelResponse> submit(OrderCancelRequest request) {
+        return shards[shardOf(request.stockId())].submit(request);
+    }
+
+    @Override
+    public CompletableFuture<OrderProcessResponse> reconcile(OrderCancelRequest request) {
+        return shards[shardOf(request.stockId())].reconcile(request);
+    }
+
+    /**
+     * 일괄 처리
+     * 항목을 담당 샤드별로 나누어 (샤드 안의 순서는 유지) 샤드마다 한 번에 발행합니다.
+     */
+    @Override
+    public List<CompletableFuture<OrderBatchResult>> submitBatch(List<OrderBatchItem> items) {
+        List<List<Integer>> indexesByShard = new ArrayList<>(shards.length);
+        List<List<OrderBatchItem>> itemsByShard = new ArrayList<>(shards.length);
+        for (int shardId = 0; shardId < shards.length; shardId++) {
+            indexesByShard.add(new ArrayList<>());
+            itemsByShard.add(new ArrayList<>());
+        }
+        for (int index = 0; index < items.size(); index++) {
+            OrderBatchItem item = items.get(index);
+            int shardId = shardOf(item.order() != null ? item.order().stockId() : item.cancel().stockId());
+            indexesByShard.get(shardId).add(index);
+            itemsByShard.get(shardId).add(item);
+        }
+
+        List<CompletableFuture<OrderBatchResult>> futures = new ArrayList<>(Collections.nCopies(items.size(), null));
+        for (int shardId = 0; shardId < shards.length; shardId++) {
+            if (itemsByShard.get(shardId).isEmpty()) {
+                continue;
+            }
+            List<CompletableFuture<OrderBatchResult>> shardFutures = shards[shardId].submitBatch(itemsByShard.get(shardId));
+            List<Integer> indexes = indexesByShard.get(shardId);
+            for (int i = 0; i < indexes.size(); i++) {
+                futures.set(indexes.get(i), shardFutures.get(i));
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * 모든 샤드의 스냅샷 기록
+     * 타이머와 장 종료 요청이 겹치지 않도록 직렬화합니다.
+     */
+    @Override
+    public synchronized void snapshot() {
+        if (!journalEnabled) {
+            return;
+        }
+        for (EngineShard shard : shards) {
+            shard.writeSnapshot();
+        }
+    }
+
+    @Override
+    public byte[] exportBook(int stockId) {
+        return shards[shardOf(stockId)].detach(stockId).join();
+    }
+
+    /**
+     * 종목 오더북 가져오기 (가져온 오더북은 해당 샤드 저널에 기록됨)
+     */
+    @Override
+    public void importBook(int stockId, byte[] data) {
+        shards[shardOf(stockId)].attach(stockId, data).join();
+    }
+
+    @Override
+    public List<EngineStatsResponse> getEngineStats() {
+        List<EngineStatsResponse> stats = new ArrayList<>(shards.length);
+        for (EngineShard shard : shards) {
+            stats.add(shard.getStats());
+        }
+        return stats;
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.error("Failed to write snapshot: e={}, msg={}", e.getClass(), e.getMessage());
+        }
+    }
+
+    private Journal createJournal(int shardId) {
+        if (!journalEnabled) {
+            return null;
+        }
+        return new Journal(Path.of(journalDir), shardId, journalSegmentSize, journalFsync, journalGroupCommitMicros);
+    }
+
+    private SnapshotStore createSnapshotStore(int shardId) {
+        if (!journalEnabled) {
+            return null;
+        }
+        return new SnapshotStore(Path.of(journalDir), shardId);
+    }
+
+    @Override
+    public int shardOf(int stockId) {
+        return ShardRouter.shardOf(stockId, shards.length);
+    }
+}
@@ -0,0 +1,66 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.FillBuffer;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+
+/**
+ * 주문 처리 결과 버퍼
+ * 처리기(샤드)마다 하나를 두고 주문마다 덮어쓰므로 매칭 경로에서 응답 객체를 만들지 않습니다.
+ * 다음 처리 전까지만 유효하며, 응답 DTO는 필요한 경우에만 {@link #toResponse()}로 만듭니다.
+ */
+final class ProcessResult {
+
+    enum Status {
+        UNMATCHED,
+        MATCHED,
+        REJECTED
+    }
+
+    private Status status;
+    private String reason;
+    private int takerOrderId;
+    private FillBuffer fills;
+
+    ProcessResult unmatched() {
+        return set(Status.UNMATCHED, null, 0, null);
+    }
+
+    ProcessResult matched(int takerOrderId, FillBuffer fills) {
+        return set(Status.MATCHED, null, takerOrderId, fills);
+    }
+
+    ProcessResult rejected(String reason) {
+        return set(Status.REJECTED, reason, 0, null);
+    }
+
+    Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 체결 내역 (체결된 경우에만, 해당 오더북의 다음 매칭 전까지 유효)
+     */
+    FillBuffer getFills() {
+        return fills;
+    }
+
+    /**
+     * 응답 DTO 변환
+     * 체결 내역은 기본형 배열 하나로 복사하고, maker DTO는 응답을 읽는 쪽에서 만듭니다.
+     */
+    OrderProcessResponse toResponse() {
+        return switch (status) {
+            case UNMATCHED -> OrderProcessResponse.unmatched();
+            case REJECTED -> OrderProcessResponse.rejected(reason);
+            case MATCHED -> OrderProcessResponse.matched(takerOrderId, MakerOrderList.copyOf(fills), fills.lastPrice(), fills.totalMatchedAmount());
+        };
+    }
+
+    private ProcessResult set(Status status, String reason, int takerOrderId, FillBuffer fills) {
+        this.status = status;
+        this.reason = reason;
+        this.takerOrderId = takerOrderId;
+        this.fills = fills;
+        return this;
+    }
+}
@@ -0,0 +1,189 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.Side;
+import edu.cnu.swacademy.exchange.order.dto.EngineStatsResponse;
+import edu.cnu.swacademy.exchange.order.dto.MakerOrderResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis 스크립트 매칭 엔진
+ * Redis를 오더북 원본으로 유지해야 하는 배포용 엔진입니다.
+ * 주문 하나의 매칭 전체(체결, 부분 체결 갱신, 총 수량, 가격 목록, 잔량 등록)를 Lua 스크립트 한 번(EVALSHA)으로 원자적으로 처리합니다.
+ * 스크립트가 사용하는 키는 모두 여기서 만들어 KEYS로 전달합니다. (키 구조는 process_order.lua 참고)
+ * 모든 오더북 키는 종목 ID 해시 태그({stockId})로 시작하므로, 클러스터에서도 한 종목의 키와 스크립트가 만드는 가격 레벨 키가 같은 슬롯에 놓입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exchange.engine.mode", havingValue = "redis")
+public class RedisScriptMatchingEngine implements MatchingEngine {
+
+    private static final StringRedisSerializer ARGS_SERIALIZER = StringRedisSerializer.UTF_8;
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisScript<List> processOrderScript;
+    private final RedisScript<List> cancelOrderScript;
+
+    private final int shardCount;
+
+    public RedisScriptMatchingEngine(
+        RedisTemplate<String, Object> redisTemplate,
+        @Qualifier("processOrderScript") RedisScript<List> processOrderScript,
+        @Qualifier("cancelOrderScript") RedisScript<List> cancelOrderScript,
+        @Value("${exchange.engine.shards:2}") int shardCount
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.processOrderScript = processOrderScript;
+        this.cancelOrderScript = cancelOrderScript;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public CompletableFuture<OrderProcessResponse> submit(OrderProcessRequest request) {
+        // 상하한가 검증 (인메모리 엔진의 오더북 검증과 같은 기준, 호가 단위는 서비스에서 검증)
+        if (request.price() < request.lowerLimitPrice() || request.price() > request.upperLimitPrice()) {
+            log.warn("Price out of limits for order-id: {}", request.orderId());
+            return CompletableFuture.completedFuture(OrderProcessResponse.rejected("상하한가 범위 초과"));
+        }
+
+        Side side = Side.from(request.side());
+        List<String> keys = new ArrayList<>(7);
+        addSideKeys(keys, request.stockId(), side);
+        addSideKeys(keys, request.stockId(), side.opposite());
+        keys.add(getOrderIndexKey(request.stockId()));
+
+        List<?> reply = redisTemplate.execute(
+            processOrderScript,
+            ARGS_SERIALIZER,
+            ARGS_SERIALIZER,
+            keys,
+            String.valueOf(request.orderId()),
+            side.name(),
+            String.valueOf(request.price()),
+            String.valueOf(request.amount()),
+            String.valueOf(toEpochMicros(request.createdAt()))
+        );
+
+        // 응답: { 잔량, maker 주문 ID, 체결 수량, 체결 가격, ... }
+        if (reply == null || reply.size() < 4) {
+            return CompletableFuture.completedFuture(OrderProcessResponse.unmatched());
+        }
+
+        List<MakerOrderResponse> makers = new ArrayList<>((reply.size() - 1) / 3);
+        int totalMatchedAmount = 0;
+        for (int index = 1; index + 2 < reply.size(); index += 3) {
+            int matchedAmount = toInt(reply.get(index + 1));
+            makers.add(new MakerOrderResponse(toInt(reply.get(index)), matchedAmount, toInt(reply.get(index + 2))));
+            totalMatchedAmount += matchedAmount;
+        }
+        int lastPrice = makers.get(makers.size() - 1).price();
+
+        return CompletableFuture.completedFuture(
+            OrderProcessResponse.matched(request.orderId(), makers, lastPrice, totalMatchedAmount));
+    }
+
+    @Override
+    public CompletableFuture<OrderCancelResponse> submit(OrderCancelRequest request) {
+        List<String> keys = new ArrayList<>(7);
+        addSideKeys(keys, request.stockId(), Side.BUY);
+        addSideKeys(keys, request.stockId(), Side.SELL);
+        keys.add(getOrderIndexKey(request.stockId()));
+
+        List<?> reply = redisTemplate.execute(
+            cancelOrderScript,
+            ARGS_SERIALIZER,
+            ARGS_SERIALIZER,
+            keys,
+            String.valueOf(request.orderId())
+        );
+
+        // 응답: { 취소 여부, 취소 수량 }
+        if (reply == null || reply.isEmpty() || toInt(reply.get(0)) == 0) {
+            log.info("Order not found in order book: orderId={}, stockId={}", request.orderId(), request.stockId());
+            return CompletableFuture.completedFuture(OrderCancelResponse.rejected());
+        }
+        return CompletableFuture.completedFuture(OrderCancelResponse.cancelled(toInt(reply.get(1))));
+    }
+
+    /**
+     * 종목의 담당 샤드 번호
+     * Redis가 스크립트를 원자적으로 실행하므로 샤드는 논리적 구분일 뿐이지만,
+     * 증권사 서버의 샤드별 주문 경로가 그대로 동작하도록 같은 해시를 사용합니다.
+     */
+    @Override
+    public int shardOf(int stockId) {
+        return ShardRouter.shardOf(stockId, shardCount);
+    }
+
+    /**
+     * Redis가 오더북 원본이므로 별도 스냅샷이 필요 없습니다.
+     */
+    @Override
+    public void snapshot() {
+        log.info("Snapshot skipped: redis is the order book of record");
+    }
+
+    /**
+     * Redis 오더북은 노드들이 공유하므로 이관할 데이터가 없습니다. (라우팅만 바뀜)
+     */
+    @Override
+    public byte[] exportBook(int stockId) {
+        return new byte[0];
+    }
+
+    @Override
+    public void importBook(int stockId, byte[] data) {
+        log.info("Import skipped: redis order book is shared, stockId={}", stockId);
+    }
+
+    /**
+     * 매칭은 Redis에서 실행되므로 엔진 스레드 통계가 없습니다.
+     */
+    @Override
+    public List<EngineStatsResponse> getEngineStats() {
+        return List.of();
+    }
+
+    private int toInt(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    /**
+     * 주문 시각을 스크립트의 엔트리 형식(epoch 마이크로초, UTC 기준)으로 변환
+     */
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    /**
+     * Redis 키 메서드들
+     */
+    private void addSideKeys(List<String> keys, int stockId, Side side) {
+        keys.add(String.format("{%d}:%s:prices", stockId, side));
+        keys.add(String.format("{%d}:%s:total-unit", stockId, side));
+        keys.add(String.format("{%d}:%s:popped", stockId, side));
+    }
+
+    private String getOrderIndexKey(int stockId) {
+        return String.format("{%d}:order-index", stockId);
+    }
+}
@@ -0,0 +1,26 @@
+package edu.cnu.swacademy.exchange.order;
+
+/**
+ * 샤드 라우터
+ * 종목 ID를 해시하여 담당 엔진 샤드를 결정합니다. (증권사 서버의 ShardRouter와 동일한 해시)
+ * 저널은 샤드 단위로 기록되므로 저널이 남아 있는 동안 해시 함수나 샤드 수를 바꾸면 안 됩니다.
+ */
+public final class ShardRouter {
+
+    private ShardRouter() {
+    }
+
+    /**
+     * 종목 ID의 담당 샤드 번호를 반환합니다.
+     * 연속된 종목 ID가 특정 샤드에 몰리지 않도록 비트를 섞은 뒤 나머지를 구합니다. (MurmurHash3 fmix32)
+     */
+    public static int shardOf(int stockId, int shardCount) {
+        int hash = stockId;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, shardCount);
+    }
+}
@@ -0,0 +1,22 @@
+package edu.cnu.swacademy.exchange.order;
+
+import edu.cnu.swacademy.exchange.engine.OrderBook;
+import edu.cnu.swacademy.exchange.engine.OrderBookCodec;
+import edu.cnu.swacademy.exchange.journal.Snapshot;
+
+import java.util.List;
+
+/**
+ * 스냅샷용 오더북 사본
+ * 엔진 스레드가 명령 사이의 일관된 시점에 복사하고, 인코딩은 스냅샷을 기록하는 스레드에서 수행합니다.
+ *
+ * @param sequence         사본 이후 첫 저널 레코드 순번
+ * @param books            오더북 사본
+ * @param detachedStockIds 다른 노드로 이관된 종목 ID
+ */
+record SnapshotCopy(long sequence, List<OrderBook> books, int[] detachedStockIds) {
+
+    Snapshot encode() {
+        return new Snapshot(sequence, OrderBookCodec.encode(books, detachedStockIds));
+    }
+}
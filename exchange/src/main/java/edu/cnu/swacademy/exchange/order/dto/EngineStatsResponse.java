@@ -0,0 +1,33 @@
+package edu.cnu.swacademy.exchange.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 엔진 샤드 통계 응답 DTO
+ * busy_ratio는 전체 루프 중 명령을 처리한 루프의 비율입니다.
+ * 대기열 대기 시간은 주문이 링 버퍼에 발행된 뒤 엔진 스레드가 꺼낼 때까지의 시간입니다.
+ */
+public record EngineStatsResponse(
+    @JsonProperty("shard_id")
+    int shardId,
+    @JsonProperty("wait_strategy")
+    String waitStrategy,
+    @JsonProperty("busy_cycles")
+    long busyCycles,
+    @JsonProperty("idle_cycles")
+    long idleCycles,
+    @JsonProperty("processed_commands")
+    long processedCommands,
+    @JsonProperty("busy_ratio")
+    double busyRatio,
+    @JsonProperty("queue_depth")
+    long queueDepth,
+    @JsonProperty("max_queue_depth")
+    int maxQueueDepth,
+    @JsonProperty("rejected_orders")
+    long rejectedOrders,
+    @JsonProperty("avg_queue_wait_micros")
+    long avgQueueWaitMicros,
+    @JsonProperty("max_queue_wait_micros")
+    long maxQueueWaitMicros
+) {}
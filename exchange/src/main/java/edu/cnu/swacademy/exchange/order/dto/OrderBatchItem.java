@@ -0,0 +1,11 @@
+package edu.cnu.swacademy.exchange.order.dto;
+
+/**
+ * 일괄 주문 항목
+ * 신규 주문(order) 또는 주문 취소(cancel) 중 하나만 담습니다.
+ */
+public record OrderBatchItem(
+    OrderProcessRequest order,
+    OrderCancelRequest cancel
+) {
+}
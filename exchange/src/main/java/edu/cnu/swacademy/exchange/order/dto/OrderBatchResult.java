@@ -0,0 +1,17 @@
+package edu.cnu.swacademy.exchange.order.dto;
+
+/**
+ * 일괄 주문 항목별 처리 결과 (요청 항목과 같은 순서)
+ */
+public record OrderBatchResult(
+    OrderProcessResponse order,
+    OrderCancelResponse cancel
+) {
+    public static OrderBatchResult of(OrderProcessResponse response) {
+        return new OrderBatchResult(response, null);
+    }
+
+    public static OrderBatchResult of(OrderCancelResponse response) {
+        return new OrderBatchResult(null, response);
+    }
+}
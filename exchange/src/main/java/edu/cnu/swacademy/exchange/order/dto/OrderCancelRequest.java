@@ -3,13 +3,12 @@ package edu.cnu.swacademy.exchange.order.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
- * 주문 취소 요청 DTO
+ * 주문 취소 요청 DTO (주문 결과 조회에도 사용)
+ * 거래소가 주문 ID 인덱스로 주문을 찾으므로 가격/방향은 받지 않습니다.
  */
 public record OrderCancelRequest(
     @JsonProperty("order_id")
     int orderId,
     @JsonProperty("stock_id")
-    int stockId,
-    String side,
-    int price
+    int stockId
 ) {}
@@ -4,16 +4,19 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * 주문 취소 응답 DTO
+ * 취소 수량은 취소 시점에 오더북에 남아 있던 미체결 수량입니다.
  */
 public record OrderCancelResponse(
     @JsonProperty("match_result")
-    String matchResult // Cancelled, Rejected
+    String matchResult, // Cancelled, Rejected
+    @JsonProperty("canceled_amount")
+    Integer canceledAmount
 ) {
-    public static OrderCancelResponse cancelled() {
-        return new OrderCancelResponse("Cancelled");
+    public static OrderCancelResponse cancelled(int canceledAmount) {
+        return new OrderCancelResponse("Cancelled", canceledAmount);
     }
     
     public static OrderCancelResponse rejected() {
-        return new OrderCancelResponse("Rejected");
+        return new OrderCancelResponse("Rejected", null);
     }
 }
@@ -16,6 +16,10 @@ public record OrderProcessRequest(
     int amount,
     String side,
     @JsonProperty("created_at")
-    LocalDateTime createdAt
+    LocalDateTime createdAt,
+    @JsonProperty("lower_limit_price")
+    int lowerLimitPrice,
+    @JsonProperty("upper_limit_price")
+    int upperLimitPrice
 ) {
 }
@@ -6,6 +6,7 @@ import java.util.List;
 
 /**
  * 주문 처리 응답 DTO
+ * 체결 가격은 maker별로 makers에 담기며, price는 마지막 체결 가격입니다.
  */
 public record OrderProcessResponse(
     @JsonProperty("match_result")
@@ -18,8 +19,21 @@ public record OrderProcessResponse(
     Integer totalMatchedAmount,
     String reason
 ) {
+    /**
+     * 접수 대기열이 가득 차 즉시 거부한 주문의 사유
+     */
+    public static final String OVERLOADED_REASON = "거래소 주문 대기열 초과";
+
+    /**
+     * 결과 조회 시점까지 도착하지 않아 무효화한 주문의 사유 (이후 도착해도 처리하지 않음)
+     */
+    public static final String VOIDED_REASON = "결과 조회로 무효화된 주문";
+
+    // 필드가 없는 응답은 불변이므로 공유
+    private static final OrderProcessResponse UNMATCHED = new OrderProcessResponse("Unmatched", null, null, null, null, null);
+
     public static OrderProcessResponse unmatched() {
-        return new OrderProcessResponse("Unmatched", null, null, null, null, null);
+        return UNMATCHED;
     }
     
     public static OrderProcessResponse matched(int takerOrderId, List<MakerOrderResponse> makers, int price, int totalMatchedAmount) {
@@ -30,8 +44,22 @@ public record OrderProcessResponse(
         return new OrderProcessResponse("Rejected", null, null, null, null, reason);
     }
     
+    /**
+     * 접수 대기열이 가득 차 오더북에 닿기 전에 거부한 주문 (증권사 서버는 이 결과로 샤드를 잠시 부하 차단)
+     */
+    public static OrderProcessResponse overloaded() {
+        return new OrderProcessResponse("Overloaded", null, null, null, null, OVERLOADED_REASON);
+    }
+
     public static OrderProcessResponse cancelled() {
         return new OrderProcessResponse("Cancelled", null, null, null, null, null);
     }
+
+    /**
+     * 주문 결과 조회에서 결과를 확인할 수 없는 경우 (처리 기록이 이미 덮어쓰였거나 엔진이 조회를 지원하지 않음)
+     */
+    public static OrderProcessResponse unknown(String reason) {
+        return new OrderProcessResponse("Unknown", null, null, null, null, reason);
+    }
 }
 
@@ -0,0 +1,225 @@
+package edu.cnu.swacademy.exchange.queue;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 매핑 추가 전용 파일 큐
+ * 증권사 서버와 거래소 서버가 같은 디렉토리의 세그먼트 파일을 매핑하여 브로커 없이 레코드를 주고받습니다.
+ * 쓰는 쪽은 프로세스 하나, 읽는 쪽은 다른 프로세스 하나이며, 레코드는 페이지 캐시에 남으므로 어느 쪽이 재시작해도 처음부터 다시 읽을 수 있습니다.
+ *
+ * 레코드: [길이(int)][본문] (주문 게이트웨이 프레임과 같은 형식, 8바이트 정렬)
+ * 길이는 본문을 모두 쓴 뒤 release 쓰기로 기록하므로, 길이가 0이 아니면 본문이 완성된 레코드입니다.
+ * 길이 -1은 세그먼트의 끝을 뜻하며, 읽는 쪽은 다음 세그먼트의 처음으로 넘어갑니다.
+ * 길이의 상위 두 비트는 레코드 상태입니다. 읽는 쪽이 처리를 시작하면 CLAIMED, 쓰는 쪽이 처리 전에 철회하면 CANCELLED를
+ * CAS로 세우므로, 두 상태 중 먼저 세운 쪽만 성공합니다. (철회된 레코드는 읽는 쪽이 건너뜀)
+ * 세그먼트: {이름}-{세그먼트 번호}.q
+ */
+@Slf4j
+public class MappedQueue implements AutoCloseable {
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final int LENGTH_SIZE = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final int CLAIMED = 0x4000_0000;
+    private static final int CANCELLED = 0x2000_0000;
+    private static final int LENGTH_MASK = CANCELLED - 1;
+
+    private final Path directory;
+    private final String name;
+    private final int segmentSize;
+
+    // 쓰기 위치 (this로 보호)
+    private MappedByteBuffer writeBuffer;
+    private int writeSegment;
+    private int writeOffset;
+
+    public MappedQueue(Path directory, String name, int segmentSize) {
+        if (segmentSize % ALIGNMENT != 0) {
+            throw new IllegalArgumentException("Queue segment size must be a multiple of " + ALIGNMENT + ": " + segmentSize);
+        }
+        this.directory = directory;
+        this.name = name;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 레코드 추가
+     * 여러 스레드가 호출할 수 있으며, 레코드 하나를 쓰는 동안 다른 쓰기를 막아 중간에 빈 자리가 생기지 않게 합니다.
+     *
+     * @param frame [길이][본문] 형식의 프레임 (위치부터 읽으며 버퍼 위치는 바꾸지 않음)
+     * @return 레코드 위치 ({@link #cancel(long)}용)
+     */
+    public synchronized long append(ByteBuffer frame) {
+        int length = frame.getInt(frame.position());
+        int size = align(LENGTH_SIZE + length);
+        if (length <= 0 || length > LENGTH_MASK || size > segmentSize) {
+            throw new IllegalArgumentException("Invalid queue record length: " + length);
+        }
+
+        if (writeBuffer == null) {
+            recoverWritePosition();
+        }
+        if (writeOffset + size > segmentSize) {
+            if (writeOffset < segmentSize) {
+                INT.setRelease(writeBuffer, writeOffset, END_OF_SEGMENT);
+            }
+            writeSegment++;
+            writeOffset = 0;
+            writeBuffer = map(writeSegment);
+        }
+
+        writeBuffer.put(writeOffset + LENGTH_SIZE, frame, frame.position() + LENGTH_SIZE, length);
+        INT.setRelease(writeBuffer, writeOffset, length);
+        long position = (long) writeSegment << 32 | writeOffset;
+        writeOffset += size;
+        return position;
+    }
+
+    /**
+     * 아직 읽는 쪽이 처리를 시작하지 않은 레코드 철회
+     *
+     * @return 철회했으면 true, 이미 처리가 시작되었으면 false
+     */
+    public boolean cancel(long position) {
+        return mark(map((int) (position >>> 32)), (int) position, CANCELLED);
+    }
+
+    /**
+     * 첫 세그먼트부터 읽는 리더 생성
+     */
+    public Tailer tailer() {
+        return new Tailer();
+    }
+
+    @Override
+    public void close() {
+        writeBuffer = null;
+    }
+
+    /**
+     * 마지막 세그먼트에서 길이 0인 첫 위치를 찾아 쓰기 위치로 복구
+     */
+    private void recoverWritePosition() {
+        writeSegment = lastSegment();
+        writeBuffer = map(writeSegment);
+        writeOffset = 0;
+        while (writeOffset < segmentSize) {
+            int length = (int) INT.getAcquire(writeBuffer, writeOffset);
+            if (length == 0) {
+                break;
+            }
+            writeOffset = length == END_OF_SEGMENT ? segmentSize : writeOffset + align(LENGTH_SIZE + (length & LENGTH_MASK));
+        }
+        log.info("Queue write position recovered: name={}, segment={}, offset={}", name, writeSegment, writeOffset);
+    }
+
+    private int lastSegment() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                .filter(fileName -> fileName.startsWith(name + "-") && fileName.endsWith(".q"))
+                .mapToInt(fileName -> Integer.parseInt(fileName.substring(name.length() + 1, fileName.length() - 2)))
+                .max()
+                .orElse(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer map(int segment) {
+        Path path = directory.resolve(String.format("%s-%06d.q", name, segment));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 레코드 상태 설정 (CLAIMED와 CANCELLED 중 먼저 세운 쪽만 성공, 같은 상태를 다시 세우면 성공)
+     */
+    private static boolean mark(ByteBuffer buffer, int offset, int state) {
+        int current = (int) INT.getAcquire(buffer, offset);
+        while ((current & (CLAIMED | CANCELLED)) == 0) {
+            int witness = (int) INT.compareAndExchange(buffer, offset, current, current | state);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return (current & state) != 0;
+    }
+
+    private static int align(int size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * 큐 리더 (스레드 하나만 사용)
+     */
+    public final class Tailer {
+
+        private MappedByteBuffer buffer = map(0);
+        private int segment;
+        private int offset;
+        private int recordOffset;
+
+        /**
+         * 다음 레코드 본문 (아직 없으면 null)
+         * 반환한 버퍼는 매핑된 파일을 그대로 가리키므로 다음 호출 전에 읽어야 합니다.
+         */
+        public ByteBuffer poll() {
+            while (true) {
+                if (offset >= segmentSize) {
+                    nextSegment();
+                }
+                int length = (int) INT.getAcquire(buffer, offset);
+                if (length == 0) {
+                    return null;
+                }
+                if (length == END_OF_SEGMENT) {
+                    nextSegment();
+                    continue;
+                }
+                length &= LENGTH_MASK;
+                ByteBuffer record = buffer.slice(offset + LENGTH_SIZE, length);
+                recordOffset = offset;
+                offset += align(LENGTH_SIZE + length);
+                return record;
+            }
+        }
+
+        /**
+         * 마지막으로 읽은 레코드의 처리 시작 표시
+         *
+         * @return 처리해야 하면 true, 쓰는 쪽이 철회한 레코드면 false
+         */
+        public boolean claim() {
+            return mark(buffer, recordOffset, CLAIMED);
+        }
+
+        private void nextSegment() {
+            segment++;
+            offset = 0;
+            buffer = map(segment);
+        }
+    }
+}
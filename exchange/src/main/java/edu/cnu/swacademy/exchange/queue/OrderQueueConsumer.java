@@ -0,0 +1,131 @@
+package edu.cnu.swacademy.exchange.queue;
+
+import edu.cnu.swacademy.exchange.engine.WaitStrategy;
+import edu.cnu.swacademy.exchange.gateway.GatewayProtocol;
+import edu.cnu.swacademy.exchange.order.OrderBookService;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 주문 큐 소비자
+ * 증권사 서버가 주문 큐(orders)에 추가한 주문/취소를 순서대로 읽어 매칭 엔진에 넘기고,
+ * 처리 결과를 응답 큐(acks)에 같은 상관 ID로 기록합니다.
+ * 재시작하면 응답 큐에 기록된 상관 ID를 모아 두고, 주문 큐를 처음부터 읽으며 응답하지 못한 레코드만 다시 처리합니다.
+ * 증권사 서버가 응답 제한 시간이 지나 철회한 레코드는 처리하지 않습니다. (처리 시작 표시와 철회 중 먼저 세운 쪽만 성공)
+ *
+ * 레코드 형식은 주문 게이트웨이 프레임({@link GatewayProtocol})과 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "exchange.queue.enabled", havingValue = "true")
+public class OrderQueueConsumer implements Runnable {
+
+    private final OrderBookService orderBookService;
+    private final WaitStrategy waitStrategy;
+
+    @Value("${exchange.queue.dir:./queue}")
+    private String queueDir;
+
+    @Value("${exchange.queue.segment-size:67108864}")
+    private int segmentSize;
+
+    private MappedQueue orderQueue;
+    private MappedQueue ackQueue;
+    private Thread thread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        orderQueue = new MappedQueue(Path.of(queueDir), "orders", segmentSize);
+        ackQueue = new MappedQueue(Path.of(queueDir), "acks", segmentSize);
+
+        running = true;
+        thread = new Thread(this, "order-queue-consumer");
+        thread.start();
+        log.info("Order queue consumer started: dir={}", queueDir);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        thread.join(5000);
+        orderQueue.close();
+        ackQueue.close();
+        log.info("Order queue consumer stopped");
+    }
+
+    @Override
+    public void run() {
+        Set<Long> acked = loadAcked();
+        MappedQueue.Tailer tailer = orderQueue.tailer();
+        int idleCount = 0;
+
+        while (running) {
+            ByteBuffer record = tailer.poll();
+            if (record == null) {
+                waitStrategy.idle(++idleCount);
+                continue;
+            }
+            idleCount = 0;
+
+            byte type = record.get();
+            long correlationId = record.getLong();
+            if (!acked.isEmpty() && acked.remove(correlationId)) {
+                continue;
+            }
+            if (!tailer.claim()) {
+                log.info("Order queue record cancelled by security server: correlation-id={}", correlationId);
+                continue;
+            }
+
+            try {
+                dispatch(type, correlationId, record);
+            } catch (Exception e) {
+                log.error("Invalid order queue record: correlation-id={}, e={}, msg={}", correlationId, e.getClass(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 레코드 하나를 엔진에 전달 (결과는 엔진 스레드에서 응답 큐에 기록)
+     */
+    private void dispatch(byte type, long correlationId, ByteBuffer record) {
+        switch (type) {
+            case GatewayProtocol.TYPE_NEW_ORDER -> orderBookService.submitOrder(GatewayProtocol.decodeNewOrder(record))
+                .whenComplete((response, e) -> ackQueue.append(GatewayProtocol.encodeOrderResponse(correlationId,
+                    e == null ? response : OrderProcessResponse.rejected("거래소 서버 오류"))));
+            case GatewayProtocol.TYPE_CANCEL -> orderBookService.submitCancel(GatewayProtocol.decodeCancel(record))
+                .whenComplete((response, e) -> ackQueue.append(GatewayProtocol.encodeCancelResponse(correlationId,
+                    e == null ? response : OrderCancelResponse.rejected())));
+            default -> throw new IllegalStateException("Unknown order queue record type: " + type);
+        }
+    }
+
+    /**
+     * 이미 응답한 상관 ID 수집 (재시작 시 중복 처리 방지)
+     */
+    private Set<Long> loadAcked() {
+        Set<Long> acked = new HashSet<>();
+        MappedQueue.Tailer tailer = ackQueue.tailer();
+        ByteBuffer record;
+        while ((record = tailer.poll()) != null) {
+            record.get();
+            acked.add(record.getLong());
+        }
+        log.info("Order queue acknowledgements loaded: count={}", acked.size());
+        return acked;
+    }
+}
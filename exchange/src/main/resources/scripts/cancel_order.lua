@@ -0,0 +1,47 @@
+-- 주문 취소 (Redis 오더북 원본 모드)
+-- 주문 ID 인덱스의 방향/가격/순번으로 목록 위치를 계산해 엔트리 하나만 읽고, 미체결 수량 0인 엔트리로 바꾼다.
+-- (목록 중간에서 빼면 뒤 주문의 위치가 바뀌므로, 취소 엔트리는 체결 시 맨 앞에 오면 제거된다)
+--
+-- KEYS: BUY prices, total-unit, popped, SELL prices, total-unit, popped, order-index (process_order.lua의 키 구조)
+--       가격 레벨 목록 키는 prices 키의 접두사로 만들며, 같은 {stockId} 해시 태그로 KEYS와 같은 슬롯에 있다.
+-- ARGV: orderId
+-- 반환: { 취소 여부(1/0), 취소 수량 }
+
+local sides = {
+  BUY = { prices = KEYS[1], total_unit = KEYS[2], popped = KEYS[3] },
+  SELL = { prices = KEYS[4], total_unit = KEYS[5], popped = KEYS[6] },
+}
+local order_index_key = KEYS[7]
+
+local order_id = tonumber(ARGV[1])
+local ENTRY_FORMAT = '>i4i4i8'
+
+local location = redis.call('HGET', order_index_key, order_id)
+if not location then
+  return { 0, 0 }
+end
+
+local side, price, sequence = string.match(location, '^(%a+):(%d+):(%d+)$')
+local keys = sides[side]
+local level_key = string.gsub(keys.prices, 'prices$', price)
+local index = tonumber(sequence) - tonumber(redis.call('HGET', keys.popped, price) or '0')
+
+redis.call('HDEL', order_index_key, order_id)
+
+local raw = redis.call('LINDEX', level_key, index)
+if not raw then
+  return { 0, 0 }
+end
+local id, unfilled, created_at = struct.unpack(ENTRY_FORMAT, raw)
+if id ~= order_id or unfilled == 0 then
+  return { 0, 0 }
+end
+
+redis.call('LSET', level_key, index, struct.pack(ENTRY_FORMAT, order_id, 0, created_at))
+if redis.call('HINCRBY', keys.total_unit, price, -unfilled) <= 0 then
+  redis.call('DEL', level_key)
+  redis.call('ZREM', keys.prices, price)
+  redis.call('HDEL', keys.total_unit, price)
+  redis.call('HDEL', keys.popped, price)
+end
+return { 1, unfilled }
@@ -0,0 +1,113 @@
+-- 주문 매칭 (Redis 오더북 원본 모드)
+-- 반대편 최우선 호가부터 지정가와 교차하는 레벨을 순회하며 FIFO로 체결하고, 잔량은 지정가 레벨에 등록한다.
+--
+-- 키 구조 ({stockId}는 Redis 클러스터 해시 태그: 한 종목의 키는 모두 같은 슬롯에 놓인다)
+--   {stockId}:{side}:prices      가격 인덱스 (Sorted Set, score = 가격)
+--   {stockId}:{side}:{price}     주문 목록 (FIFO 리스트, 16바이트 엔트리: 주문 ID int, 미체결 수량 int, 주문 시각 epoch 마이크로초 long)
+--                                취소된 주문은 미체결 수량 0인 엔트리로 남았다가 맨 앞에 오면 제거된다.
+--   {stockId}:{side}:total-unit  가격별 총 수량 (해시)
+--   {stockId}:{side}:popped      가격별 주문 목록 앞에서 꺼낸 엔트리 수 (해시, 목록 위치 = 순번 - 꺼낸 수)
+--   {stockId}:order-index        주문 ID -> '{side}:{price}:{순번}' (해시, 취소 시 목록 위치 조회용)
+--
+-- KEYS: 주문 방향의 prices, total-unit, popped, 반대 방향의 prices, total-unit, popped, order-index
+--       가격 레벨 목록 키는 체결 중에 정해지므로 prices 키의 접두사({stockId}:{side}:)에 가격을 붙여 만든다.
+--       (KEYS로 넘길 수 없는 유일한 키이며, 같은 해시 태그를 가지므로 KEYS와 같은 슬롯에 있다)
+-- 상하한가 검증은 스크립트 호출 전에 매칭 엔진에서 한다.
+-- ARGV: orderId, side, price, amount, createdAt(epoch 마이크로초)
+-- 반환: { 잔량, maker1 주문 ID, maker1 체결 수량, maker1 체결 가격, maker2 ... }
+
+local own = { prices = KEYS[1], total_unit = KEYS[2], popped = KEYS[3] }
+local opposite = { prices = KEYS[4], total_unit = KEYS[5], popped = KEYS[6] }
+local order_index_key = KEYS[7]
+
+local order_id = tonumber(ARGV[1])
+local side = ARGV[2]
+local price = tonumber(ARGV[3])
+local remaining = tonumber(ARGV[4])
+local created_at = tonumber(ARGV[5])
+local ENTRY_FORMAT = '>i4i4i8'
+
+local function level_key(keys, p)
+  return (string.gsub(keys.prices, 'prices$', p))
+end
+
+-- 레벨의 남은 주문이 없으면 목록(남은 취소 엔트리 포함)과 인덱스 제거
+local function remove_level_if_empty(keys, p)
+  local total = tonumber(redis.call('HGET', keys.total_unit, p) or '0')
+  if total <= 0 then
+    redis.call('DEL', level_key(keys, p))
+    redis.call('ZREM', keys.prices, p)
+    redis.call('HDEL', keys.total_unit, p)
+    redis.call('HDEL', keys.popped, p)
+  end
+end
+
+-- 반대편 최우선 호가 (매도: 최저가, 매수: 최고가)
+local function best_price()
+  local best = redis.call(side == 'BUY' and 'ZRANGE' or 'ZREVRANGE', opposite.prices, 0, 0)
+  if #best == 0 then
+    return nil
+  end
+  return tonumber(best[1])
+end
+
+local reply = { 0 }
+
+-- 1. 교차하는 반대편 레벨 순회 체결
+while remaining > 0 do
+  local level_price = best_price()
+  if not level_price then
+    break
+  end
+  if (side == 'BUY' and level_price > price) or (side == 'SELL' and level_price < price) then
+    break
+  end
+
+  local key = level_key(opposite, level_price)
+  while remaining > 0 do
+    local raw = redis.call('LINDEX', key, 0)
+    if not raw then
+      break
+    end
+
+    local maker_id, maker_unfilled, maker_created_at = struct.unpack(ENTRY_FORMAT, raw)
+    local matched = math.min(remaining, maker_unfilled)
+    remaining = remaining - matched
+    maker_unfilled = maker_unfilled - matched
+
+    if maker_unfilled == 0 then
+      redis.call('LPOP', key)
+      redis.call('HINCRBY', opposite.popped, level_price, 1)
+    else
+      redis.call('LSET', key, 0, struct.pack(ENTRY_FORMAT, maker_id, maker_unfilled, maker_created_at))
+    end
+
+    -- 취소 엔트리는 꺼내기만 함
+    if matched > 0 then
+      if maker_unfilled == 0 then
+        redis.call('HDEL', order_index_key, maker_id)
+      end
+      redis.call('HINCRBY', opposite.total_unit, level_price, -matched)
+
+      table.insert(reply, maker_id)
+      table.insert(reply, matched)
+      table.insert(reply, level_price)
+    end
+  end
+
+  remove_level_if_empty(opposite, level_price)
+end
+
+-- 2. 잔량을 지정가 레벨에 등록 (순번 = 꺼낸 수 + 등록 전 목록 길이)
+if remaining > 0 then
+  local key = level_key(own, price)
+  redis.call('ZADD', own.prices, price, price)
+
+  local sequence = tonumber(redis.call('HGET', own.popped, price) or '0') + redis.call('LLEN', key)
+  redis.call('RPUSH', key, struct.pack(ENTRY_FORMAT, order_id, remaining, created_at))
+  redis.call('HINCRBY', own.total_unit, price, remaining)
+  redis.call('HSET', order_index_key, order_id, side .. ':' .. price .. ':' .. sequence)
+end
+
+reply[1] = remaining
+return reply
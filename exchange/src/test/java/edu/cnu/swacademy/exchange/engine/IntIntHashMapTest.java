@@ -0,0 +1,86 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 툼스톤 정리 검증
+ * 대기 주문처럼 일정한 수의 키가 계속 들어오고 나가는 경우, 툼스톤이 쌓여도 용량을 늘리지 않고 같은 용량으로 재배치하는지 확인합니다.
+ */
+class IntIntHashMapTest {
+
+  private static final int LIVE_KEYS = 1_000;
+  private static final int WARMUP_CHURN = 200_000;
+  private static final int MEASURED_CHURN = 1_000_000;
+
+  private final com.sun.management.ThreadMXBean threadMXBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  @Test
+  void removedKeysAreAbsentAndLiveKeysSurviveCompaction() {
+    IntIntHashMap map = new IntIntHashMap(LIVE_KEYS, -1);
+    int next = churn(map, 0, WARMUP_CHURN);
+
+    assertThat(map.size()).isEqualTo(LIVE_KEYS);
+    for (int key = next - LIVE_KEYS; key < next; key++) {
+      assertThat(map.get(key)).isEqualTo(key * 2);
+    }
+    for (int key = 0; key < next - LIVE_KEYS; key += 97) {
+      assertThat(map.containsKey(key)).isFalse();
+      assertThat(map.remove(key)).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void putOverRemovedSlotKeepsSize() {
+    IntIntHashMap map = new IntIntHashMap(16, -1);
+    map.put(1, 10);
+    map.put(2, 20);
+
+    assertThat(map.remove(1)).isEqualTo(10);
+    assertThat(map.put(1, 11)).isEqualTo(-1);
+    assertThat(map.put(2, 21)).isEqualTo(20);
+    assertThat(map.size()).isEqualTo(2);
+    assertThat(map.keys()).containsExactlyInAnyOrder(1, 2);
+  }
+
+  @Test
+  void steadyChurnAllocatesNothingAfterFirstCompaction() {
+    IntIntHashMap map = new IntIntHashMap(LIVE_KEYS, -1);
+    int next = churn(map, 0, WARMUP_CHURN);
+
+    long threadId = Thread.currentThread().getId();
+    long baseline = measureBaseline(threadId);
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    churn(map, next, MEASURED_CHURN);
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before - baseline;
+
+    // 용량이 늘어나면 배열을 새로 할당하므로 0바이트가 아님
+    assertThat(allocated).isZero();
+    assertThat(map.size()).isEqualTo(LIVE_KEYS);
+  }
+
+  /**
+   * 키 하나를 넣고 가장 오래된 키 하나를 지우는 것을 반복 (살아 있는 키는 LIVE_KEYS개로 유지)
+   *
+   * @return 다음에 넣을 키
+   */
+  private int churn(IntIntHashMap map, int from, int count) {
+    int key = from;
+    for (int i = 0; i < count; i++, key++) {
+      map.put(key, key * 2);
+      if (key >= LIVE_KEYS) {
+        map.remove(key - LIVE_KEYS);
+      }
+    }
+    return key;
+  }
+
+  private long measureBaseline(long threadId) {
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+  }
+}
@@ -0,0 +1,59 @@
+package edu.cnu.swacademy.exchange.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 매칭 경로 힙 할당 검증
+ * 워밍업 후 체결되는 주문의 스레드 할당 바이트를 ThreadMXBean으로 측정합니다.
+ */
+class OrderBookAllocationTest {
+
+  private static final int WARMUP_ORDERS = 200_000;
+  private static final int MEASURED_ORDERS = 100_000;
+
+  private final com.sun.management.ThreadMXBean threadMXBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  @Test
+  void matchedOrderAllocatesNothing() {
+    OrderBook book = new OrderBook(1, PriceLadder.of(66_500, 73_500));
+    LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+    int orderId = 0;
+    orderId = matchOrders(book, createdAt, orderId, WARMUP_ORDERS);
+
+    long threadId = Thread.currentThread().getId();
+    long baseline = measureBaseline(threadId);
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    matchOrders(book, createdAt, orderId, MEASURED_ORDERS);
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before - baseline;
+
+    assertThat(allocated / MEASURED_ORDERS).isZero();
+    assertThat(book.getRestingOrderCount()).isZero();
+  }
+
+  /**
+   * 매도 주문 두 건을 서로 다른 가격에 등록하고, 매수 주문 한 건이 두 레벨을 모두 체결
+   */
+  private int matchOrders(OrderBook book, LocalDateTime createdAt, int orderId, int count) {
+    for (int i = 0; i < count; i++) {
+      book.match(++orderId, Side.SELL, 70_000, 3, createdAt);
+      book.match(++orderId, Side.SELL, 70_100, 2, createdAt);
+      book.match(++orderId, Side.BUY, 70_100, 5, createdAt);
+      if (book.getFills().size() != 2) {
+        throw new IllegalStateException("Unexpected fills: " + book.getFills().size());
+      }
+    }
+    return orderId;
+  }
+
+  private long measureBaseline(long threadId) {
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+  }
+}
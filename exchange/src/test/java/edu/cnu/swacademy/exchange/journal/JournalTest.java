@@ -0,0 +1,186 @@
+package edu.cnu.swacademy.exchange.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 저널 재생 검증
+ * 체크섬이 맞지 않거나 끝이 잘린 레코드에서 재생을 멈추고, 그 자리부터 이어 쓰는지 확인합니다.
+ */
+class JournalTest {
+
+  private static final int SHARD_ID = 0;
+  private static final int SEGMENT_SIZE = 4096;
+
+  // 취소 레코드: [길이][CRC] + [유형][주문 ID][종목 ID]
+  private static final int CANCEL_RECORD_SIZE = 8 + 9;
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void replaysAllRecordsInOrder() {
+    appendCancels(1, 2, 3);
+
+    RecordingHandler handler = new RecordingHandler();
+    Journal journal = open();
+    long replayed = journal.replay(handler, 0);
+    journal.close();
+
+    assertThat(replayed).isEqualTo(3);
+    assertThat(handler.cancelledOrderIds).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void stopsAtChecksumMismatchAndAppendsOverIt() throws IOException {
+    appendCancels(1, 2, 3);
+    // 두 번째 레코드의 주문 ID 한 바이트를 바꿈
+    flipByte(CANCEL_RECORD_SIZE + 8 + 4);
+
+    RecordingHandler handler = new RecordingHandler();
+    Journal journal = open();
+    journal.replay(handler, 0);
+    assertThat(handler.cancelledOrderIds).containsExactly(1);
+    assertThat(journal.getNextSequence()).isEqualTo(1);
+
+    journal.appendCancel(new OrderCancelRequest(4, 1));
+    journal.close();
+
+    assertThat(replayAll()).containsExactly(1, 4);
+  }
+
+  @Test
+  void stopsAtTornTailOfTruncatedJournal() throws IOException {
+    appendCancels(1, 2, 3);
+    // 세 번째 레코드 본문 중간에서 파일을 자름 (재생 시 다시 매핑하면 나머지는 0으로 채워짐)
+    try (FileChannel channel = FileChannel.open(segment(), StandardOpenOption.WRITE)) {
+      channel.truncate(CANCEL_RECORD_SIZE * 2 + 8 + 3);
+    }
+
+    RecordingHandler handler = new RecordingHandler();
+    Journal journal = open();
+    journal.replay(handler, 0);
+    assertThat(handler.cancelledOrderIds).containsExactly(1, 2);
+    assertThat(journal.getNextSequence()).isEqualTo(2);
+
+    journal.appendCancel(new OrderCancelRequest(5, 1));
+    journal.close();
+
+    assertThat(replayAll()).containsExactly(1, 2, 5);
+  }
+
+  @Test
+  void skipsRecordsBeforeSnapshotSequence() {
+    appendCancels(1, 2, 3);
+
+    RecordingHandler handler = new RecordingHandler();
+    Journal journal = open();
+    journal.replay(handler, 2);
+    journal.close();
+
+    assertThat(handler.cancelledOrderIds).containsExactly(3);
+  }
+
+  @Test
+  void replaysVariableLengthAttachRecord() {
+    byte[] book = new byte[1000];
+    for (int i = 0; i < book.length; i++) {
+      book[i] = (byte) i;
+    }
+    Journal journal = open();
+    journal.replay(new RecordingHandler(), 0);
+    journal.appendCancel(new OrderCancelRequest(1, 7));
+    journal.appendAttach(7, book);
+    journal.appendCancel(new OrderCancelRequest(2, 7));
+    journal.close();
+
+    RecordingHandler handler = new RecordingHandler();
+    Journal reopened = open();
+    reopened.replay(handler, 0);
+    reopened.close();
+
+    assertThat(handler.cancelledOrderIds).containsExactly(1, 2);
+    assertThat(handler.attachedStockIds).containsExactly(7);
+    assertThat(handler.attachedBooks.get(0)).isEqualTo(book);
+  }
+
+  private Journal open() {
+    return new Journal(dir, SHARD_ID, SEGMENT_SIZE, FsyncPolicy.OS, 0);
+  }
+
+  private void appendCancels(int... orderIds) {
+    Journal journal = open();
+    journal.replay(new RecordingHandler(), 0);
+    for (int orderId : orderIds) {
+      journal.appendCancel(new OrderCancelRequest(orderId, 1));
+    }
+    journal.close();
+  }
+
+  private List<Integer> replayAll() {
+    RecordingHandler handler = new RecordingHandler();
+    Journal journal = open();
+    journal.replay(handler, 0);
+    journal.close();
+    return handler.cancelledOrderIds;
+  }
+
+  private void flipByte(int position) throws IOException {
+    try (FileChannel channel = FileChannel.open(segment(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer one = ByteBuffer.allocate(1);
+      channel.read(one, position);
+      one.put(0, (byte) (one.get(0) ^ 0xff)).rewind();
+      channel.write(one, position);
+    }
+  }
+
+  private Path segment() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.filter(path -> path.getFileName().toString().startsWith("journal-")).findFirst().orElseThrow();
+    }
+  }
+
+  private static final class RecordingHandler implements JournalHandler {
+
+    private final List<Integer> cancelledOrderIds = new ArrayList<>();
+    private final List<Integer> attachedStockIds = new ArrayList<>();
+    private final List<byte[]> attachedBooks = new ArrayList<>();
+
+    @Override
+    public void onProcess(OrderProcessRequest request) {
+    }
+
+    @Override
+    public void onCancel(OrderCancelRequest request) {
+      cancelledOrderIds.add(request.orderId());
+    }
+
+    @Override
+    public void onReconcile(OrderCancelRequest request) {
+    }
+
+    @Override
+    public void onDetach(int stockId) {
+    }
+
+    @Override
+    public void onAttach(int stockId, byte[] data) {
+      attachedStockIds.add(stockId);
+      attachedBooks.add(data);
+    }
+  }
+}
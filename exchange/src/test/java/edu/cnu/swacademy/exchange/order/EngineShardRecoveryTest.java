@@ -0,0 +1,110 @@
+package edu.cnu.swacademy.exchange.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import edu.cnu.swacademy.exchange.journal.FsyncPolicy;
+import edu.cnu.swacademy.exchange.journal.Journal;
+import edu.cnu.swacademy.exchange.journal.SnapshotStore;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 엔진 샤드 복구 검증
+ * 스냅샷을 남긴 뒤 이어서 처리한 명령이 저널에만 있을 때, 새 샤드가 스냅샷과 그 이후 저널을 함께 재생하여
+ * 같은 오더북을 복구하는지 남은 수량(취소 수량)으로 확인합니다.
+ * (샤드는 패키지 전용이므로 같은 패키지에 둡니다.)
+ */
+class EngineShardRecoveryTest {
+
+  private static final int SHARD_ID = 0;
+  private static final int STOCK_ID = 1;
+
+  // 스냅샷 이전 세그먼트가 정리되도록 작게 잡음
+  private static final int SEGMENT_SIZE = 256;
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void restoresSnapshotAndJournalTail() throws Exception {
+    EngineShard shard = open();
+    shard.replay();
+    shard.start();
+    shard.submit(order(1, 70_000, 5, "SELL")).join();
+    shard.submit(order(2, 70_100, 3, "SELL")).join();
+    shard.submit(order(3, 70_200, 4, "SELL")).join();
+    for (int orderId = 10; orderId < 20; orderId++) {
+      shard.submit(order(orderId, 70_400, 1, "SELL")).join();
+    }
+    shard.writeSnapshot();
+
+    // 스냅샷 이후: 부분 체결, 새 주문, 취소
+    shard.submit(order(4, 70_000, 2, "BUY")).join();
+    shard.submit(order(5, 70_300, 6, "SELL")).join();
+    assertThat(shard.submit(new OrderCancelRequest(2, STOCK_ID)).join().canceledAmount()).isEqualTo(3);
+    shard.stop();
+
+    // 스냅샷 이전 명령이 담긴 첫 세그먼트는 정리되어 스냅샷으로만 복구됨
+    assertThat(new SnapshotStore(dir, SHARD_ID).loadLatest()).isNotNull();
+    assertThat(Files.exists(dir.resolve(String.format("journal-%d-%020d.log", SHARD_ID, 0)))).isFalse();
+
+    EngineShard recovered = open();
+    recovered.replay();
+    recovered.start();
+    try {
+      assertThat(cancel(recovered, 1).canceledAmount()).isEqualTo(3);
+      assertThat(cancel(recovered, 2).matchResult()).isEqualTo("Rejected");
+      assertThat(cancel(recovered, 3).canceledAmount()).isEqualTo(4);
+      assertThat(cancel(recovered, 4).matchResult()).isEqualTo("Rejected");
+      assertThat(cancel(recovered, 5).canceledAmount()).isEqualTo(6);
+      for (int orderId = 10; orderId < 20; orderId++) {
+        assertThat(cancel(recovered, orderId).canceledAmount()).isEqualTo(1);
+      }
+    } finally {
+      recovered.stop();
+    }
+  }
+
+  @Test
+  void restoresJournalWithoutSnapshot() throws Exception {
+    EngineShard shard = open();
+    shard.replay();
+    shard.start();
+    shard.submit(order(1, 70_000, 5, "SELL")).join();
+    shard.submit(order(2, 70_000, 1, "BUY")).join();
+    shard.stop();
+
+    EngineShard recovered = open();
+    recovered.replay();
+    recovered.start();
+    try {
+      assertThat(cancel(recovered, 1).canceledAmount()).isEqualTo(4);
+    } finally {
+      recovered.stop();
+    }
+  }
+
+  private EngineShard open() {
+    // 프로젝션 비활성화 (설정 주입 없이 생성하면 꺼져 있음)
+    return new EngineShard(SHARD_ID, 64, 64, 16, 16, new OrderBookProjection(null),
+        new Journal(dir, SHARD_ID, SEGMENT_SIZE, FsyncPolicy.OS, 0), new SnapshotStore(dir, SHARD_ID),
+        idleCount -> Thread.onSpinWait(), Thread::new);
+  }
+
+  private OrderProcessRequest order(int orderId, int price, int amount, String side) {
+    return new OrderProcessRequest(orderId, STOCK_ID, price, amount, side, CREATED_AT, 66_500, 73_500);
+  }
+
+  private OrderCancelResponse cancel(EngineShard shard, int orderId) {
+    return shard.submit(new OrderCancelRequest(orderId, STOCK_ID)).join();
+  }
+}
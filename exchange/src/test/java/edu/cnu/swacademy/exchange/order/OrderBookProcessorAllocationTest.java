@@ -0,0 +1,67 @@
+package edu.cnu.swacademy.exchange.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 주문 처리기 힙 할당 검증
+ * {@link edu.cnu.swacademy.exchange.engine.OrderBookAllocationTest}와 같은 방식으로,
+ * 오더북 매칭에 더해 처리 결과 기록까지 포함한 엔진 스레드 처리 경로의 할당 바이트를 측정합니다.
+ * (처리기는 패키지 전용이므로 같은 패키지에 둡니다.)
+ */
+class OrderBookProcessorAllocationTest {
+
+  private static final int WARMUP_ORDERS = 200_000;
+  private static final int MEASURED_ORDERS = 100_000;
+
+  private final com.sun.management.ThreadMXBean threadMXBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  @Test
+  void matchedOrderAllocatesNothing() {
+    // 프로젝션 비활성화 (설정 주입 없이 생성하면 꺼져 있음)
+    OrderBookProcessor processor = new OrderBookProcessor(new OrderBookProjection(null), 1024);
+    LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+    // 매번 모두 체결되어 오더북에 남지 않으므로 같은 요청을 반복해서 사용
+    OrderProcessRequest[] requests = {
+        new OrderProcessRequest(1, 1, 70_000, 3, "SELL", createdAt, 66_500, 73_500),
+        new OrderProcessRequest(2, 1, 70_100, 2, "SELL", createdAt, 66_500, 73_500),
+        new OrderProcessRequest(3, 1, 70_100, 5, "BUY", createdAt, 66_500, 73_500)
+    };
+
+    processOrders(processor, requests, WARMUP_ORDERS);
+
+    long threadId = Thread.currentThread().getId();
+    long baseline = measureBaseline(threadId);
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    processOrders(processor, requests, MEASURED_ORDERS);
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before - baseline;
+
+    assertThat(allocated / MEASURED_ORDERS).isZero();
+  }
+
+  /**
+   * 매도 주문 두 건을 서로 다른 가격에 등록하고, 매수 주문 한 건이 두 레벨을 모두 체결
+   */
+  private void processOrders(OrderBookProcessor processor, OrderProcessRequest[] requests, int count) {
+    for (int i = 0; i < count; i++) {
+      processor.process(requests[0]);
+      processor.process(requests[1]);
+      ProcessResult result = processor.process(requests[2]);
+      if (result.getStatus() != ProcessResult.Status.MATCHED || result.getFills().size() != 2) {
+        throw new IllegalStateException("Unexpected result: " + result.getStatus());
+      }
+    }
+  }
+
+  private long measureBaseline(long threadId) {
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+  }
+}
@@ -0,0 +1,84 @@
+package edu.cnu.swacademy.exchange.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import edu.cnu.swacademy.exchange.engine.OrderBook;
+import edu.cnu.swacademy.exchange.engine.OrderBookCodec;
+import edu.cnu.swacademy.exchange.engine.PriceLadder;
+import edu.cnu.swacademy.exchange.engine.Side;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessRequest;
+import edu.cnu.swacademy.exchange.order.dto.OrderProcessResponse;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 장이 바뀐 뒤 상하한가 변경 검증
+ * 이전 장의 오더북을 스냅샷으로 복원한 뒤 새 상하한가의 주문을 처리합니다.
+ */
+class OrderBookProcessorTest {
+
+  private static final int STOCK_ID = 1;
+
+  // 1일차 기준가 70,000 / 2일차 기준가 76,000 (±5%)
+  private static final int DAY1_LOWER = 66_500;
+  private static final int DAY1_UPPER = 73_500;
+  private static final int DAY2_LOWER = 72_200;
+  private static final int DAY2_UPPER = 79_800;
+
+  private final LocalDateTime day1 = LocalDateTime.of(2025, 1, 2, 9, 0);
+  private final LocalDateTime day2 = LocalDateTime.of(2025, 1, 3, 9, 0);
+
+  @Test
+  void restoredBookAcceptsOrdersUnderNewLimits() {
+    OrderBookProcessor processor = restoreDay1();
+
+    OrderProcessResponse response = processor.process(order(3, Side.BUY, 78_000, 3)).toResponse();
+
+    assertThat(response.matchResult()).isEqualTo("Matched");
+    assertThat(response.price()).isEqualTo(73_000);
+    assertThat(response.totalMatchedAmount()).isEqualTo(3);
+  }
+
+  @Test
+  void restoredBookRejectsOrdersOutsideNewLimits() {
+    OrderBookProcessor processor = restoreDay1();
+
+    OrderProcessResponse response = processor.process(order(3, Side.SELL, 70_000, 1)).toResponse();
+
+    assertThat(response.matchResult()).isEqualTo("Rejected");
+    assertThat(response.reason()).isEqualTo("상하한가 범위 초과");
+  }
+
+  @Test
+  void carriedOverOrderOutsideNewLimitsCanBeCancelled() {
+    OrderBookProcessor processor = restoreDay1();
+    processor.process(order(3, Side.BUY, 72_500, 1));
+
+    OrderCancelResponse response = processor.cancel(new OrderCancelRequest(1, STOCK_ID));
+
+    assertThat(response.matchResult()).isEqualTo("Cancelled");
+    assertThat(response.canceledAmount()).isEqualTo(5);
+  }
+
+  /**
+   * 1일차 대기 주문(매수 67,000 × 5, 매도 73,000 × 3)을 스냅샷으로 인코딩하고 새 처리기에 복원
+   */
+  private OrderBookProcessor restoreDay1() {
+    OrderBook book = new OrderBook(STOCK_ID, PriceLadder.of(DAY1_LOWER, DAY1_UPPER));
+    book.match(1, Side.BUY, 67_000, 5, day1);
+    book.match(2, Side.SELL, 73_000, 3, day1);
+
+    OrderBookProcessor processor = new OrderBookProcessor(mock(OrderBookProjection.class), 16);
+    processor.restore(OrderBookCodec.decode(OrderBookCodec.encode(List.of(book)), 16));
+    return processor;
+  }
+
+  private OrderProcessRequest order(int orderId, Side side, int price, int amount) {
+    return new OrderProcessRequest(orderId, STOCK_ID, price, amount, side.name(), day2, DAY2_LOWER, DAY2_UPPER);
+  }
+}
@@ -3,18 +3,42 @@ package edu.cnu.swacademy.security.asset;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-import jakarta.persistence.LockModeType;
-
 public interface CashWalletRepository extends JpaRepository<CashWallet, Integer> {
 
   Optional<CashWallet> findByUserId(int userId);
 
-  @Lock(LockModeType.PESSIMISTIC_WRITE)
-  @Query("SELECT cw FROM CashWallet cw WHERE cw.user.id = :userId")
-  Optional<CashWallet> findByUserIdWithLock(int userId);
+  /**
+   * 매수 주문 금액 예약 (정지되지 않았고 가용 금액이 충분할 때만 묶인 금액 증가)
+   *
+   * @return 갱신된 행 수 (0이면 예약 실패)
+   */
+  @Modifying
+  @Query("UPDATE CashWallet cw SET cw.deposit = cw.deposit + :amount, cw.updatedAt = LOCAL_DATETIME "
+      + "WHERE cw.user.id = :userId AND cw.reserve >= cw.deposit + :amount AND cw.isBlocked = false AND cw.deletedAt IS NULL")
+  int reserveForBuyOrder(int userId, int amount);
+
+  /**
+   * 주문 취소/거절로 묶인 금액 해제
+   *
+   * @return 갱신된 행 수 (0이면 지갑 없음)
+   */
+  @Modifying
+  @Query("UPDATE CashWallet cw SET cw.deposit = cw.deposit - :amount, cw.updatedAt = LOCAL_DATETIME "
+      + "WHERE cw.user.id = :userId AND cw.deletedAt IS NULL")
+  int releaseOrderAmount(int userId, int amount);
+
+  /**
+   * 출금 (정지되지 않았고 출금 가능 금액이 충분할 때만 예치금 차감)
+   *
+   * @return 갱신된 행 수 (0이면 출금 실패)
+   */
+  @Modifying
+  @Query("UPDATE CashWallet cw SET cw.reserve = cw.reserve - :amount, cw.updatedAt = LOCAL_DATETIME "
+      + "WHERE cw.user.id = :userId AND cw.reserve - cw.deposit >= :amount AND cw.isBlocked = false AND cw.deletedAt IS NULL")
+  int withdraw(int userId, int amount);
 
   boolean existsByAccountNumber(String accountNumber);
   
@@ -18,6 +18,8 @@ import edu.cnu.swacademy.security.common.AccountNumberGenerator;
 import edu.cnu.swacademy.security.common.AesUtil;
 import edu.cnu.swacademy.security.common.ErrorCode;
 import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.ledger.RiskLedger;
+import edu.cnu.swacademy.security.lock.UserLockManager;
 import edu.cnu.swacademy.security.user.User;
 import edu.cnu.swacademy.security.user.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,8 @@ public class CashWalletService {
   private final CashWalletHistoryRepository cashWalletHistoryRepository;
   private final UserRepository userRepository;
   private final AesUtil aesUtil;
+  private final RiskLedger riskLedger;
+  private final UserLockManager userLockManager;
 
   @Transactional(rollbackFor = Exception.class)
   public void createCashWallet(int userId) throws SecurityException {
@@ -45,7 +49,8 @@ public class CashWalletService {
         });
     log.info("Got user id (={})", userId);
 
-    if (cashWalletRepository.findByUserIdWithLock(userId).isPresent()) {
+    userLockManager.lock(userId);
+    if (cashWalletRepository.existsByUserId(userId)) {
       log.info("Cash wallet already exists for user-id(={})", userId);
       throw new SecurityException(ErrorCode.CASH_WALLET_ALREADY_EXISTS);
     }
@@ -58,6 +63,7 @@ public class CashWalletService {
             aesUtil.encrypt(uniqueAccountNumber)
         )
     );
+    riskLedger.applyCash(userId, 0, 0);
   }
 
   private String generateUniqueAccountNumber() throws SecurityException {
@@ -73,10 +79,11 @@ public class CashWalletService {
     throw new SecurityException(ErrorCode.ACCOUNT_NUMBER_GENERATION_FAILED);
   }
 
-  @Transactional(rollbackFor = Exception.class, isolation = Isolation.SERIALIZABLE)
+  @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
   public void deposit(int userId, CashDepositRequest request) throws SecurityException {
-    // 1. 사용자의 현금 계좌 조회 (비관적 락 적용)
-    CashWallet cashWallet = cashWalletRepository.findByUserIdWithLock(userId)
+    // 1. 사용자의 현금 계좌 조회 (사용자 잠금 이후 조회)
+    userLockManager.lock(userId);
+    CashWallet cashWallet = cashWalletRepository.findByUserId(userId)
         .orElseThrow(() -> {
           log.info("Cash wallet not fou nd for user-id(={})", userId);
           return new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND);
@@ -90,6 +97,7 @@ public class CashWalletService {
 
     // 3. 입금 처리
     cashWallet.deposit(request.amount());
+    riskLedger.applyCash(userId, request.amount(), 0);
 
     // 4. 거래 내역 생성
     CashWalletHistory history = new CashWalletHistory(
@@ -107,40 +115,39 @@ public class CashWalletService {
   /**
    * 현금 출금 처리
    * 사용자가 요청한 금액만큼 현금 계좌의 예치금을 차감하고 출금 내역을 기록합니다.
-   * 동시성 이슈를 방지하기 위해 비관적 락을 사용하여 계좌를 조회합니다.
+   * 잠금 없이 접수되는 매수 주문의 예약과 겹치지 않도록 출금 가능 금액 확인과 차감을 조건부 UPDATE 한 번으로 처리합니다.
    * 
    * @param userId 사용자 ID (JWT에서 추출된 값)
    * @param request 출금 요청 정보 (출금 금액)
    * @throws SecurityException 출금 실패 시 발생 (계좌 없음, 정지 상태, 잔액 부족 등)
    */
-  @Transactional(rollbackFor = Exception.class, isolation = Isolation.SERIALIZABLE)
+  @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
   public void withdrawal(int userId, CashWithdrawalRequest request) throws SecurityException {
-    // 1. 사용자의 현금 계좌 조회 (비관적 락 적용으로 동시성 이슈 방지)
-    CashWallet cashWallet = cashWalletRepository.findByUserIdWithLock(userId)
+    userLockManager.lock(userId);
+
+    // 1. 출금 가능 금액 확인 및 출금 처리 (예치금 - 대기중인 매수 주문으로 묶인 금액)
+    // 리스크 원장의 예약은 지갑 테이블에 늦게 반영되므로 원장에서 먼저 확인/차감
+    int withdrawalAmount = request.amount();
+    riskLedger.withdrawCash(userId, withdrawalAmount);
+    int updated = cashWalletRepository.withdraw(userId, withdrawalAmount);
+
+    // 2. 현금 계좌 조회 (출금 실패 시 원인 확인)
+    CashWallet cashWallet = cashWalletRepository.findByUserId(userId)
         .orElseThrow(() -> {
           log.info("Cash wallet not found for user-id(={})", userId);
           return new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND);
         });
 
-    // 2. 현금 계좌 정지 상태 확인 (정지된 계좌는 출금 불가)
-    if (cashWallet.isBlocked()) {
-      log.info("Cash wallet is blocked for user-id(={})", userId);
-      throw new SecurityException(ErrorCode.CASH_WALLET_BLOCKED);
-    }
-
-    // 3. 출금 가능 금액 확인 (예치금 - 대기중인 매수 주문으로 묶인 금액)
-    int withdrawalAmount = request.amount();
-    long availableBalance = cashWallet.getReserve() - cashWallet.getDeposit(); // 현재는 대기중인 주문이 없으므로 예치금이 출금 가능 금액
-    
-    if (availableBalance < withdrawalAmount) {
+    if (updated == 0) {
+      if (cashWallet.isBlocked()) {
+        log.info("Cash wallet is blocked for user-id(={})", userId);
+        throw new SecurityException(ErrorCode.CASH_WALLET_BLOCKED);
+      }
       log.error("Insufficient balance for cash-wallet-id(={}),", cashWallet.getId());
       throw new SecurityException(ErrorCode.INSUFFICIENT_BALANCE);
     }
 
-    // 4. 출금 처리 (예치금 차감)
-    cashWallet.withdrawal(withdrawalAmount);
-
-    // 5. 출금 내역 생성 (거래 내역 기록)
+    // 3. 출금 내역 생성 (거래 내역 기록)
     CashWalletHistory history = new CashWalletHistory(
         cashWallet,
         CashWalletTransactionType.WITHDRAWAL,
@@ -247,6 +254,7 @@ public class CashWalletService {
 
     // 3. 계좌 정지 처리
     cashWallet.block();
+    riskLedger.setCashBlocked(cashWallet.getUser().getId(), true);
 
     // 4. 계좌 정지 내역 생성 (변경 내역 기록)
     CashWalletHistory history = new CashWalletHistory(
@@ -285,6 +293,7 @@ public class CashWalletService {
 
     // 3. 계좌 정지 해제 처리
     cashWallet.unblock();
+    riskLedger.setCashBlocked(cashWallet.getUser().getId(), false);
 
     // 4. 계좌 정지 해제 내역 생성 (변경 내역 기록)
     CashWalletHistory history = new CashWalletHistory(
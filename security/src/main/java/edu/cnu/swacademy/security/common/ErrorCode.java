@@ -52,7 +52,11 @@ public enum ErrorCode {
   ACCOUNT_NUMBER_GENERATION_FAILED("500", "Failed to generate unique account number."),
   EXCHANGE_SERVER_START_FAILED("500", "Failed to start exchange server."),
   EXCHANGE_SERVER_COMMUNICATION_FAILED("500", "Failed to communicate with exchange server."),
-  FAILED_CALCULATE_NEXT_PRICES("500", "Failed to calculate next prices.");
+  EXCHANGE_ORDER_OUTCOME_UNKNOWN("500", "Exchange order outcome is unknown."),
+  FAILED_CALCULATE_NEXT_PRICES("500", "Failed to calculate next prices."),
+
+  EXCHANGE_SERVER_OVERLOADED("503", "Exchange server is overloaded."),
+  USER_LOCK_TIMEOUT("503", "Too many concurrent requests for the user.");
 
   private final String code;
   private final String message;
@@ -1,18 +1,27 @@
 package edu.cnu.swacademy.security.common;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * HTTP 클라이언트 설정
+ * 거래소 서버가 밀릴 때 요청 스레드가 무한정 묶이지 않도록 연결/응답 제한 시간을 둡니다.
  */
 @Configuration
 public class HttpClientConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+        @Value("${exchange.server.connect-timeout-millis:1000}") int connectTimeoutMillis,
+        @Value("${exchange.server.read-timeout-millis:3000}") int readTimeoutMillis
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMillis);
+        requestFactory.setReadTimeout(readTimeoutMillis);
+        return new RestTemplate(requestFactory);
     }
 }
 
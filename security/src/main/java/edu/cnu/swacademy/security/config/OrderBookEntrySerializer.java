@@ -0,0 +1,52 @@
+package edu.cnu.swacademy.security.config;
+
+import edu.cnu.swacademy.security.orderbook.dto.OrderBookEntry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 오더북 엔트리 고정 길이 바이너리 직렬화 (16바이트)
+ * [주문 ID(int)][미체결 수량(int)][주문 시각(long, epoch 마이크로초)] 빅엔디언
+ * 거래소 서버의 Redis 매칭 스크립트(process_order.lua)가 기록한 오더북 엔트리를 읽을 때 사용하며, 스크립트의 엔트리 형식과 같습니다.
+ */
+public class OrderBookEntrySerializer implements RedisSerializer<OrderBookEntry> {
+
+    public static final int ENTRY_SIZE = 16;
+
+    @Override
+    public byte[] serialize(OrderBookEntry entry) throws SerializationException {
+        if (entry == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(ENTRY_SIZE)
+            .putInt(entry.getOrderId())
+            .putInt(entry.getUnfilledUnit())
+            .putLong(toEpochMicros(entry.getCreatedAt()))
+            .array();
+    }
+
+    @Override
+    public OrderBookEntry deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != ENTRY_SIZE) {
+            throw new SerializationException("Invalid order book entry length: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new OrderBookEntry(buffer.getInt(), buffer.getInt(), fromEpochMicros(buffer.getLong()));
+    }
+
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    public static LocalDateTime fromEpochMicros(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(epochMicros, ChronoUnit.MICROS);
+    }
+}
@@ -41,4 +41,12 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 오더북 엔트리 바이너리 역직렬화 (거래소 서버가 기록한 주문 목록 조회용)
+     */
+    @Bean
+    public OrderBookEntrySerializer orderBookEntrySerializer() {
+        return new OrderBookEntrySerializer();
+    }
 }
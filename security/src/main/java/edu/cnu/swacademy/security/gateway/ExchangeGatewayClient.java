@@ -0,0 +1,84 @@
+package edu.cnu.swacademy.security.gateway;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelRequest;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelResponse;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderRequest;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderResponse;
+import edu.cnu.swacademy.security.partition.ExchangeNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래소 주문 게이트웨이 클라이언트
+ * 거래소 노드마다 지속 연결 하나를 유지하고, 주문/취소를 바이너리 프레임으로 파이프라인 전송합니다.
+ * 요청마다 HTTP 연결과 JSON 변환 비용을 치르지 않으며, 연결이 끊기면 다음 요청에서 다시 연결합니다.
+ */
+@Slf4j
+@Component
+public class ExchangeGatewayClient {
+
+  // 노드 ID → 연결
+  private final Map<Integer, GatewayConnection> connections = new ConcurrentHashMap<>();
+
+  @Value("${exchange.server.gateway-port-offset:1000}")
+  private int gatewayPortOffset;
+
+  @Value("${exchange.server.connect-timeout-millis:1000}")
+  private int connectTimeoutMillis;
+
+  @Value("${exchange.server.read-timeout-millis:3000}")
+  private long readTimeoutMillis;
+
+  /**
+   * 주문 전송 (응답 제한 시간이 지나면 TimeoutException으로 완료)
+   */
+  public CompletableFuture<ExchangeOrderResponse> sendOrder(ExchangeNode node, ExchangeOrderRequest request) {
+    return getConnection(node)
+        .request(correlationId -> GatewayProtocol.encodeNewOrder(correlationId, request))
+        .orTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+        .thenApply(GatewayProtocol::decodeOrderResponse);
+  }
+
+  /**
+   * 주문 취소 전송
+   */
+  public CompletableFuture<ExchangeOrderCancelResponse> cancelOrder(ExchangeNode node, ExchangeOrderCancelRequest request) {
+    return getConnection(node)
+        .request(correlationId -> GatewayProtocol.encodeCancel(correlationId, request))
+        .orTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+        .thenApply(GatewayProtocol::decodeCancelResponse);
+  }
+
+  @PreDestroy
+  public void close() {
+    connections.values().forEach(connection -> connection.close(new IOException("Gateway client shutdown")));
+    connections.clear();
+  }
+
+  /**
+   * 노드 연결 조회 (없거나 끊긴 경우 새로 연결)
+   */
+  private GatewayConnection getConnection(ExchangeNode node) {
+    return connections.compute(node.nodeId(), (nodeId, connection) -> {
+      if (connection != null && !connection.isClosed()) {
+        return connection;
+      }
+      try {
+        return GatewayConnection.open(node.host(), node.gatewayPort(gatewayPortOffset), connectTimeoutMillis);
+      } catch (IOException e) {
+        log.error("Failed to connect exchange gateway: node={}, e={}, msg={}", nodeId, e.getClass(), e.getMessage());
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+}
@@ -0,0 +1,151 @@
+package edu.cnu.swacademy.security.gateway;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래소 게이트웨이 연결 하나
+ * 여러 요청 스레드가 응답을 기다리지 않고 같은 연결에 요청을 이어서 쓰고(파이프라인),
+ * 수신 스레드가 응답 프레임의 상관 ID로 대기 중인 요청을 찾아 완료합니다.
+ * 나뉘어 온 응답(이어지는 프레임)은 수신 스레드가 상관 ID별로 이어 붙인 뒤 완료합니다.
+ * 연결이 끊기면 대기 중인 요청을 모두 실패 처리하며(호출자가 거래소에 결과를 조회), 끊긴 연결은 다시 쓰지 않습니다.
+ */
+@Slf4j
+class GatewayConnection implements Runnable {
+
+  private final SocketChannel channel;
+  private final String address;
+  private final Object writeLock = new Object();
+  private final AtomicLong nextCorrelationId = new AtomicLong();
+  private final Map<Long, CompletableFuture<ByteBuffer>> pending = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  private GatewayConnection(SocketChannel channel, String address) {
+    this.channel = channel;
+    this.address = address;
+  }
+
+  static GatewayConnection open(String host, int port, int connectTimeoutMillis) throws IOException {
+    SocketChannel channel = SocketChannel.open();
+    try {
+      channel.socket().connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+      channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+
+    GatewayConnection connection = new GatewayConnection(channel, host + ":" + port);
+    Thread reader = new Thread(connection, "exchange-gateway-" + connection.address);
+    reader.setDaemon(true);
+    reader.start();
+    log.info("Exchange gateway connected: address={}", connection.address);
+    return connection;
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * 요청 프레임 전송 후 응답 본문을 기다리는 Future 반환
+   *
+   * @param encoder 상관 ID를 받아 요청 프레임을 만드는 함수
+   */
+  CompletableFuture<ByteBuffer> request(LongFunction<ByteBuffer> encoder) {
+    long correlationId = nextCorrelationId.incrementAndGet();
+    CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+    pending.put(correlationId, future);
+    future.whenComplete((body, e) -> pending.remove(correlationId));
+
+    ByteBuffer frame = encoder.apply(correlationId);
+    try {
+      synchronized (writeLock) {
+        while (frame.hasRemaining()) {
+          channel.write(frame);
+        }
+      }
+    } catch (IOException e) {
+      close(e);
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * 응답 수신 루프
+   */
+  @Override
+  public void run() {
+    ByteBuffer length = ByteBuffer.allocate(GatewayProtocol.LENGTH_SIZE);
+    // 상관 ID → 이어지는 프레임으로 먼저 받은 본문 조각 (수신 스레드만 접근)
+    Map<Long, ByteArrayOutputStream> fragments = new HashMap<>();
+    try {
+      while (!closed) {
+        readFully(length.clear());
+        int frameLength = length.getInt(0);
+        if (frameLength < GatewayProtocol.HEADER_SIZE || frameLength > GatewayProtocol.MAX_FRAME_SIZE) {
+          throw new IOException("Invalid gateway frame length: " + frameLength);
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(frameLength);
+        readFully(frame);
+        frame.flip();
+        byte type = frame.get(); // 응답 유형은 요청으로 정해지므로 이어지는 프레임만 구분
+        long correlationId = frame.getLong();
+        if (type == GatewayProtocol.TYPE_CONTINUATION) {
+          fragments.computeIfAbsent(correlationId, id -> new ByteArrayOutputStream())
+              .write(frame.array(), frame.position(), frame.remaining());
+          continue;
+        }
+
+        ByteArrayOutputStream head = fragments.remove(correlationId);
+        if (head != null) {
+          head.write(frame.array(), frame.position(), frame.remaining());
+          frame = ByteBuffer.wrap(head.toByteArray());
+        }
+        CompletableFuture<ByteBuffer> future = pending.get(correlationId);
+        if (future != null) {
+          future.complete(frame);
+        }
+      }
+    } catch (IOException e) {
+      close(e);
+    }
+  }
+
+  void close(Exception cause) {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    log.warn("Exchange gateway connection closed: address={}, e={}, msg={}", address, cause.getClass(), cause.getMessage());
+    try {
+      channel.close();
+    } catch (IOException e) {
+      log.warn("Failed to close exchange gateway connection: address={}, e={}, msg={}", address, e.getClass(), e.getMessage());
+    }
+    pending.values().forEach(future -> future.completeExceptionally(cause));
+  }
+
+  private void readFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new EOFException("Exchange gateway closed the connection");
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package edu.cnu.swacademy.security.gateway;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.cnu.swacademy.security.order.OrderSide;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelRequest;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelResponse;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderRequest;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderResponse;
+import edu.cnu.swacademy.security.order.dto.MakerOrderResponse;
+
+/**
+ * 거래소 주문 게이트웨이 바이너리 프로토콜
+ * 거래소 서버의 GatewayProtocol과 같은 레이아웃을 유지해야 합니다.
+ *
+ * 프레임: [길이(int)][유형(byte)][상관 ID(long)][본문] (길이는 자신을 제외한 바이트 수)
+ * 신규 주문: [주문 ID][종목 ID][가격][수량][방향(byte, BUY=0/SELL=1)][주문 시각 초(long)][주문 시각 나노(int)][하한가][상한가]
+ * 주문 취소: [주문 ID][종목 ID]
+ * 주문 응답: [결과(byte)][taker 주문 ID][마지막 체결 가격][총 체결 수량][maker 수] {[주문 ID][체결 수량][체결 가격]} [사유 길이(short)][사유(UTF-8)]
+ * 취소 응답: [결과(byte)][취소 수량]
+ *
+ * 최대 프레임 크기를 넘는 응답 본문은 이어지는 프레임(TYPE_CONTINUATION) 조각들과 원래 유형의 마지막 조각으로 나뉘어 오며,
+ * 수신 측이 같은 상관 ID의 조각을 이어 붙여 하나의 본문으로 읽습니다.
+ */
+public final class GatewayProtocol {
+
+  public static final byte TYPE_NEW_ORDER = 1;
+  public static final byte TYPE_CANCEL = 2;
+  public static final byte TYPE_ORDER_RESPONSE = 3;
+  public static final byte TYPE_CANCEL_RESPONSE = 4;
+  public static final byte TYPE_CONTINUATION = 5;
+
+  public static final byte RESULT_UNMATCHED = 0;
+  public static final byte RESULT_MATCHED = 1;
+  public static final byte RESULT_REJECTED = 2;
+  public static final byte RESULT_CANCELLED = 3;
+  public static final byte RESULT_OVERLOADED = 4;
+
+  public static final int LENGTH_SIZE = 4;
+  public static final int HEADER_SIZE = 1 + 8;
+  public static final int MAX_FRAME_SIZE = 64 * 1024;
+
+  private static final int NEW_ORDER_SIZE = 4 * 4 + 1 + 8 + 4 + 4 * 2;
+  private static final int CANCEL_SIZE = 4 * 2;
+
+  private GatewayProtocol() {
+  }
+
+  public static ByteBuffer encodeNewOrder(long correlationId, ExchangeOrderRequest request) {
+    ByteBuffer buffer = allocate(TYPE_NEW_ORDER, correlationId, NEW_ORDER_SIZE);
+    buffer.putInt(request.orderId())
+        .putInt(request.stockId())
+        .putInt(request.price())
+        .putInt(request.amount())
+        .put((byte) OrderSide.valueOf(request.side().toUpperCase()).ordinal())
+        .putLong(request.createdAt().toEpochSecond(ZoneOffset.UTC))
+        .putInt(request.createdAt().getNano())
+        .putInt(request.lowerLimitPrice())
+        .putInt(request.upperLimitPrice());
+    return buffer.flip();
+  }
+
+  public static ByteBuffer encodeCancel(long correlationId, ExchangeOrderCancelRequest request) {
+    ByteBuffer buffer = allocate(TYPE_CANCEL, correlationId, CANCEL_SIZE);
+    buffer.putInt(request.orderId()).putInt(request.stockId());
+    return buffer.flip();
+  }
+
+  /**
+   * 주문 응답 본문 디코딩 (버퍼 위치는 본문 시작)
+   * 체결되지 않은 응답의 정수 필드는 REST 응답과 같게 null로 돌려줍니다.
+   */
+  public static ExchangeOrderResponse decodeOrderResponse(ByteBuffer frame) {
+    byte result = frame.get();
+    int takerOrderId = frame.getInt();
+    int price = frame.getInt();
+    int totalMatchedAmount = frame.getInt();
+    int makerCount = frame.getInt();
+    List<MakerOrderResponse> makers = new ArrayList<>(makerCount);
+    for (int i = 0; i < makerCount; i++) {
+      makers.add(new MakerOrderResponse(frame.getInt(), frame.getInt(), frame.getInt()));
+    }
+    byte[] reason = new byte[frame.getShort()];
+    frame.get(reason);
+
+    return switch (result) {
+      case RESULT_MATCHED -> new ExchangeOrderResponse("Matched", takerOrderId, makers, price, totalMatchedAmount, null);
+      case RESULT_UNMATCHED -> new ExchangeOrderResponse("Unmatched", null, null, null, null, null);
+      case RESULT_CANCELLED -> new ExchangeOrderResponse("Cancelled", null, null, null, null, null);
+      case RESULT_OVERLOADED -> new ExchangeOrderResponse("Overloaded", null, null, null, null, new String(reason, StandardCharsets.UTF_8));
+      default -> new ExchangeOrderResponse("Rejected", null, null, null, null, new String(reason, StandardCharsets.UTF_8));
+    };
+  }
+
+  public static ExchangeOrderCancelResponse decodeCancelResponse(ByteBuffer frame) {
+    boolean cancelled = frame.get() == RESULT_CANCELLED;
+    int canceledAmount = frame.getInt();
+    return cancelled
+        ? new ExchangeOrderCancelResponse("Cancelled", canceledAmount)
+        : new ExchangeOrderCancelResponse("Rejected", null);
+  }
+
+  private static ByteBuffer allocate(byte type, long correlationId, int bodySize) {
+    ByteBuffer buffer = ByteBuffer.allocate(LENGTH_SIZE + HEADER_SIZE + bodySize);
+    return buffer.putInt(HEADER_SIZE + bodySize).put(type).putLong(correlationId);
+  }
+}
@@ -0,0 +1,513 @@
+package edu.cnu.swacademy.security.ledger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import edu.cnu.swacademy.security.common.ErrorCode;
+import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.queue.MappedQueue;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 전 리스크 원장
+ * 사용자별 현금과 (사용자, 종목)별 보유 수량, 묶인 금액/수량을 메모리에 두고 주문 접수 시 가용 잔고를 메모리에서 확인/예약합니다.
+ * 예약은 트랜잭션 커밋 직전에 원장 저널(메모리 매핑 파일)에 기록되고, 반영 스레드가 모아서 지갑 테이블에 일괄 반영합니다.
+ * 커밋 전에 기록하므로 DB 커밋 직후 종료되어도 예약을 잃지 않으며, 롤백되면 같은 양을 되돌리는 레코드를 이어서 기록합니다.
+ * (기록 후 커밋 전에 종료되면 예약이 묶인 채 남으므로, 가용 잔고를 과다 허용하지 않는 쪽으로만 어긋납니다.)
+ * 체결 정산, 취소, 입출금, 계좌 정지처럼 지갑 테이블을 직접 갱신하는 경로는 커밋 후 같은 변화량을 원장에 알립니다.
+ *
+ * 장 시작 시 지갑 테이블과 반영되지 않은 저널(반영 위치 이후 시퀀스)로 원장을 다시 만들고, 장 종료 시 저널을 모두 반영한 뒤 비웁니다.
+ * 저널 레코드: [시퀀스(long)][사용자 ID][종목 ID (현금은 0)][묶인 금액/수량 변화량(long)]
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskLedger {
+
+  private static final String JOURNAL_NAME = "ledger";
+  private static final int RECORD_SIZE = 8 + 4 + 4 + 8;
+  private static final int CASH = 0;
+  private static final long FLUSH_RETRY_BACKOFF_MILLIS = 100;
+
+  private final RiskLedgerRepository riskLedgerRepository;
+
+  private final Map<Integer, Account> cashAccounts = new ConcurrentHashMap<>();
+  private final Map<HoldingKey, Account> holdings = new ConcurrentHashMap<>();
+
+  @Value("${risk-ledger.enabled:false}")
+  private boolean enabled;
+
+  @Value("${risk-ledger.dir:./ledger}")
+  private String journalDir;
+
+  @Value("${risk-ledger.segment-size:16777216}")
+  private int segmentSize;
+
+  @Value("${risk-ledger.flush-max-records:1024}")
+  private int flushMaxRecords;
+
+  @Value("${risk-ledger.flush-interval-micros:1000}")
+  private long flushIntervalMicros;
+
+  @Value("${risk-ledger.flush-timeout-millis:3000}")
+  private long flushTimeoutMillis;
+
+  private volatile boolean active;
+  private volatile boolean flushing;
+  private Thread flusher;
+
+  // 저널과 마지막으로 발급한 시퀀스 (journalLock으로 보호)
+  private final Object journalLock = new Object();
+  private MappedQueue journal;
+  private long sequence;
+
+  private volatile long appendedSequence;
+  private volatile long flushedSequence;
+
+  /**
+   * 원장 사용 여부 (장 시작 후 적재되어 있을 때만 true)
+   */
+  public boolean isActive() {
+    return active;
+  }
+
+  /**
+   * 원장 적재 (장 시작 시 거래소 서버 기동 전에 호출)
+   * 지갑 테이블 스냅샷에 반영 위치 이후의 저널 레코드를 더해 원장을 복구하고 반영 스레드를 시작합니다.
+   */
+  public synchronized void load() {
+    if (!enabled || active) {
+      return;
+    }
+    cashAccounts.clear();
+    holdings.clear();
+    long checkpoint = riskLedgerRepository.loadSnapshot(cashAccounts, holdings);
+
+    MappedQueue opened = new MappedQueue(Path.of(journalDir), JOURNAL_NAME, segmentSize);
+    long lastSequence = checkpoint;
+    int replayed = 0;
+    MappedQueue.Tailer tailer = opened.tailer();
+    for (ByteBuffer record = tailer.poll(); record != null; record = tailer.poll()) {
+      long recordSequence = record.getLong();
+      int userId = record.getInt();
+      int stockId = record.getInt();
+      long depositDelta = record.getLong();
+      if (recordSequence > checkpoint) {
+        account(userId, stockId).apply(0, depositDelta);
+        replayed++;
+      }
+      lastSequence = Math.max(lastSequence, recordSequence);
+    }
+
+    synchronized (journalLock) {
+      journal = opened;
+      sequence = lastSequence;
+    }
+    appendedSequence = lastSequence;
+    flushedSequence = checkpoint;
+    flushing = true;
+    flusher = new Thread(() -> runFlusher(opened.tailer()), "risk-ledger-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+    active = true;
+
+    log.info("Risk ledger loaded: cash-accounts={}, holdings={}, checkpoint={}, replayed={}",
+        cashAccounts.size(), holdings.size(), checkpoint, replayed);
+  }
+
+  /**
+   * 원장 내리기 (장 종료 시 거래소 서버 종료 후 호출)
+   * 저널을 모두 반영했으면 저널 파일을 지우고, 반영하지 못했으면 다음 적재 때 다시 반영하도록 남겨 둡니다.
+   */
+  @PreDestroy
+  public synchronized void unload() {
+    if (!active) {
+      return;
+    }
+    active = false;
+
+    boolean flushed = true;
+    try {
+      awaitFlushed(appendedSequence);
+    } catch (IllegalStateException e) {
+      flushed = false;
+      log.warn("Risk ledger unloaded with unflushed journal: appended={}, flushed={}", appendedSequence, flushedSequence);
+    }
+
+    flushing = false;
+    flusher.interrupt();
+    try {
+      flusher.join(flushTimeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    synchronized (journalLock) {
+      journal.close();
+      journal = null;
+    }
+    if (flushed) {
+      deleteJournal();
+    }
+    cashAccounts.clear();
+    holdings.clear();
+    log.info("Risk ledger unloaded: flushed-sequence={}", flushedSequence);
+  }
+
+  /**
+   * 매수 주문 금액 예약 (트랜잭션 안에서 호출, 커밋 직전 저널에 기록되고 롤백 시 해제)
+   */
+  public void reserveCash(int userId, long amount) throws SecurityException {
+    Account account = cashAccounts.get(userId);
+    if (account == null) {
+      throw new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND);
+    }
+    account.reserve(amount, ErrorCode.CASH_WALLET_BLOCKED);
+    pending().cashReservations.merge(userId, amount, Long::sum);
+  }
+
+  /**
+   * 매도 주문 수량 예약 (트랜잭션 안에서 호출, 커밋 직전 저널에 기록되고 롤백 시 해제)
+   */
+  public void reserveHolding(int userId, int stockId, long quantity) throws SecurityException {
+    HoldingKey key = new HoldingKey(userId, stockId);
+    Account account = holdings.get(key);
+    if (account == null) {
+      throw new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND);
+    }
+    account.reserve(quantity, ErrorCode.STOCK_WALLET_BLOCKED);
+    pending().holdingReservations.merge(key, quantity, Long::sum);
+  }
+
+  /**
+   * 같은 트랜잭션에서 예약한 매수 금액 해제 (거래소 거절 시)
+   *
+   * @return 원장에서 예약한 금액이 아니면 false (지갑 테이블에서 해제해야 함)
+   */
+  public boolean releaseCash(int userId, long amount) {
+    PendingReservations pending = (PendingReservations) TransactionSynchronizationManager.getResource(this);
+    if (pending == null || pending.cashReservations.getOrDefault(userId, 0L) < amount) {
+      return false;
+    }
+    pending.cashReservations.merge(userId, -amount, Long::sum);
+    apply(cashAccounts.get(userId), 0, -amount);
+    return true;
+  }
+
+  /**
+   * 같은 트랜잭션에서 예약한 매도 수량 해제 (거래소 거절 시)
+   *
+   * @return 원장에서 예약한 수량이 아니면 false (지갑 테이블에서 해제해야 함)
+   */
+  public boolean releaseHolding(int userId, int stockId, long quantity) {
+    HoldingKey key = new HoldingKey(userId, stockId);
+    PendingReservations pending = (PendingReservations) TransactionSynchronizationManager.getResource(this);
+    if (pending == null || pending.holdingReservations.getOrDefault(key, 0L) < quantity) {
+      return false;
+    }
+    pending.holdingReservations.merge(key, -quantity, Long::sum);
+    apply(holdings.get(key), 0, -quantity);
+    return true;
+  }
+
+  /**
+   * 현금 출금 (가용 금액을 원장에서 확인/차감하며, 지갑 테이블은 호출한 쪽이 갱신하고 롤백 시 되돌림)
+   */
+  public void withdrawCash(int userId, long amount) throws SecurityException {
+    if (!active) {
+      return;
+    }
+    Account account = cashAccounts.get(userId);
+    if (account == null) {
+      throw new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND);
+    }
+    account.withdraw(amount, ErrorCode.CASH_WALLET_BLOCKED);
+    pending().withdrawals.merge(userId, amount, Long::sum);
+  }
+
+  /**
+   * 지갑 테이블에 직접 반영한 현금 지갑 변화량 알림 (트랜잭션 안이면 커밋 후 반영)
+   */
+  public void applyCash(int userId, long reserveDelta, long depositDelta) {
+    afterCommit(() -> account(userId, CASH).apply(reserveDelta, depositDelta));
+  }
+
+  /**
+   * 지갑 테이블에 직접 반영한 종목 지갑 변화량 알림 (트랜잭션 안이면 커밋 후 반영)
+   */
+  public void applyHolding(int userId, int stockId, long reserveDelta, long depositDelta) {
+    afterCommit(() -> account(userId, stockId).apply(reserveDelta, depositDelta));
+  }
+
+  /**
+   * 현금 지갑 정지/해제 알림
+   */
+  public void setCashBlocked(int userId, boolean blocked) {
+    afterCommit(() -> account(userId, CASH).setBlocked(blocked));
+  }
+
+  /**
+   * 종목 지갑 정지/해제 알림
+   */
+  public void setHoldingBlocked(int userId, int stockId, boolean blocked) {
+    afterCommit(() -> account(userId, stockId).setBlocked(blocked));
+  }
+
+  /**
+   * 지금까지 기록된 예약이 지갑 테이블에 반영될 때까지 대기
+   * 묶인 금액/수량을 줄이는 경로(체결 정산, 취소)가 아직 반영되지 않은 예약보다 먼저 지갑 테이블을 갱신하지 않도록 합니다.
+   *
+   * @throws IllegalStateException 반영 제한 시간 초과
+   */
+  public void awaitFlushed() {
+    if (active) {
+      awaitFlushed(appendedSequence);
+    }
+  }
+
+  private void awaitFlushed(long target) {
+    long deadline = System.nanoTime() + flushTimeoutMillis * 1_000_000;
+    while (flushedSequence < target) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("Risk ledger flush timed out: target=" + target + ", flushed=" + flushedSequence);
+      }
+      LockSupport.parkNanos(flushIntervalMicros * 1_000);
+    }
+  }
+
+  private Account account(int userId, int stockId) {
+    return stockId == CASH
+        ? cashAccounts.computeIfAbsent(userId, key -> new Account(0, 0, false))
+        : holdings.computeIfAbsent(new HoldingKey(userId, stockId), key -> new Account(0, 0, false));
+  }
+
+  /**
+   * 예약 해제/롤백 반영 (그사이 원장을 내렸으면 무시)
+   */
+  private static void apply(Account account, long reserveDelta, long depositDelta) {
+    if (account != null) {
+      account.apply(reserveDelta, depositDelta);
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!active) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        if (active) {
+          action.run();
+        }
+      }
+    });
+  }
+
+  private PendingReservations pending() {
+    PendingReservations pending = (PendingReservations) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+        throw new IllegalStateException("Risk ledger reservation requires an active transaction");
+      }
+      pending = new PendingReservations();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    return pending;
+  }
+
+  /**
+   * 저널 기록 (시퀀스 순서와 저널 순서가 같도록 잠금 안에서 발급)
+   */
+  private void append(int userId, int stockId, long depositDelta) {
+    synchronized (journalLock) {
+      if (journal == null) {
+        log.warn("Risk ledger reservation journaled after unload: user-id={}, stock-id={}, delta={}", userId, stockId, depositDelta);
+        return;
+      }
+      long recordSequence = ++sequence;
+      ByteBuffer frame = ByteBuffer.allocate(4 + RECORD_SIZE)
+          .putInt(RECORD_SIZE)
+          .putLong(recordSequence)
+          .putInt(userId)
+          .putInt(stockId)
+          .putLong(depositDelta)
+          .flip();
+      journal.append(frame);
+      appendedSequence = recordSequence;
+    }
+  }
+
+  /**
+   * 반영 루프 (쌓인 레코드를 지갑별로 합산하여 한 트랜잭션으로 반영, 실패하면 합산분을 유지한 채 재시도)
+   */
+  private void runFlusher(MappedQueue.Tailer tailer) {
+    Map<Integer, Long> cashDeposits = new HashMap<>();
+    Map<HoldingKey, Long> stockDeposits = new HashMap<>();
+    long lastSequence = flushedSequence;
+    int records = 0;
+
+    while (flushing) {
+      ByteBuffer record = records < flushMaxRecords ? tailer.poll() : null;
+      if (record != null) {
+        long recordSequence = record.getLong();
+        int userId = record.getInt();
+        int stockId = record.getInt();
+        long depositDelta = record.getLong();
+        if (recordSequence > lastSequence) {
+          if (stockId == CASH) {
+            cashDeposits.merge(userId, depositDelta, Long::sum);
+          } else {
+            stockDeposits.merge(new HoldingKey(userId, stockId), depositDelta, Long::sum);
+          }
+          lastSequence = recordSequence;
+          records++;
+        }
+        continue;
+      }
+
+      if (records == 0) {
+        LockSupport.parkNanos(flushIntervalMicros * 1_000);
+        continue;
+      }
+      try {
+        cashDeposits.values().removeIf(delta -> delta == 0);
+        stockDeposits.values().removeIf(delta -> delta == 0);
+        riskLedgerRepository.flush(cashDeposits, stockDeposits, lastSequence);
+        flushedSequence = lastSequence;
+        cashDeposits.clear();
+        stockDeposits.clear();
+        records = 0;
+      } catch (Exception e) {
+        log.warn("Failed to flush risk ledger: records={}, sequence={}, e={}, msg={}",
+            records, lastSequence, e.getClass(), e.getMessage());
+        LockSupport.parkNanos(FLUSH_RETRY_BACKOFF_MILLIS * 1_000_000);
+      }
+    }
+  }
+
+  private void deleteJournal() {
+    try (Stream<Path> files = Files.list(Path.of(journalDir))) {
+      for (Path file : files.filter(path -> path.getFileName().toString().startsWith(JOURNAL_NAME + "-")).toList()) {
+        Files.delete(file);
+      }
+    } catch (IOException e) {
+      log.warn("Failed to delete risk ledger journal: dir={}, e={}, msg={}", journalDir, e.getClass(), e.getMessage());
+    }
+  }
+
+  record HoldingKey(int userId, int stockId) {
+  }
+
+  /**
+   * 지갑 하나의 원장 잔고 (reserve: 보유, deposit: 주문에 묶인 금액/수량)
+   */
+  static final class Account {
+
+    private long reserve;
+    private long deposit;
+    private boolean blocked;
+
+    Account(long reserve, long deposit, boolean blocked) {
+      this.reserve = reserve;
+      this.deposit = deposit;
+      this.blocked = blocked;
+    }
+
+    synchronized void reserve(long amount, ErrorCode blockedError) throws SecurityException {
+      if (blocked) {
+        throw new SecurityException(blockedError);
+      }
+      if (reserve - deposit < amount) {
+        throw new SecurityException(ErrorCode.INSUFFICIENT_BALANCE);
+      }
+      deposit += amount;
+    }
+
+    synchronized void withdraw(long amount, ErrorCode blockedError) throws SecurityException {
+      if (blocked) {
+        throw new SecurityException(blockedError);
+      }
+      if (reserve - deposit < amount) {
+        throw new SecurityException(ErrorCode.INSUFFICIENT_BALANCE);
+      }
+      reserve -= amount;
+    }
+
+    synchronized void apply(long reserveDelta, long depositDelta) {
+      reserve += reserveDelta;
+      deposit += depositDelta;
+    }
+
+    synchronized void setBlocked(boolean blocked) {
+      this.blocked = blocked;
+    }
+  }
+
+  /**
+   * 트랜잭션 하나에서 원장에 예약/출금한 양
+   * 커밋 직전에 예약을 저널에 기록하고(기록에 실패하면 커밋하지 않음), 롤백되면 메모리 원장을 되돌리고 기록한 예약을 상쇄하는 레코드를 기록합니다.
+   * 커밋 여부를 알 수 없으면 예약을 묶어 둔 채 남깁니다.
+   */
+  private final class PendingReservations implements TransactionSynchronization {
+
+    private final Map<Integer, Long> cashReservations = new HashMap<>();
+    private final Map<HoldingKey, Long> holdingReservations = new HashMap<>();
+    private final Map<Integer, Long> withdrawals = new HashMap<>();
+
+    // 커밋 직전 저널에 기록한 예약 (롤백 시 상쇄 대상)
+    private final Map<Integer, Long> journaledCash = new HashMap<>();
+    private final Map<HoldingKey, Long> journaledHoldings = new HashMap<>();
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      cashReservations.forEach((userId, amount) -> {
+        if (amount != 0) {
+          append(userId, CASH, amount);
+          journaledCash.put(userId, amount);
+        }
+      });
+      holdingReservations.forEach((key, quantity) -> {
+        if (quantity != 0) {
+          append(key.userId(), key.stockId(), quantity);
+          journaledHoldings.put(key, quantity);
+        }
+      });
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(RiskLedger.this);
+      if (status == STATUS_COMMITTED) {
+        return;
+      }
+      if (status == STATUS_UNKNOWN) {
+        log.warn("Risk ledger reservation kept for unknown transaction outcome: cash={}, holdings={}", cashReservations, holdingReservations);
+        return;
+      }
+      journaledCash.forEach((userId, amount) -> append(userId, CASH, -amount));
+      journaledHoldings.forEach((key, quantity) -> append(key.userId(), key.stockId(), -quantity));
+      cashReservations.forEach((userId, amount) -> apply(cashAccounts.get(userId), 0, -amount));
+      holdingReservations.forEach((key, quantity) -> apply(holdings.get(key), 0, -quantity));
+      withdrawals.forEach((userId, amount) -> apply(cashAccounts.get(userId), amount, 0));
+    }
+  }
+}
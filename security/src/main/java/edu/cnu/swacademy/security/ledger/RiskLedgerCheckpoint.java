@@ -0,0 +1,28 @@
+package edu.cnu.swacademy.security.ledger;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리스크 원장 반영 위치
+ * 지갑 테이블에 반영을 마친 마지막 원장 저널 시퀀스이며, 지갑 UPDATE와 같은 트랜잭션에서 갱신됩니다.
+ */
+@Getter
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@Table(name = "risk_ledger_checkpoint")
+@Entity
+public class RiskLedgerCheckpoint {
+
+  public static final int ID = 1;
+
+  @Id
+  @Column(columnDefinition = "INT UNSIGNED")
+  private int id;
+
+  @Column(nullable = false, columnDefinition = "BIGINT UNSIGNED DEFAULT 0")
+  private long flushedSequence;
+}
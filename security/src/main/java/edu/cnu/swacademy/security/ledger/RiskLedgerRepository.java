@@ -0,0 +1,73 @@
+package edu.cnu.swacademy.security.ledger;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import edu.cnu.swacademy.security.ledger.RiskLedger.Account;
+import edu.cnu.swacademy.security.ledger.RiskLedger.HoldingKey;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리스크 원장 저장소
+ * 장 시작 시 지갑 테이블을 한 스냅샷으로 읽고, 원장 저널의 예약 변화량을 지갑 테이블에 일괄 반영합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+class RiskLedgerRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 지갑 스냅샷 조회 (반영 위치와 지갑 잔액을 같은 스냅샷에서 읽음)
+   *
+   * @return 스냅샷 시점의 반영 위치
+   */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public long loadSnapshot(Map<Integer, Account> cashAccounts, Map<HoldingKey, Account> holdings) {
+    List<Long> checkpoint = jdbcTemplate.queryForList(
+        "SELECT flushed_sequence FROM risk_ledger_checkpoint WHERE id = ?", Long.class, RiskLedgerCheckpoint.ID);
+    jdbcTemplate.query(
+        "SELECT user_id, reserve, deposit, is_blocked FROM cash_wallet WHERE deleted_at IS NULL",
+        rs -> {
+          cashAccounts.put(rs.getInt("user_id"),
+              new Account(rs.getLong("reserve"), rs.getLong("deposit"), rs.getBoolean("is_blocked")));
+        });
+    jdbcTemplate.query(
+        "SELECT user_id, stock_id, reserve, deposit, is_blocked FROM stock_wallet WHERE deleted_at IS NULL",
+        rs -> {
+          holdings.put(new HoldingKey(rs.getInt("user_id"), rs.getInt("stock_id")),
+              new Account(rs.getLong("reserve"), rs.getLong("deposit"), rs.getBoolean("is_blocked")));
+        });
+    return checkpoint.isEmpty() ? 0 : checkpoint.get(0);
+  }
+
+  /**
+   * 묶인 금액/수량 변화량 반영 및 반영 위치 갱신
+   */
+  @Transactional(rollbackFor = Exception.class)
+  public void flush(Map<Integer, Long> cashDeposits, Map<HoldingKey, Long> stockDeposits, long sequence) {
+    if (!cashDeposits.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          "UPDATE cash_wallet SET deposit = deposit + ? WHERE user_id = ? AND deleted_at IS NULL",
+          cashDeposits.entrySet().stream()
+              .map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+              .toList());
+    }
+    if (!stockDeposits.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          "UPDATE stock_wallet SET deposit = deposit + ? WHERE user_id = ? AND stock_id = ? AND deleted_at IS NULL",
+          stockDeposits.entrySet().stream()
+              .map(entry -> new Object[] {entry.getValue(), entry.getKey().userId(), entry.getKey().stockId()})
+              .toList());
+    }
+    jdbcTemplate.update(
+        "INSERT INTO risk_ledger_checkpoint (id, flushed_sequence) VALUES (?, ?) "
+            + "ON DUPLICATE KEY UPDATE flushed_sequence = VALUES(flushed_sequence)",
+        RiskLedgerCheckpoint.ID, sequence);
+  }
+}
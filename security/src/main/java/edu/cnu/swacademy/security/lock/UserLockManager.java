@@ -0,0 +1,113 @@
+package edu.cnu.swacademy.security.lock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import edu.cnu.swacademy.security.common.ErrorCode;
+import edu.cnu.swacademy.security.common.SecurityException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 단위 잠금 관리자
+ * 지갑 행에 비관적 락을 거는 대신, 같은 사용자의 지갑을 갱신하는 트랜잭션을 메모리의 줄무늬 잠금으로 직렬화합니다.
+ * 사용자 ID를 줄무늬 수로 나눈 나머지로 잠금을 고르며, 잠금은 트랜잭션이 끝난 뒤(커밋 또는 롤백) 풀립니다.
+ *
+ * 여러 사용자를 잠글 때는 줄무늬 번호 순서로 잠그므로 교착 상태가 생기지 않습니다.
+ * 트랜잭션 하나에서는 한 번만 잠가야 합니다 (이미 잡은 줄무늬보다 작은 번호를 나중에 잡으면 순서가 깨짐).
+ */
+@Slf4j
+@Component
+public class UserLockManager {
+
+  private ReentrantLock[] stripes;
+
+  @Value("${user-lock.stripes:1024}")
+  private int stripeCount;
+
+  @Value("${user-lock.timeout-millis:3000}")
+  private long timeoutMillis;
+
+  @PostConstruct
+  public void init() {
+    stripes = new ReentrantLock[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * 사용자 한 명 잠금 (트랜잭션 안에서 호출)
+   *
+   * @throws SecurityException 제한 시간 안에 잠그지 못한 경우 발생
+   */
+  public void lock(int userId) throws SecurityException {
+    lockAll(List.of(userId));
+  }
+
+  /**
+   * 여러 사용자 잠금 (줄무늬 번호 순서, 트랜잭션 안에서 호출)
+   *
+   * @throws SecurityException 제한 시간 안에 잠그지 못한 경우 발생 (이미 잡은 잠금은 트랜잭션 종료 시 해제)
+   */
+  public void lockAll(Collection<Integer> userIds) throws SecurityException {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("User lock requires an active transaction");
+    }
+    TreeSet<Integer> indexes = new TreeSet<>();
+    for (int userId : userIds) {
+      indexes.add(Math.floorMod(userId, stripeCount));
+    }
+
+    HeldStripes held = heldStripes();
+    for (int index : indexes) {
+      if (held.indexes.contains(index)) {
+        continue;
+      }
+      try {
+        if (!stripes[index].tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+          log.warn("User lock timed out: stripe={}, user-ids={}", index, userIds);
+          throw new SecurityException(ErrorCode.USER_LOCK_TIMEOUT);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SecurityException(ErrorCode.USER_LOCK_TIMEOUT, e);
+      }
+      held.indexes.add(index);
+    }
+  }
+
+  private HeldStripes heldStripes() {
+    HeldStripes held = (HeldStripes) TransactionSynchronizationManager.getResource(this);
+    if (held == null) {
+      held = new HeldStripes();
+      TransactionSynchronizationManager.bindResource(this, held);
+      TransactionSynchronizationManager.registerSynchronization(held);
+    }
+    return held;
+  }
+
+  /**
+   * 트랜잭션 하나가 잡은 줄무늬 (트랜잭션 종료 시 역순으로 해제)
+   */
+  private final class HeldStripes implements TransactionSynchronization {
+
+    private final TreeSet<Integer> indexes = new TreeSet<>();
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(UserLockManager.this);
+      for (int index : indexes.descendingSet()) {
+        stripes[index].unlock();
+      }
+    }
+  }
+}
@@ -3,13 +3,21 @@ package edu.cnu.swacademy.security.market;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import edu.cnu.swacademy.security.ledger.RiskLedger;
 import edu.cnu.swacademy.security.market.dto.PriceCalculationResult;
+import edu.cnu.swacademy.security.order.ExchangeTransport;
+import edu.cnu.swacademy.security.partition.ExchangeNode;
+import edu.cnu.swacademy.security.partition.PartitionService;
+import edu.cnu.swacademy.security.partition.PartitionTable;
+import edu.cnu.swacademy.security.queue.OrderQueueClient;
 import edu.cnu.swacademy.security.stock.Stock;
 import edu.cnu.swacademy.security.stock.StockRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
 import edu.cnu.swacademy.security.common.ErrorCode;
 import edu.cnu.swacademy.security.common.SecurityException;
@@ -27,16 +35,27 @@ public class MarketService {
   private final PriceCalculationService priceCalculationService;
   private final MarketStatusRepository marketStatusRepository;
   private final StockRepository stockRepository;
+  private final RestTemplate restTemplate;
+  private final PartitionTable partitionTable;
+  private final PartitionService partitionService;
+  private final OrderQueueClient orderQueueClient;
+  private final RiskLedger riskLedger;
 
-  // 거래소 서버 프로세스 상태 관리
+  // 거래소 서버 프로세스 상태 관리 (노드별 프로세스)
   private LocalDateTime openedAt;
-  private Process exchangeServerProcess;
+  private final List<Process> exchangeServerProcesses = new ArrayList<>();
 
   @Value("${exchange.server.jar-path}")
   private String exchangeServerJarPath;
 
-  @Value("${exchange.server.port}")
-  private int exchangeServerPort;
+  @Value("${exchange.server.shards:2}")
+  private int exchangeShardCount;
+
+  @Value("${exchange.server.transport:HTTP}")
+  private ExchangeTransport transport;
+
+  @Value("${exchange.server.gateway-port-offset:1000}")
+  private int gatewayPortOffset;
 
   @Value("${spring.data.redis.host}")
   private String redisHost;
@@ -58,10 +77,17 @@ public class MarketService {
       throw new SecurityException(ErrorCode.MARKET_ALREADY_OPEN);
     }
 
-    // 2. 거래소 서버 프로세스 시작
-    startExchangeServer();
+    // 2. 리스크 원장 적재 (지갑 테이블 + 반영되지 않은 원장 저널)
+    riskLedger.load();
 
-    // 3. 상태 업데이트
+    // 3. 종목별 담당 노드 배정 후 노드마다 거래소 서버 프로세스 시작
+    exchangeServerProcesses.clear();
+    partitionTable.load(stockRepository.findAll().stream().map(Stock::getId).toList());
+    for (ExchangeNode node : partitionTable.getNodes()) {
+      startExchangeServer(node);
+    }
+
+    // 4. 상태 업데이트
     openedAt = LocalDateTime.now();
 
     log.info("Market opened successfully at {}", openedAt);
@@ -78,8 +104,18 @@ public class MarketService {
    * @throws SecurityException 이미 종료된 경우 발생
    */
   public MarketCloseResponse closeMarket() throws SecurityException {
-    // 1. 거래소 서버 프로세스 종료
+    // 1. 예약된 종목 이관과 노드별 오더북 스냅샷 기록 후 거래소 서버 프로세스 종료
+    if (isMarketRunning()) {
+      partitionService.rebalance();
+      for (ExchangeNode node : partitionTable.getNodes()) {
+        requestExchangeSnapshot(node);
+      }
+    }
     shutdownExchangeServer();
+    if (transport == ExchangeTransport.QUEUE) {
+      orderQueueClient.reset(partitionTable.getNodes());
+    }
+    riskLedger.unload();
 
     // 2. 당일 거래 결과 기반으로 모든 종목의 다음 거래일 기준가, 상한가, 하한가 계산 및 저장
     LocalDateTime closedAt = LocalDateTime.now();
@@ -91,14 +127,30 @@ public class MarketService {
     return new MarketCloseResponse(EngineStatus.STOPPED, openedAt);
   }
 
+  /**
+   * 거래소 오더북 스냅샷 요청
+   * 다음 기동 시 저널 전체를 재생하지 않도록 종료 직전의 오더북을 스냅샷으로 남깁니다.
+   * 실패해도 저널로 복구할 수 있으므로 장 종료는 계속 진행합니다.
+   */
+  private void requestExchangeSnapshot(ExchangeNode node) {
+    String url = node.baseUrl() + "/api/v1/market/snapshot";
+    try {
+      restTemplate.postForEntity(url, null, Void.class);
+      log.info("Exchange order book snapshot written. node : {}", node.nodeId());
+    } catch (Exception e) {
+      log.warn("Failed to request exchange snapshot. node : {}, e : {}, msg : {}", node.nodeId(), e.getClass(), e.getMessage());
+    }
+  }
+
   /**
    * 거래소 서버 프로세스 시작
-   * Exchange 서버 Spring Boot 애플리케이션 프로세스를 실행합니다.
+   * 노드 하나의 Exchange 서버 Spring Boot 애플리케이션 프로세스를 실행합니다.
+   * 같은 장비에서 여러 노드를 띄울 수 있도록 노드마다 포트(HTTP, 주문 게이트웨이)와 저널 디렉토리를 분리합니다.
    * 
    * @throws SecurityException 서버 시작 실패 시 발생
    */
-  private void startExchangeServer() throws SecurityException {
-    log.info("Starting exchange server process.");
+  private void startExchangeServer(ExchangeNode node) throws SecurityException {
+    log.info("Starting exchange server process. node : {}, port : {}", node.nodeId(), node.port());
     
     try {
       // ProcessBuilder를 사용하여 exchange 서버 실행
@@ -106,7 +158,12 @@ public class MarketService {
           "java", 
           "-jar",
           exchangeServerJarPath,
-          "--server.port=" + exchangeServerPort
+          "--server.port=" + node.port(),
+          "--exchange.gateway.port=" + node.gatewayPort(gatewayPortOffset),
+          "--exchange.engine.shards=" + exchangeShardCount, // 주문 라우팅과 같은 샤드 수
+          "--exchange.engine.journal.dir=./journal/node-" + node.nodeId(),
+          "--exchange.queue.enabled=" + (transport == ExchangeTransport.QUEUE),
+          "--exchange.queue.dir=" + orderQueueClient.getQueueDir(node)
       );
       
       // Redis 환경 변수 설정
@@ -114,7 +171,8 @@ public class MarketService {
       processBuilder.environment().put("REDIS_PORT", String.valueOf(redisPort));
       
       // 프로세스 실행
-      exchangeServerProcess = processBuilder.start();
+      Process exchangeServerProcess = processBuilder.start();
+      exchangeServerProcesses.add(exchangeServerProcess);
       
       // 프로세스가 정상적으로 시작되었는지 확인
       if (exchangeServerProcess.isAlive()) {
@@ -155,7 +213,7 @@ public class MarketService {
    * @return 현재 거래소 서버 프로세스 상태
    */
   public boolean isMarketRunning() {
-    return exchangeServerProcess != null && exchangeServerProcess.isAlive();
+    return exchangeServerProcesses.stream().anyMatch(Process::isAlive);
   }
 
   /**
@@ -179,21 +237,24 @@ public class MarketService {
       throw new SecurityException(ErrorCode.MARKET_ALREADY_CLOSED);
     }
     
-    log.info("Shutting down exchange server process");
+    log.info("Shutting down exchange server processes. count : {}", exchangeServerProcesses.size());
     
-    exchangeServerProcess.destroy();
+    exchangeServerProcesses.forEach(Process::destroy);
     
     // 프로세스가 정상적으로 종료될 때까지 대기
-    try {
-      boolean terminated = exchangeServerProcess.waitFor(10, java.util.concurrent.TimeUnit.SECONDS);
-      if (!terminated) {
-        log.warn("Exchange server process did not terminate gracefully, forcing shutdown");
+    for (Process exchangeServerProcess : exchangeServerProcesses) {
+      try {
+        boolean terminated = exchangeServerProcess.waitFor(10, java.util.concurrent.TimeUnit.SECONDS);
+        if (!terminated) {
+          log.warn("Exchange server process did not terminate gracefully, forcing shutdown");
+          exchangeServerProcess.destroyForcibly(); // 강제 종료
+        }
+      } catch (Exception e) {
+        log.error("Exception occurred while waiting for exchange server process to terminate. e : {}, msg : {}", e.getClass(), e.getMessage());
         exchangeServerProcess.destroyForcibly(); // 강제 종료
       }
-    } catch (Exception e) {
-      log.error("Exception occurred while waiting for exchange server process to terminate. e : {}, msg : {}", e.getClass(), e.getMessage());
-      exchangeServerProcess.destroyForcibly(); // 강제 종료
     }
+    exchangeServerProcesses.clear();
     
     log.info("Exchange server process terminated.");
   }
@@ -0,0 +1,10 @@
+package edu.cnu.swacademy.security.order;
+
+/**
+ * 거래소 주문 전송 방식
+ */
+public enum ExchangeTransport {
+    HTTP, // REST 주문 API (요청마다 JSON 변환)
+    TCP,  // 주문 게이트웨이 (노드별 지속 연결, 바이너리 프레임 파이프라인)
+    QUEUE // 주문 큐 (로컬 디스크의 메모리 매핑 파일, 거래소 재시작 시 재처리)
+}
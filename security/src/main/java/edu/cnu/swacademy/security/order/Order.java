@@ -52,6 +52,10 @@ public class Order extends BaseEntity {
   @Column(nullable = false, columnDefinition = "INT UNSIGNED DEFAULT 0")
   private int canceledAmount;
 
+  // 거래소에서 체결되었지만 아직 정산되지 않은 수량 (미체결 수량에 포함)
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED DEFAULT 0")
+  private int unsettledAmount;
+
   public Order(User user, Stock stock, OrderSide side, int price, int amount, int unfilledAmount) {
     this.user = user;
     this.stock = stock;
@@ -60,14 +64,37 @@ public class Order extends BaseEntity {
     this.amount = amount;
     this.unfilledAmount = unfilledAmount;
     this.canceledAmount = 0;
+    this.unsettledAmount = 0;
   }
 
   public void updateMatch(int matchedAmount) {
     this.unfilledAmount -= matchedAmount;
   }
 
+  /**
+   * 체결 접수 (taker 주문의 체결 수량을 정산 대기로 표시)
+   */
+  public void startSettlement(int matchedAmount) {
+    this.unsettledAmount += matchedAmount;
+  }
+
+  /**
+   * 체결 정산 완료 (taker 주문)
+   */
+  public void settle(int matchedAmount) {
+    this.unfilledAmount -= matchedAmount;
+    this.unsettledAmount -= matchedAmount;
+  }
+
   public void cancel() {
-    this.canceledAmount = unfilledAmount;
-    this.unfilledAmount = 0;
+    cancel(unfilledAmount);
+  }
+
+  /**
+   * 부분 취소 (정산 대기 중인 체결 수량은 미체결 수량에 남김)
+   */
+  public void cancel(int canceledAmount) {
+    this.canceledAmount = canceledAmount;
+    this.unfilledAmount -= canceledAmount;
   }
 }
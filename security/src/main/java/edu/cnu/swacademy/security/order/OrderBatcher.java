@@ -0,0 +1,173 @@
+package edu.cnu.swacademy.security.order;
+
+import edu.cnu.swacademy.security.common.ErrorCode;
+import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderBatchItem;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderBatchResult;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderRequest;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderResponse;
+import edu.cnu.swacademy.security.partition.ExchangeNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래소 주문 묶음 전송기
+ * 짧은 시간 창 안에 들어온 주문을 노드별로 모아 일괄 주문 API 한 번으로 전송합니다.
+ * 첫 주문이 들어온 뒤 시간 창이 지나거나 최대 건수가 차면 전송하며, 결과는 주문별 Future로 돌려줍니다.
+ * 대기열과 전송 스레드 수에 한도를 두어, 거래소가 밀려도 주문과 스레드가 쌓이지 않고 과부하로 거부됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBatcher implements Runnable {
+
+    private final RestTemplate restTemplate;
+
+    private BlockingQueue<PendingOrder> queue;
+    private ThreadPoolExecutor sender;
+    private Thread collector;
+    private volatile boolean running;
+
+    @Value("${exchange.server.batch.window-micros:200}")
+    private long windowMicros;
+
+    @Value("${exchange.server.batch.max-size:64}")
+    private int maxSize;
+
+    @Value("${exchange.server.batch.queue-capacity:4096}")
+    private int queueCapacity;
+
+    @Value("${exchange.server.batch.sender-threads:8}")
+    private int senderThreads;
+
+    @Value("${exchange.server.batch.sender-queue-capacity:64}")
+    private int senderQueueCapacity;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(senderQueueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "exchange-batch-sender");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        running = true;
+        collector = new Thread(this, "exchange-batch-collector");
+        collector.setDaemon(true);
+        collector.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        collector.interrupt();
+        sender.shutdown();
+    }
+
+    /**
+     * 주문을 다음 묶음에 추가
+     *
+     * @throws SecurityException 묶음 대기열이 가득 찬 경우 발생
+     */
+    public CompletableFuture<ExchangeOrderResponse> submit(ExchangeNode node, ExchangeOrderRequest request) throws SecurityException {
+        CompletableFuture<ExchangeOrderResponse> future = new CompletableFuture<>();
+        if (!queue.offer(new PendingOrder(node, request, future))) {
+            log.warn("Order batch queue full: orderId={}, capacity={}", request.orderId(), queueCapacity);
+            throw new SecurityException(ErrorCode.EXCHANGE_SERVER_OVERLOADED);
+        }
+        return future;
+    }
+
+    /**
+     * 묶음 수집 루프
+     */
+    @Override
+    public void run() {
+        List<PendingOrder> batch = new ArrayList<>(maxSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowMicros * 1_000;
+                while (batch.size() < maxSize) {
+                    PendingOrder order = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (order == null) {
+                        break;
+                    }
+                    batch.add(order);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            Map<ExchangeNode, List<PendingOrder>> byNode = new LinkedHashMap<>();
+            for (PendingOrder order : batch) {
+                byNode.computeIfAbsent(order.node(), node -> new ArrayList<>()).add(order);
+            }
+            byNode.forEach(this::dispatch);
+            batch = new ArrayList<>(maxSize);
+        }
+    }
+
+    /**
+     * 전송 스레드에 묶음 전달 (전송 대기열이 가득 차면 묶음의 주문을 모두 과부하로 거부)
+     */
+    private void dispatch(ExchangeNode node, List<PendingOrder> orders) {
+        try {
+            sender.execute(() -> send(node, orders));
+        } catch (RejectedExecutionException e) {
+            log.warn("Order batch sender saturated: node={}, size={}", node.nodeId(), orders.size());
+            SecurityException overloaded = new SecurityException(ErrorCode.EXCHANGE_SERVER_OVERLOADED);
+            orders.forEach(order -> order.future().completeExceptionally(overloaded));
+        }
+    }
+
+    /**
+     * 노드 하나로 묶음 전송 후 주문별 결과 전달
+     */
+    private void send(ExchangeNode node, List<PendingOrder> orders) {
+        List<ExchangeOrderBatchItem> items = orders.stream()
+            .map(order -> new ExchangeOrderBatchItem(order.request(), null))
+            .toList();
+        try {
+            ExchangeOrderBatchResult[] results = restTemplate.postForObject(
+                node.baseUrl() + "/api/v1/market/orders/batch", items, ExchangeOrderBatchResult[].class);
+            if (results == null || results.length != orders.size()) {
+                throw new IllegalStateException("Unexpected batch result size: " + (results == null ? null : results.length));
+            }
+            log.info("Order batch sent to exchange: node={}, size={}", node.nodeId(), orders.size());
+            for (int i = 0; i < results.length; i++) {
+                orders.get(i).future().complete(results[i].order());
+            }
+        } catch (Exception e) {
+            log.error("Failed to send order batch to exchange: node={}, size={}, e={}, msg={}",
+                node.nodeId(), orders.size(), e.getClass(), e.getMessage());
+            orders.forEach(order -> order.future().completeExceptionally(e));
+        }
+    }
+
+    private record PendingOrder(
+        ExchangeNode node,
+        ExchangeOrderRequest request,
+        CompletableFuture<ExchangeOrderResponse> future
+    ) {
+    }
+}
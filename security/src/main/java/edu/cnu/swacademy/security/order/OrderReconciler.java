@@ -0,0 +1,64 @@
+package edu.cnu.swacademy.security.order;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 재조회기
+ * 거래소 응답을 받지 못했고 접수 시점의 결과 조회도 실패한 주문({@link UnreconciledOrder})을 주기적으로 다시 조회하여
+ * 체결이면 정산하고, 거래소에 도달하지 않은 주문이면 자산 예약을 해제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderReconciler {
+
+  private final OrderService orderService;
+  private final UnreconciledOrderRepository unreconciledOrderRepository;
+
+  private ScheduledExecutorService scheduler;
+
+  @Value("${exchange.server.reconcile-interval-seconds:10}")
+  private long reconcileIntervalSeconds;
+
+  @PostConstruct
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "order-reconciler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::reconcileOrders, reconcileIntervalSeconds, reconcileIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * 결과를 모르는 주문 재조회 (보관 순서대로, 다시 실패한 주문은 다음 주기에 재조회)
+   */
+  private void reconcileOrders() {
+    try {
+      for (UnreconciledOrder unreconciled : unreconciledOrderRepository.findTop100ByOrderByIdAsc()) {
+        try {
+          orderService.reconcileOrder(unreconciled);
+        } catch (Exception e) {
+          log.warn("Failed to reconcile order: order-id={}, e={}, msg={}", unreconciled.getOrderId(), e.getClass(), e.getMessage());
+        }
+      }
+    } catch (Exception e) {
+      log.error("Failed to load unreconciled orders: e={}, msg={}", e.getClass(), e.getMessage());
+    }
+  }
+}
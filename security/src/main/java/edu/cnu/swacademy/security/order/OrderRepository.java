@@ -1,17 +1,31 @@
 package edu.cnu.swacademy.security.order;
 
+import edu.cnu.swacademy.security.order.dto.OrderCancelTarget;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Order 엔티티를 위한 JPA Repository
  */
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 
+  /**
+   * 취소 요청 검증용 주문 요약 조회
+   *
+   * @param orderId 주문 ID
+   * @return 주문 요약
+   */
+  @Query("SELECT new edu.cnu.swacademy.security.order.dto.OrderCancelTarget(o.user.id, o.stock.id, o.canceledAmount) FROM Order o WHERE o.id = :orderId")
+  Optional<OrderCancelTarget> findCancelTargetById(int orderId);
+
   /**
    * 사용자의 미체결 주문 조회 (unfilledQuantity > 0)
    * 
@@ -99,4 +113,13 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
    */
   @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.stock.id = :stockId AND o.side = :side AND (o.amount != o.unfilledAmount OR o.canceledAmount != 0)")
   Page<Order> findMatchedByUserIdAndStockIdAndSide(int userId, int stockId, OrderSide side, Pageable pageable);
-}
\ No newline at end of file
+
+  /**
+   * 주문들의 사용자 ID 조회 (엔티티를 읽기 전에 사용자 잠금 대상 확인)
+   *
+   * @param orderIds 주문 ID 목록
+   * @return 중복 없는 사용자 ID 목록
+   */
+  @Query("SELECT DISTINCT o.user.id FROM Order o WHERE o.id IN :orderIds")
+  List<Integer> findUserIdsByIdIn(Collection<Integer> orderIds);
+}
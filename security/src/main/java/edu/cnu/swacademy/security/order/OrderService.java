@@ -7,17 +7,21 @@ import edu.cnu.swacademy.security.asset.CashWalletRepository;
 import edu.cnu.swacademy.security.asset.CashWalletTransactionType;
 import edu.cnu.swacademy.security.common.ErrorCode;
 import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.ledger.RiskLedger;
+import edu.cnu.swacademy.security.lock.UserLockManager;
 import edu.cnu.swacademy.security.market.MarketStatus;
 import edu.cnu.swacademy.security.market.MarketStatusRepository;
 import edu.cnu.swacademy.security.market.TickSizeUtil;
 import edu.cnu.swacademy.security.order.dto.ExchangeOrderResponse;
-import edu.cnu.swacademy.security.order.dto.MakerOrderResponse;
 import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelResponse;
 import edu.cnu.swacademy.security.order.dto.OrderCancelResponse;
+import edu.cnu.swacademy.security.order.dto.OrderCancelTarget;
 import edu.cnu.swacademy.security.order.dto.OrderSubmitRequest;
 import edu.cnu.swacademy.security.order.dto.OrderSubmitResponse;
 import edu.cnu.swacademy.security.order.dto.UnfilledOrderResponse;
 import edu.cnu.swacademy.security.order.dto.UnfilledOrdersResponse;
+import edu.cnu.swacademy.security.settlement.FillEvent;
+import edu.cnu.swacademy.security.settlement.SettlementQueue;
 import edu.cnu.swacademy.security.stock.Stock;
 import edu.cnu.swacademy.security.stock.StockRepository;
 import edu.cnu.swacademy.security.stock.StockWallet;
@@ -56,7 +60,10 @@ public class OrderService {
   private final SendOrderService sendOrderService;
   private final CashWalletHistoryRepository cashWalletHistoryRepository;
   private final StockWalletHistoryRepository stockWalletHistoryRepository;
-  private final MatchRepository matchRepository;
+  private final SettlementQueue settlementQueue;
+  private final RiskLedger riskLedger;
+  private final UserLockManager userLockManager;
+  private final UnreconciledOrderRepository unreconciledOrderRepository;
 
   /**
    * 주문 접수
@@ -67,11 +74,14 @@ public class OrderService {
    * @return 주문 접수 응답
    * @throws SecurityException 주문 접수 실패 시 발생
    */
-  @Transactional(rollbackFor = Exception.class, isolation = Isolation.SERIALIZABLE)
+  @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
   public OrderSubmitResponse submitOrder(int userId, OrderSubmitRequest request) throws SecurityException {
     log.info("Submitting order for user-id(={}), stock-id(={}), side(={})", 
         userId, request.stockId(), request.side());
 
+    // 0. 거래소 과부하 시 주문 저장/자산 예약 전에 조기 거부
+    sendOrderService.checkOverload(request.stockId());
+
     // 1. 사용자 존재 여부 확인
     User user = userRepository.findById(userId)
         .orElseThrow(() -> {
@@ -99,7 +109,7 @@ public class OrderService {
     validateTickSize(request.price());
 
     // 5. 상하한가 검증
-    validatePriceLimits(request.stockId(), request.price());
+    MarketStatus marketStatus = validatePriceLimits(request.stockId(), request.price());
 
     // 6. 지갑 정지 및 자산 검증 이후 업데이트
     validateWalletStatusAndUpdate(userId, request.stockId(), orderSide, request.price(), request.quantity());
@@ -111,15 +121,30 @@ public class OrderService {
         )
     );
 
-    // 8. Exchange 서버로 주문 전송
-    ExchangeOrderResponse exchangeResponse = sendOrderService.sendOrderToExchange(
-        order.getId(),
-        request.stockId(),
-        request.price(),
-        request.quantity(),
-        orderSide.getValue(),
-        order.getCreatedAt()
-    );
+    // 8. Exchange 서버로 주문 전송 (응답을 받지 못하면 되돌리기 전에 거래소에 결과 조회)
+    ExchangeOrderResponse exchangeResponse;
+    try {
+      exchangeResponse = sendOrderService.sendOrderToExchange(
+          order.getId(),
+          request.stockId(),
+          request.price(),
+          request.quantity(),
+          orderSide.getValue(),
+          order.getCreatedAt(),
+          marketStatus.getLowerLimitPrice(),
+          marketStatus.getUpperLimitPrice()
+      );
+    } catch (SecurityException e) {
+      if (e.getErrorCode() != ErrorCode.EXCHANGE_ORDER_OUTCOME_UNKNOWN) {
+        throw e;
+      }
+      exchangeResponse = reconcileSubmittedOrder(order, request.stockId());
+      if (exchangeResponse == null) {
+        // 결과를 끝내 확인하지 못하면 주문과 예약을 유지하고 재조회 대상으로 보관
+        unreconciledOrderRepository.save(new UnreconciledOrder(order));
+        return OrderSubmitResponse.success(order.getId());
+      }
+    }
 
     log.info("Order submitted successfully: order-id(={}), match-result(={})",
         order.getId(), exchangeResponse.matchResult());
@@ -128,6 +153,57 @@ public class OrderService {
     return processExchangeResponse(order, exchangeResponse, request, orderSide);
   }
 
+  /**
+   * 응답을 받지 못한 주문의 결과 조회
+   * 거래소가 이미 처리했을 수 있으므로 주문을 되돌리지 않고 처리 결과를 받아 정상 응답과 같게 처리합니다.
+   * (도달하지 않은 주문은 거래소가 무효화하고 거부로 응답하므로 거절 처리로 예약이 해제됩니다.)
+   *
+   * @return 거래소 응답 (조회에 실패했거나 거래소도 결과를 확인할 수 없으면 null)
+   */
+  private ExchangeOrderResponse reconcileSubmittedOrder(Order order, int stockId) {
+    try {
+      ExchangeOrderResponse exchangeResponse = sendOrderService.reconcileOrder(order.getId(), stockId);
+      if (!"Unknown".equals(exchangeResponse.matchResult())) {
+        return exchangeResponse;
+      }
+      log.error("Order outcome unknown on exchange: order-id(={}), reason(={})", order.getId(), exchangeResponse.reason());
+    } catch (SecurityException e) {
+      log.warn("Failed to reconcile order, keeping it for retry: order-id(={})", order.getId());
+    }
+    return null;
+  }
+
+  /**
+   * 결과를 모르는 주문 재조회
+   * 접수 시점에 결과를 확인하지 못해 보관한 주문을 거래소에 다시 조회하고, 체결이면 정산을, 도달하지 않은 주문이면 예약 해제를 반영합니다.
+   * 거래소도 결과를 확인할 수 없으면 보관한 채로 둡니다.
+   */
+  @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
+  public void reconcileOrder(UnreconciledOrder unreconciled) throws SecurityException {
+    ExchangeOrderResponse exchangeResponse = sendOrderService.reconcileOrder(unreconciled.getOrderId(), unreconciled.getStockId());
+    if ("Unknown".equals(exchangeResponse.matchResult())) {
+      log.error("Order outcome unknown on exchange: order-id(={}), reason(={})", unreconciled.getOrderId(), exchangeResponse.reason());
+      return;
+    }
+
+    // 같은 주문을 갱신하는 정산/취소와 겹치지 않도록 사용자 잠금 이후 주문 조회
+    userLockManager.lock(unreconciled.getUserId());
+    Order order = orderRepository.findById(unreconciled.getOrderId())
+        .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
+
+    switch (exchangeResponse.matchResult()) {
+      case "Unmatched" -> log.info("Reconciled order is resting: order-id(={})", order.getId());
+      case "Matched" -> {
+        order.startSettlement(exchangeResponse.totalMatchedAmount());
+        settlementQueue.submit(toFillEvents(exchangeResponse, order.getStock().getId(), order.getSide(), order.getPrice()));
+      }
+      case "Rejected" -> processCancelledOrder(order, order.getUnfilledAmount());
+      default -> throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
+    }
+    unreconciledOrderRepository.delete(unreconciled);
+    log.info("Order reconciled: order-id(={}), match-result(={})", order.getId(), exchangeResponse.matchResult());
+  }
+
   /**
    * 지갑 정지 여부 검증 및 자산 부족 검증 및 업데이트
    */
@@ -143,64 +219,74 @@ public class OrderService {
 
   /**
    * 현금 지갑 검증 및 업데이트 (매수 주문용)
+   * 정지 여부와 가용 금액 확인, 묶인 금액 증가를 조건부 UPDATE 한 번으로 처리하고, 실패한 경우에만 원인을 조회합니다.
    */
   private void validateAndUpdateCashWallet(int userId, int price, int quantity) throws SecurityException {
-    // 현금 지갑 조회
+    int requestAmount = price * quantity;
+
+    // 리스크 원장이 적재되어 있으면 메모리에서 예약 (지갑 테이블은 원장이 커밋 후 일괄 반영)
+    if (riskLedger.isActive()) {
+      riskLedger.reserveCash(userId, requestAmount);
+      log.info("Buy order: Cash reserved in risk ledger by {}", requestAmount);
+      return;
+    }
+
+    if (cashWalletRepository.reserveForBuyOrder(userId, requestAmount) == 1) {
+      log.info("Buy order: Cash wallet tied amount increased by {}", requestAmount);
+      return;
+    }
+
+    // 예약 실패 원인 확인
     CashWallet cashWallet = cashWalletRepository.findByUserId(userId)
         .orElseThrow(() -> {
           log.info("Cash wallet not found for user-id(={})", userId);
           return new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND);
         });
 
-    // 현금 지갑 정지 여부 확인
     if (cashWallet.isBlocked()) {
       log.info("Cash wallet is blocked for user-id(={})", userId);
       throw new SecurityException(ErrorCode.CASH_WALLET_BLOCKED);
     }
 
-    // 현금 지갑 잔액 확인 및 묶인 금액 업데이트
-    int requestAmount = price * quantity;
-    if (requestAmount > cashWallet.getAvailable()) {
-      log.info("Insufficient cash wallet balance for user-id(={}). request-amount: {}",
-          userId, requestAmount);
-      throw new SecurityException(ErrorCode.INSUFFICIENT_BALANCE);
-    }
-
-    cashWallet.updateBuyOrder(requestAmount);
-    cashWalletRepository.save(cashWallet);
-    log.info("Buy order: Cash wallet tied amount increased by {}", requestAmount);
+    log.info("Insufficient cash wallet balance for user-id(={}). request-amount: {}",
+        userId, requestAmount);
+    throw new SecurityException(ErrorCode.INSUFFICIENT_BALANCE);
   }
 
   /**
    * 종목 지갑 검증 및 업데이트 (매도 주문용)
+   * 정지 여부와 가용 수량 확인, 묶인 수량 증가를 조건부 UPDATE 한 번으로 처리하고, 실패한 경우에만 원인을 조회합니다.
    */
   private void validateAndUpdateStockWallet(int userId, int stockId, int quantity) throws SecurityException {
-    // 종목 지갑 조회
+    // 리스크 원장이 적재되어 있으면 메모리에서 예약 (지갑 테이블은 원장이 커밋 후 일괄 반영)
+    if (riskLedger.isActive()) {
+      riskLedger.reserveHolding(userId, stockId, quantity);
+      log.info("Sell order: Stock reserved in risk ledger: user-id(={}), stock-id(={}), quantity(={})",
+          userId, stockId, quantity);
+      return;
+    }
+
+    if (stockWalletRepository.reserveForSellOrder(userId, stockId, quantity) == 1) {
+      log.info("Stock wallet updated for sell order: user-id(={}), stock-id(={}), quantity(={})",
+          userId, stockId, quantity);
+      return;
+    }
+
+    // 예약 실패 원인 확인
     StockWallet stockWallet = stockWalletRepository.findByUserIdAndStockId(userId, stockId)
         .orElseThrow(() -> {
           log.info("Stock wallet not found for user-id(={}), stock-id(={})", userId, stockId);
           return new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND);
         });
 
-    // 2. 계좌 정지 상태 확인
     if (stockWallet.isBlocked()) {
       log.info("Stock wallet is blocked for user-id(={}), stock-id(={})", userId, stockId);
       throw new SecurityException(ErrorCode.STOCK_WALLET_BLOCKED);
     }
 
-    // 종목 지갑 잔액 확인 및 묶인 수량 업데이트
-    if (quantity > stockWallet.getAvailable()) {
-      log.info("Insufficient stock balance for user-id(={}), stock-id(={}). Required: {}",
-          userId, stockId, quantity);
-      throw new SecurityException(ErrorCode.INSUFFICIENT_BALANCE);
-    }
-
-    // 4. 매도 주문으로 묶인 수량 업데이트
-    stockWallet.updateSellOrder(quantity);
-    stockWalletRepository.save(stockWallet);
-
-    log.info("Stock wallet updated for sell order: user-id(={}), stock-id(={}), quantity(={})", 
+    log.info("Insufficient stock balance for user-id(={}), stock-id(={}). Required: {}",
         userId, stockId, quantity);
+    throw new SecurityException(ErrorCode.INSUFFICIENT_BALANCE);
   }
 
   /**
@@ -216,8 +302,10 @@ public class OrderService {
 
   /**
    * 상하한가 검증
+   *
+   * @return 당일 장 상태 (거래소 호가 사다리 구성에 사용)
    */
-  private void validatePriceLimits(int stockId, int price) throws SecurityException {
+  private MarketStatus validatePriceLimits(int stockId, int price) throws SecurityException {
     // 당일 MarketStatus 조회
     LocalDate today = LocalDate.now();
     MarketStatus marketStatus = marketStatusRepository.findByStockIdAndTradingDate(stockId, today)
@@ -231,6 +319,7 @@ public class OrderService {
           price, stockId, marketStatus.getLowerLimitPrice(), marketStatus.getUpperLimitPrice());
       throw new SecurityException(ErrorCode.PRICE_OUT_OF_LIMITS);
     }
+    return marketStatus;
   }
 
   /**
@@ -242,8 +331,9 @@ public class OrderService {
         // 미체결: 후속 조치 불필요
           OrderSubmitResponse.success(order.getId());
       case "Matched" -> {
-        // 체결 완료: 지갑, 체결 내역, 장 상태 업데이트
-        processMatchedOrder(exchangeResponse, request, orderSide);
+        // 체결 완료: 체결 수량을 정산 대기로 표시하고 지갑, 체결 내역, 장 상태는 정산 워커가 커밋 이후 반영
+        order.startSettlement(exchangeResponse.totalMatchedAmount());
+        settlementQueue.submit(toFillEvents(exchangeResponse, request.stockId(), orderSide, request.price()));
         yield OrderSubmitResponse.success(order.getId());
       }
       case "Rejected" -> {
@@ -252,135 +342,27 @@ public class OrderService {
         processRejectedOrder(order, request, orderSide);
         yield OrderSubmitResponse.rejected(exchangeResponse.reason());
       }
+      // 거래소 대기열 초과: 주문이 오더북에 닿지 않았으므로 롤백으로 주문 저장과 자산 예약을 되돌림
+      case "Overloaded" -> throw new SecurityException(ErrorCode.EXCHANGE_SERVER_OVERLOADED);
       default -> throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
     };
   }
 
   /**
-  * 체결 완료 주문 처리
-  */
-  private void processMatchedOrder(ExchangeOrderResponse exchangeResponse, OrderSubmitRequest request, OrderSide orderSide) throws SecurityException {
-    List<MakerOrderResponse> makers = exchangeResponse.makers();
-    for (MakerOrderResponse maker : makers) {
-      int matchedAmount = maker.matchedAmount();
-      int matchedPrice = request.price();
-
-      // maker가 매수자인지 매도자인지 판단
-      OrderSide makerSide = (orderSide == OrderSide.BUY) ? OrderSide.SELL : OrderSide.BUY;
-
-      if (makerSide == OrderSide.BUY) {
-        // maker가 매수자, taker가 매도자
-        processMakerBuyTakerSell(exchangeResponse, maker, matchedAmount, matchedPrice, request.stockId());
-      } else {
-        // maker가 매도자, taker가 매수자
-        processMakerSellTakerBuy(exchangeResponse, maker, matchedAmount, matchedPrice, request.stockId());
-      }
-    }
-
-    // 장 상태 업데이트
-    updateMarketStatus(request.stockId(), exchangeResponse);
-  }
-
-  /**
-   * maker가 매수자, taker가 매도자인 경우 처리
-   */
-  private void processMakerBuyTakerSell(ExchangeOrderResponse exchangeResponse, MakerOrderResponse maker, int matchedAmount, int matchedPrice, int stockId) throws SecurityException {
-    Order makerOrder = orderRepository.findById(maker.orderId())
-        .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
-    Order takerOrder = orderRepository.findById(exchangeResponse.takerOrderId())
-        .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
-
-    // 1. Maker(매수자) 현금 계좌 처리
-    CashWallet makerCashWallet = cashWalletRepository.findByUserIdWithLock(makerOrder.getUser().getId())
-      .orElseThrow(() -> new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND));
-
-    int matchedAmountInCash = matchedPrice * matchedAmount;
-    makerCashWallet.settleBuyOrder(matchedAmountInCash);
-    cashWalletRepository.save(makerCashWallet);
-
-    // 현금 계좌 내역 생성
-    createCashWalletHistory(makerCashWallet, CashWalletTransactionType.TRADE_RECEIPT, matchedAmountInCash);
-
-    // 2. Taker(매도자) 종목 계좌 처리
-    StockWallet takerStockWallet = stockWalletRepository.findByUserIdAndStockIdWithLock(takerOrder.getUser().getId(), stockId)
-      .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND));
-
-    takerStockWallet.settleSellOrder(matchedAmount);
-
-    // 3. Maker(매수자) 종목 계좌 처리
-    StockWallet makerStockWallet = stockWalletRepository.findByUserIdAndStockIdWithLock(makerOrder.getUser().getId(), stockId)
-      .orElse(null);
-
-    if (makerStockWallet == null) {
-      // 종목 계좌가 없으면 새로 생성
-      User makerUser = userRepository.findById(makerOrder.getUser().getId())
-          .orElseThrow(() -> new SecurityException(ErrorCode.USER_NOT_FOUND));
-      Stock stock = stockRepository.findById(stockId)
-          .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_NOT_FOUND));
-
-      makerStockWallet = new StockWallet(makerUser, stock);
-      makerStockWallet.deposit(matchedAmount); // 매수한 수량만큼 초기화
-    } else {
-      makerStockWallet.deposit(matchedAmount); // 매수한 수량 추가
-    }
-    stockWalletRepository.save(makerStockWallet);
-
-    // 종목 계좌 내역 생성
-    createStockWalletHistory(takerStockWallet, StockWalletTransactionType.SELL_ORDER_EXECUTED, matchedAmount);
-    createStockWalletHistory(makerStockWallet, StockWalletTransactionType.BUY_ORDER_EXECUTED, matchedAmount);
-
-    // 4. 체결 내역 생성
-    createMatch(stockId, takerOrder, maker, matchedAmount, matchedPrice);
-  }
-
-  /**
-  * Maker가 매도자, Taker가 매수자인 경우 처리
+  * 체결 응답의 maker별 체결 이벤트 생성 (maker 호가로 체결)
   */
-  private void processMakerSellTakerBuy(ExchangeOrderResponse exchangeResponse, MakerOrderResponse maker, int matchedAmount, int matchedPrice, int stockId) throws SecurityException {
-    Order makerOrder = orderRepository.findById(maker.orderId())
-        .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
-    Order takerOrder = orderRepository.findById(exchangeResponse.takerOrderId())
-        .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
-
-    // 1. Maker(매도자) 종목 계좌 처리
-    StockWallet makerStockWallet = stockWalletRepository.findByUserIdAndStockIdWithLock(makerOrder.getUser().getId(), stockId)
-      .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND));
-
-    makerStockWallet.settleSellOrder(matchedAmount); // 매도 수량 차감
-
-    // 2. Taker(매수자) 현금 계좌 처리
-    CashWallet takerCashWallet = cashWalletRepository.findByUserIdWithLock(takerOrder.getUser().getId())
-      .orElseThrow(() -> new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND));
-
-    int matchedAmountInCash = matchedPrice * matchedAmount;
-    takerCashWallet.settleBuyOrder(matchedAmountInCash);
-    cashWalletRepository.save(takerCashWallet);
-
-    createCashWalletHistory(takerCashWallet, CashWalletTransactionType.TRADE_RECEIPT, matchedAmountInCash);
-
-    // 3. Taker(매수자) 종목 계좌 처리
-    StockWallet takerStockWallet = stockWalletRepository.findByUserIdAndStockIdWithLock(takerOrder.getUser().getId(), stockId)
-      .orElse(null);
-
-    if (takerStockWallet == null) {
-      // 종목 계좌가 없으면 새로 생성
-      User takerUser = takerOrder.getUser();
-      Stock stock = stockRepository.findById(stockId)
-          .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_NOT_FOUND));
-
-      takerStockWallet = new StockWallet(takerUser, stock);
-      takerStockWallet.deposit(matchedAmount); // 매수한 수량만큼 초기화
-    } else {
-      takerStockWallet.deposit(matchedAmount); // 매수한 수량 추가
-    }
-    stockWalletRepository.save(takerStockWallet);
-
-    // 내역 생성
-    createStockWalletHistory(makerStockWallet, StockWalletTransactionType.SELL_ORDER_EXECUTED, -matchedAmount);
-    createStockWalletHistory(takerStockWallet, StockWalletTransactionType.BUY_ORDER_EXECUTED, matchedAmount);
-
-    // 4. 체결 내역 생성
-    createMatch(stockId, takerOrder, maker, matchedAmount, matchedPrice);
+  private List<FillEvent> toFillEvents(ExchangeOrderResponse exchangeResponse, int stockId, OrderSide orderSide, int price) {
+    return exchangeResponse.makers().stream()
+        .map(maker -> new FillEvent(
+            exchangeResponse.takerOrderId(),
+            maker.orderId(),
+            stockId,
+            orderSide,
+            price,
+            maker.matchedAmount(),
+            maker.price()
+        ))
+        .toList();
   }
 
   /**
@@ -393,22 +375,26 @@ public class OrderService {
 
     order.cancel();
     orderRepository.save(order);
+
+    // 리스크 원장에서 예약한 경우 지갑 테이블에는 아직 반영 전이므로 원장 예약만 해제
+    boolean releasedInLedger = orderSide == OrderSide.BUY
+        ? riskLedger.releaseCash(userId, (long) rejectedPrice * rejectedAmount)
+        : riskLedger.releaseHolding(userId, request.stockId(), rejectedAmount);
+    if (releasedInLedger) {
+      return;
+    }
+
+    // 예약 UPDATE로 이미 지갑 행을 잡고 있으므로 사용자 잠금 없이 해제 (정산이 잡은 사용자 잠금을 기다리면 교착)
     if (orderSide == OrderSide.BUY) {
       // 현금 지갑 롤백
-      CashWallet cashWallet = cashWalletRepository.findByUserIdWithLock(userId)
-          .orElseThrow(() -> new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND));
-
       int rejectedAmountInCash = rejectedPrice * rejectedAmount;
-      cashWallet.updateOrderCancel(rejectedAmountInCash);
+      CashWallet cashWallet = releaseCashWallet(userId, rejectedAmountInCash);
 
       // 현금 지갑 내역 생성
       createCashWalletHistory(cashWallet, CashWalletTransactionType.TRADE_REFUND, rejectedAmountInCash);
     } else {
       // 종목 지갑 롤백
-      StockWallet stockWallet = stockWalletRepository.findByUserIdAndStockIdWithLock(userId, request.stockId())
-          .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND));
-
-      stockWallet.updateOrderCancel(rejectedAmount); // 매도 수량 차감
+      StockWallet stockWallet = releaseStockWallet(userId, request.stockId(), rejectedAmount); // 매도 수량 차감
 
       // 종목 지갑 내역 생성
       createStockWalletHistory(stockWallet, StockWalletTransactionType.SELL_ORDER_CANCEL, rejectedAmount);
@@ -416,26 +402,33 @@ public class OrderService {
   }
 
   /**
-  * 체결 내역 생성
+  * 현금 지갑의 묶인 금액 해제 (리스크 원장이 함께 갱신하므로 읽은 값을 덮어쓰지 않고 증감 UPDATE로 반영)
   */
-  private void createMatch(int stockId, Order takerOrder, MakerOrderResponse maker, int amount, int price) throws SecurityException {
-      // Match 엔티티 생성 및 저장
-      Stock stock = stockRepository.findById(stockId)
-          .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_NOT_FOUND));
-
-      Order makerOrder = orderRepository.findById(maker.orderId())
-          .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
+  private CashWallet releaseCashWallet(int userId, int amount) throws SecurityException {
+    if (cashWalletRepository.releaseOrderAmount(userId, amount) == 0) {
+      throw new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND);
+    }
+    return cashWalletRepository.findByUserId(userId)
+        .orElseThrow(() -> new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND));
+  }
 
-      Match match = new Match(stock, makerOrder, takerOrder);
-      matchRepository.save(match);
+  /**
+  * 종목 지갑의 묶인 수량 해제 (리스크 원장이 함께 갱신하므로 읽은 값을 덮어쓰지 않고 증감 UPDATE로 반영)
+  */
+  private StockWallet releaseStockWallet(int userId, int stockId, int quantity) throws SecurityException {
+    if (stockWalletRepository.releaseOrderQuantity(userId, stockId, quantity) == 0) {
+      throw new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND);
     }
+    return stockWalletRepository.findByUserIdAndStockId(userId, stockId)
+        .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND));
+  }
 
-    /**
-    * 현금 지갑 내역 생성
-    */
-    private void createCashWalletHistory(CashWallet cashWallet, CashWalletTransactionType type, int amount) {
-      CashWalletHistory history = new CashWalletHistory(cashWallet, type, amount, "매수 주문 취소", cashWallet.getReserve());
-      cashWalletHistoryRepository.save(history);
+  /**
+  * 현금 지갑 내역 생성
+  */
+  private void createCashWalletHistory(CashWallet cashWallet, CashWalletTransactionType type, int amount) {
+    CashWalletHistory history = new CashWalletHistory(cashWallet, type, amount, "매수 주문 취소", cashWallet.getReserve());
+    cashWalletHistoryRepository.save(history);
   }
 
   /**
@@ -446,15 +439,6 @@ public class OrderService {
     stockWalletHistoryRepository.save(history);
   }
 
-  /**
-  * 장 상태 업데이트
-  */
-  private void updateMarketStatus(int stockId, ExchangeOrderResponse exchangeResponse) throws SecurityException {
-    MarketStatus marketStatus = marketStatusRepository.findByStockIdAndTradingDate(stockId, LocalDate.now())
-        .orElseThrow(() -> new SecurityException(ErrorCode.MARKET_STATUS_NOT_FOUND));
-    marketStatus.update(exchangeResponse.price(), exchangeResponse.totalMatchedAmount(), exchangeResponse.price() * exchangeResponse.totalMatchedAmount());
-  }
-
   /**
    * 사용자의 미체결 주문 목록을 조회합니다.
    * 
@@ -516,6 +500,7 @@ public class OrderService {
         order.getPrice(),
         order.getAmount(),
         order.getUnfilledAmount(),
+        order.getUnsettledAmount(),
         order.getCanceledAmount(),
         order.getCreatedAt()
     );
@@ -523,30 +508,30 @@ public class OrderService {
 
   /**
    * 주문 취소
+   * 거래소 왕복 동안 같은 사용자의 다른 요청과 정산을 막지 않도록, 사용자 잠금은 거래소 응답을 받은 뒤 주문을 다시 읽어 반영하는 구간에만 겁니다.
+   * 잠금 이후 조회가 최신 커밋을 읽도록 READ COMMITTED로 실행합니다.
    */
-  @Transactional
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public OrderCancelResponse cancelOrder(int userId, int orderId) throws SecurityException {
-    // 1. 주문 조회 및 검증
-    Order order = orderRepository.findById(orderId)
+    // 1. 주문 검증 (잠금 없이 요약만 조회)
+    OrderCancelTarget target = orderRepository.findCancelTargetById(orderId)
         .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
 
-    if (order.getUser().getId() != userId) {
+    if (target.userId() != userId) {
       throw new SecurityException(ErrorCode.ORDER_ACCESS_DENIED);
     }
 
-    if (order.getCanceledAmount() > 0) {
+    if (target.canceledAmount() > 0) {
       throw new SecurityException(ErrorCode.ORDER_ALREADY_CANCELLED);
     }
 
     // 2. Exchange 서버로 취소 요청
-    ExchangeOrderCancelResponse exchangeResponse = sendOrderService.cancelOrderToExchange(
-        orderId,
-        order.getStock().getId(),
-        order.getSide().getValue(),
-        order.getPrice()
-    );
+    ExchangeOrderCancelResponse exchangeResponse = sendOrderService.cancelOrderToExchange(orderId, target.stockId());
 
-    // 3. 응답 처리
+    // 3. 응답 처리 (같은 주문을 갱신하는 정산과 겹치지 않도록 사용자 잠금 이후 주문 조회)
+    userLockManager.lock(userId);
+    Order order = orderRepository.findById(orderId)
+        .orElseThrow(() -> new SecurityException(ErrorCode.ORDER_NOT_FOUND));
     return processCancelResponse(order, exchangeResponse);
   }
 
@@ -555,7 +540,7 @@ public class OrderService {
    */
   private OrderCancelResponse processCancelResponse(Order order, ExchangeOrderCancelResponse exchangeResponse) throws SecurityException {
     if (exchangeResponse.matchResult().equals("Cancelled")) {
-      processCancelledOrder(order);
+      processCancelledOrder(order, exchangeResponse.canceledAmount());
       return OrderCancelResponse.success();
     }
     throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
@@ -563,35 +548,33 @@ public class OrderService {
 
   /**
    * 취소된 주문 처리
+   * 거래소가 알려준 취소 수량만 취소하며, 정산 대기 중인 체결 수량은 정산 워커가 반영합니다.
    */
-  private void processCancelledOrder(Order order) throws SecurityException {
+  private void processCancelledOrder(Order order, Integer exchangeCanceledAmount) throws SecurityException {
     int userId = order.getUser().getId();
-    int cancelledAmount = order.getUnfilledAmount();
+    int cancelledAmount = exchangeCanceledAmount != null ? exchangeCanceledAmount : order.getUnfilledAmount() - order.getUnsettledAmount();
     int cancelledPrice = order.getPrice();
 
     // 주문 상태 업데이트
-    order.cancel();
+    order.cancel(cancelledAmount);
     orderRepository.save(order);
 
+    // 리스크 원장의 예약이 지갑 테이블에 반영된 뒤에 해제
+    riskLedger.awaitFlushed();
+
     // 지갑 롤백
     if (order.getSide() == OrderSide.BUY) {
       // 매수 주문 취소: 현금 지갑 롤백
-      CashWallet cashWallet = cashWalletRepository.findByUserIdWithLock(userId)
-          .orElseThrow(() -> new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND));
-
       int cancelledAmountInCash = cancelledPrice * cancelledAmount;
-      cashWallet.updateOrderCancel(cancelledAmountInCash);
-      cashWalletRepository.save(cashWallet);
+      CashWallet cashWallet = releaseCashWallet(userId, cancelledAmountInCash);
+      riskLedger.applyCash(userId, 0, -cancelledAmountInCash);
 
       // 현금 지갑 내역 생성
       createCashWalletHistory(cashWallet, CashWalletTransactionType.TRADE_REFUND, cancelledAmountInCash);
     } else {
       // 매도 주문 취소: 종목 지갑 롤백
-      StockWallet stockWallet = stockWalletRepository.findByUserIdAndStockIdWithLock(userId, order.getStock().getId())
-          .orElseThrow(() -> new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND));
-
-      stockWallet.updateOrderCancel(cancelledAmount);
-      stockWalletRepository.save(stockWallet);
+      StockWallet stockWallet = releaseStockWallet(userId, order.getStock().getId(), cancelledAmount);
+      riskLedger.applyHolding(userId, order.getStock().getId(), 0, -cancelledAmount);
 
       // 종목 지갑 내역 생성
       createStockWalletHistory(stockWallet, StockWalletTransactionType.SELL_ORDER_CANCEL, cancelledAmount);
@@ -2,10 +2,15 @@ package edu.cnu.swacademy.security.order;
 
 import edu.cnu.swacademy.security.common.ErrorCode;
 import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.gateway.ExchangeGatewayClient;
 import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelRequest;
 import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelResponse;
 import edu.cnu.swacademy.security.order.dto.ExchangeOrderRequest;
 import edu.cnu.swacademy.security.order.dto.ExchangeOrderResponse;
+import edu.cnu.swacademy.security.partition.ExchangeNode;
+import edu.cnu.swacademy.security.partition.PartitionTable;
+import edu.cnu.swacademy.security.queue.OrderQueueClient;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,12 +20,34 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Exchange 서버와의 주문 통신 서비스
+ * 파티션 테이블에서 종목을 보유한 거래소 노드를 찾고, 노드 안의 담당 엔진 샤드 경로로 주문을 전송합니다.
+ * 샤드 수는 거래소 서버 기동 시 전달하는 값(exchange.server.shards)과 같아야 합니다.
+ * 전송 방식(exchange.server.transport)은 REST(HTTP), 노드별 지속 연결의 바이너리 게이트웨이(TCP),
+ * 로컬 디스크의 주문 큐(QUEUE) 중에서 고릅니다.
+ * REST 전송에서 묶음 전송(exchange.server.batch.enabled)을 켜면 짧은 시간 창 안의 주문을 일괄 주문 API 한 번으로 보냅니다.
+ *
+ * 거래소가 밀릴 때 응답 제한 시간까지 기다리지 않도록 부하를 미리 차단합니다.
+ * - 거래소로 동시에 보내는 주문 수를 제한하고, 한도를 넘으면 즉시 거부합니다.
+ * - 거래소가 대기열 초과로 주문을 거부하면 해당 샤드로의 주문을 잠시 동안 보내지 않고 거부합니다.
+ *
+ * 주문을 보낸 뒤 응답을 받지 못하면 거래소가 이미 주문을 처리했을 수 있으므로 실패가 아닌 결과 미확인으로 알리고,
+ * 호출자는 결과 조회({@link #reconcileOrder})로 처리 여부를 확인합니다.
  */
 @Slf4j
 @Service
@@ -28,90 +55,245 @@ import java.time.LocalDateTime;
 public class SendOrderService {
 
     private final RestTemplate restTemplate;
+    private final PartitionTable partitionTable;
+    private final ExchangeGatewayClient gatewayClient;
+    private final OrderBatcher orderBatcher;
+    private final OrderQueueClient orderQueueClient;
 
-    @Value("${exchange.server.host:localhost}")
-    private String exchangeServerHost;
+    // 샤드 주문 경로 → 주문을 다시 보낼 수 있는 시각 (System.nanoTime)
+    private final Map<String, Long> overloadedUntil = new ConcurrentHashMap<>();
 
-    @Value("${exchange.server.port:8081}")
-    private int exchangeServerPort;
+    private Semaphore inFlightOrders;
+
+    @Value("${exchange.server.max-in-flight-orders:256}")
+    private int maxInFlightOrders;
+
+    @Value("${exchange.server.overload-backoff-millis:200}")
+    private long overloadBackoffMillis;
+
+    @Value("${exchange.server.transport:HTTP}")
+    private ExchangeTransport transport;
+
+    @Value("${exchange.server.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${exchange.server.shards:2}")
+    private int exchangeShardCount;
+
+    @PostConstruct
+    public void init() {
+        inFlightOrders = new Semaphore(maxInFlightOrders);
+    }
+
+    /**
+     * 거래소 과부하 확인 (주문 저장과 자산 예약 전에 호출하여 조기 거부)
+     *
+     * @throws SecurityException 종목의 담당 샤드가 최근 대기열 초과로 주문을 거부한 경우 발생
+     */
+    public void checkOverload(int stockId) throws SecurityException {
+        Long until = overloadedUntil.get(getShardOrderUrl(stockId));
+        if (until != null && System.nanoTime() - until < 0) {
+            log.info("Order shed due to exchange overload: stockId={}", stockId);
+            throw new SecurityException(ErrorCode.EXCHANGE_SERVER_OVERLOADED);
+        }
+    }
 
     /**
      * Exchange 서버로 주문 전송
+     * 거래소는 전달받은 당일 상하한가로 종목의 호가 사다리를 구성합니다.
      */
-    public ExchangeOrderResponse sendOrderToExchange(int orderId, int stockId, int price, int amount, String side, LocalDateTime createdAt) throws SecurityException {
+    public ExchangeOrderResponse sendOrderToExchange(int orderId, int stockId, int price, int amount, String side, LocalDateTime createdAt,
+                                                     int lowerLimitPrice, int upperLimitPrice) throws SecurityException {
+        String url = getShardOrderUrl(stockId);
+        if (!inFlightOrders.tryAcquire()) {
+            log.warn("Too many in-flight orders to exchange server: orderId={}, limit={}", orderId, maxInFlightOrders);
+            throw new SecurityException(ErrorCode.EXCHANGE_SERVER_OVERLOADED);
+        }
+
         try {
-            String url = String.format("http://%s:%d/api/v1/market/order", exchangeServerHost, exchangeServerPort);
-            
             ExchangeOrderRequest request = new ExchangeOrderRequest(
                 orderId,
                 stockId,
                 price,
                 amount,
                 side,
-                createdAt
+                createdAt,
+                lowerLimitPrice,
+                upperLimitPrice
             );
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            log.info("Sending order to exchange server: orderId={}, stockWalletId={}, side={}, transport={}", orderId, stockId, side, transport);
 
-            HttpEntity<ExchangeOrderRequest> entity = new HttpEntity<>(request, headers);
-
-            log.info("Sending order to exchange server: orderId={}, stockWalletId={}, side={}", orderId, stockId, side);
-
-            ResponseEntity<ExchangeOrderResponse> response = restTemplate.postForEntity(url, entity, ExchangeOrderResponse.class);
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ExchangeOrderResponse orderResponse = response.getBody();
-                log.info("Order sent to exchange successfully: orderId={}, matchResult={}", 
-                    orderId, orderResponse.matchResult());
-                return orderResponse;
+            ExchangeOrderResponse orderResponse;
+            if (transport == ExchangeTransport.TCP) {
+                orderResponse = gatewayClient.sendOrder(partitionTable.nodeOf(stockId), request).get();
+            } else if (transport == ExchangeTransport.QUEUE) {
+                orderResponse = orderQueueClient.sendOrder(partitionTable.nodeOf(stockId), request).get();
+            } else if (batchEnabled) {
+                orderResponse = orderBatcher.submit(partitionTable.nodeOf(stockId), request).get();
             } else {
-                log.error("Failed to send order to exchange: orderId={}, status={}", 
-                    orderId, response.getStatusCode());
-                throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
+                orderResponse = postOrder(url, request);
             }
 
+            log.info("Order sent to exchange successfully: orderId={}, matchResult={}",
+                orderId, orderResponse.matchResult());
+            if ("Overloaded".equals(orderResponse.matchResult())) {
+                overloadedUntil.put(url, System.nanoTime() + overloadBackoffMillis * 1_000_000);
+                log.warn("Exchange shard overloaded, backing off: url={}, backoff-millis={}", url, overloadBackoffMillis);
+            }
+            return orderResponse;
+
         } catch (Exception e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            if (cause instanceof SecurityException overloaded && overloaded.getErrorCode() == ErrorCode.EXCHANGE_SERVER_OVERLOADED) {
+                throw overloaded;
+            }
+            if (isOutcomeUnknown(cause)) {
+                log.warn("Order outcome unknown, reconcile required: orderId={}, e={}, msg={}", orderId, cause.getClass(), cause.getMessage());
+                throw new SecurityException(ErrorCode.EXCHANGE_ORDER_OUTCOME_UNKNOWN, e);
+            }
             log.error("Error sending order to exchange server: orderId={}, error={}", 
                 orderId, e.getMessage(), e);
             throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED, e);
+        } finally {
+            inFlightOrders.release();
         }
     }
 
     /**
      * Exchange 서버로 주문 취소 요청 전송
      */
-    public ExchangeOrderCancelResponse cancelOrderToExchange(int orderId, int stockId, String side, int price) throws SecurityException {
+    public ExchangeOrderCancelResponse cancelOrderToExchange(int orderId, int stockId) throws SecurityException {
         try {
-            String url = String.format("http://%s:%d/api/v1/market/order", exchangeServerHost, exchangeServerPort);
-            ExchangeOrderCancelRequest request = new ExchangeOrderCancelRequest(orderId, stockId, side, price);
+            String url = getShardOrderUrl(stockId);
+            ExchangeOrderCancelRequest request = new ExchangeOrderCancelRequest(orderId, stockId);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            log.info("Sending order cancellation to exchange server: orderId={}, stockId={}, transport={}", orderId, stockId, transport);
 
-            HttpEntity<ExchangeOrderCancelRequest> entity = new HttpEntity<>(request, headers);
+            ExchangeOrderCancelResponse cancelResponse = switch (transport) {
+                case TCP -> gatewayClient.cancelOrder(partitionTable.nodeOf(stockId), request).get();
+                case QUEUE -> orderQueueClient.cancelOrder(partitionTable.nodeOf(stockId), request).get();
+                case HTTP -> deleteOrder(url, request);
+            };
 
-            log.info("Sending order cancellation to exchange server: orderId={}, stockId={}, side={}, price={}", orderId, stockId, side, price);
+            log.info("Order cancellation sent to exchange successfully: orderId={}, matchResult={}",
+                orderId, cancelResponse.matchResult());
+            return cancelResponse;
 
-            ResponseEntity<ExchangeOrderCancelResponse> response = restTemplate.exchange(
-                url, HttpMethod.DELETE, entity, ExchangeOrderCancelResponse.class);
+        } catch (Exception e) {
+            log.error("Error sending order cancellation to exchange server: orderId={}, error={}", 
+                orderId, e.getMessage(), e);
+            throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED, e);
+        }
+    }
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ExchangeOrderCancelResponse cancelResponse = response.getBody();
-                log.info("Order cancellation sent to exchange successfully: orderId={}, matchResult={}", 
-                    orderId, cancelResponse.matchResult());
-                return cancelResponse;
-            } else {
-                log.error("Failed to send order cancellation to exchange: orderId={}, status={}", 
-                    orderId, response.getStatusCode());
-                throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
-            }
+    /**
+     * Exchange 서버로 주문 결과 조회
+     * 응답을 받지 못한 주문의 처리 결과를 확인합니다. 거래소에 아직 도착하지 않은 주문은 거래소가 무효화하고 거부로 응답하므로,
+     * 거부 응답을 받으면 이후에 주문이 처리되지 않음이 보장됩니다.
+     * 게이트웨이 연결이 끊긴 경우에도 조회할 수 있도록 전송 방식과 관계없이 REST로 보냅니다.
+     *
+     * @return 주문 처리 응답 (Matched/Unmatched/Rejected, 거래소도 결과를 확인할 수 없으면 Unknown)
+     */
+    public ExchangeOrderResponse reconcileOrder(int orderId, int stockId) throws SecurityException {
+        try {
+            String url = getShardOrderUrl(stockId) + "/reconcile";
+            log.info("Reconciling order with exchange server: orderId={}, stockId={}", orderId, stockId);
+
+            ExchangeOrderResponse orderResponse = postReconcile(url, new ExchangeOrderCancelRequest(orderId, stockId));
+
+            log.info("Order reconciled with exchange server: orderId={}, matchResult={}", orderId, orderResponse.matchResult());
+            return orderResponse;
 
         } catch (Exception e) {
-            log.error("Error sending order cancellation to exchange server: orderId={}, error={}", 
+            log.error("Error reconciling order with exchange server: orderId={}, error={}",
                 orderId, e.getMessage(), e);
             throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED, e);
         }
     }
-}
 
+    /**
+     * 주문이 거래소에 도달했는지 알 수 없는 실패인지 확인
+     * 연결하지 못한 경우만 주문이 전달되지 않은 것으로 보고, 응답 대기 중 시간 초과 등은 결과를 모르는 것으로 봅니다.
+     * TCP 게이트웨이는 연결 실패가 요청 전에 UncheckedIOException으로 나오므로, 요청 후의 시간 초과나 연결 끊김(IOException)은 모두 결과를 모르는 것입니다.
+     * 주문 큐는 응답 제한 시간이 지나면 레코드를 회수한 뒤에만 실패하므로 해당하지 않습니다.
+     */
+    private boolean isOutcomeUnknown(Throwable cause) {
+        if (transport == ExchangeTransport.TCP) {
+            return cause instanceof TimeoutException || cause instanceof IOException;
+        }
+        if (transport == ExchangeTransport.QUEUE || !(cause instanceof ResourceAccessException)) {
+            return false;
+        }
+        Throwable root = cause.getCause();
+        return !(root instanceof ConnectException || root instanceof NoRouteToHostException || root instanceof UnknownHostException);
+    }
+
+    /**
+     * REST 주문 전송
+     */
+    private ExchangeOrderResponse postOrder(String url, ExchangeOrderRequest request) throws SecurityException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<ExchangeOrderRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<ExchangeOrderResponse> response = restTemplate.postForEntity(url, entity, ExchangeOrderResponse.class);
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            log.error("Failed to send order to exchange: orderId={}, status={}",
+                request.orderId(), response.getStatusCode());
+            throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
+        }
+        return response.getBody();
+    }
+
+    /**
+     * REST 주문 결과 조회 전송
+     */
+    private ExchangeOrderResponse postReconcile(String url, ExchangeOrderCancelRequest request) throws SecurityException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<ExchangeOrderCancelRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<ExchangeOrderResponse> response = restTemplate.postForEntity(url, entity, ExchangeOrderResponse.class);
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            log.error("Failed to reconcile order with exchange: orderId={}, status={}",
+                request.orderId(), response.getStatusCode());
+            throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
+        }
+        return response.getBody();
+    }
+
+    /**
+     * REST 주문 취소 전송
+     */
+    private ExchangeOrderCancelResponse deleteOrder(String url, ExchangeOrderCancelRequest request) throws SecurityException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<ExchangeOrderCancelRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<ExchangeOrderCancelResponse> response = restTemplate.exchange(
+            url, HttpMethod.DELETE, entity, ExchangeOrderCancelResponse.class);
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            log.error("Failed to send order cancellation to exchange: orderId={}, status={}",
+                request.orderId(), response.getStatusCode());
+            throw new SecurityException(ErrorCode.EXCHANGE_SERVER_COMMUNICATION_FAILED);
+        }
+        return response.getBody();
+    }
+
+    /**
+     * 종목의 담당 노드, 담당 샤드 주문 경로
+     * TCP 전송에서도 샤드별 과부하 차단 키로 사용합니다.
+     */
+    private String getShardOrderUrl(int stockId) {
+        ExchangeNode node = partitionTable.nodeOf(stockId);
+        int shardId = ShardRouter.shardOf(stockId, exchangeShardCount);
+        return String.format("%s/api/v1/market/shards/%d/order", node.baseUrl(), shardId);
+    }
+}
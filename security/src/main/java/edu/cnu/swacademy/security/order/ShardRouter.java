@@ -0,0 +1,24 @@
+package edu.cnu.swacademy.security.order;
+
+/**
+ * 거래소 샤드 라우터
+ * 종목 ID를 해시하여 주문을 처리할 거래소 엔진 샤드를 결정합니다. (거래소 서버의 ShardRouter와 동일한 해시)
+ */
+public final class ShardRouter {
+
+  private ShardRouter() {
+  }
+
+  /**
+   * 종목 ID의 담당 샤드 번호를 반환합니다.
+   */
+  public static int shardOf(int stockId, int shardCount) {
+    int hash = stockId;
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return Math.floorMod(hash, shardCount);
+  }
+}
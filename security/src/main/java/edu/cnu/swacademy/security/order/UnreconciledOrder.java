@@ -0,0 +1,43 @@
+package edu.cnu.swacademy.security.order;
+
+import edu.cnu.swacademy.security.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결과를 모르는 주문
+ * 거래소 응답을 받지 못했고 결과 조회도 실패한 주문을 보관하며, 주문 재조회기가 주기적으로 다시 조회합니다.
+ * 보관하는 동안 주문과 자산 예약은 그대로 유지합니다.
+ */
+@Getter
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@Table(name = "unreconciled_order")
+@Entity
+public class UnreconciledOrder extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(columnDefinition = "INT UNSIGNED")
+  private int id;
+
+  @Column(nullable = false, unique = true, columnDefinition = "INT UNSIGNED")
+  private int orderId;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int userId;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int stockId;
+
+  public UnreconciledOrder(Order order) {
+    this.orderId = order.getId();
+    this.userId = order.getUser().getId();
+    this.stockId = order.getStock().getId();
+  }
+}
@@ -0,0 +1,18 @@
+package edu.cnu.swacademy.security.order;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UnreconciledOrder 엔티티를 위한 JPA Repository
+ */
+@Repository
+public interface UnreconciledOrderRepository extends JpaRepository<UnreconciledOrder, Integer> {
+
+  /**
+   * 보관 순서대로 결과를 모르는 주문 조회
+   */
+  List<UnreconciledOrder> findTop100ByOrderByIdAsc();
+}
@@ -0,0 +1,10 @@
+package edu.cnu.swacademy.security.order.dto;
+
+/**
+ * Exchange 서버로 보내는 일괄 주문 항목 DTO (order, cancel 중 하나만 담음)
+ */
+public record ExchangeOrderBatchItem(
+    ExchangeOrderRequest order,
+    ExchangeOrderCancelRequest cancel
+) {
+}
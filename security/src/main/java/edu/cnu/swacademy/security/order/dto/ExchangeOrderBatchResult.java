@@ -0,0 +1,10 @@
+package edu.cnu.swacademy.security.order.dto;
+
+/**
+ * Exchange 서버로부터 받는 일괄 주문 항목별 결과 DTO
+ */
+public record ExchangeOrderBatchResult(
+    ExchangeOrderResponse order,
+    ExchangeOrderCancelResponse cancel
+) {
+}
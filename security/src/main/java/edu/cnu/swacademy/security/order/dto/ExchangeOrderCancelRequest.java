@@ -9,7 +9,5 @@ public record ExchangeOrderCancelRequest(
     @JsonProperty("order_id")
     int orderId,
     @JsonProperty("stock_id")
-    int stockId,
-    String side,
-    int price
+    int stockId
 ) {}
@@ -4,9 +4,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Exchange 서버로부터 받는 주문 취소 응답 DTO
+ * 취소 수량은 취소 시점에 거래소 오더북에 남아 있던 미체결 수량입니다.
  */
 public record ExchangeOrderCancelResponse(
     @JsonProperty("match_result")
-    String matchResult // Cancelled, Rejected
+    String matchResult, // Cancelled, Rejected
+    @JsonProperty("canceled_amount")
+    Integer canceledAmount
 ) {
 }
@@ -16,7 +16,11 @@ public record ExchangeOrderRequest(
     int amount,
     String side,
     @JsonProperty("created_at")
-    LocalDateTime createdAt
+    LocalDateTime createdAt,
+    @JsonProperty("lower_limit_price")
+    int lowerLimitPrice,
+    @JsonProperty("upper_limit_price")
+    int upperLimitPrice
 ) {
 }
 
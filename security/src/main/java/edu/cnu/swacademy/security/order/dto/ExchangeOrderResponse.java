@@ -9,7 +9,7 @@ import java.util.List;
  */
 public record ExchangeOrderResponse(
     @JsonProperty("match_result")
-    String matchResult,
+    String matchResult, // Matched, Unmatched, Rejected, Overloaded (결과 조회는 Unknown도 가능)
     @JsonProperty("taker_order_id")
     Integer takerOrderId,
     List<MakerOrderResponse> makers,
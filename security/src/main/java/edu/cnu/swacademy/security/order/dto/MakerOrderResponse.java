@@ -6,6 +6,7 @@ public record MakerOrderResponse(
     @JsonProperty("order_id")
     Integer orderId,
     @JsonProperty("matched_amount")
-    Integer matchedAmount
+    Integer matchedAmount,
+    Integer price
 ) {
 }
@@ -0,0 +1,11 @@
+package edu.cnu.swacademy.security.order.dto;
+
+/**
+ * 취소 요청 검증용 주문 요약
+ * 거래소 취소 요청 전에 사용자 잠금 없이 조회하며, 주문 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+ */
+public record OrderCancelTarget(
+    int userId,
+    int stockId,
+    int canceledAmount
+) {}
@@ -7,6 +7,7 @@ import edu.cnu.swacademy.security.order.OrderSide;
 
 /**
  * 미체결 주문 응답 DTO
+ * 미정산 수량은 거래소에서 체결되었으나 아직 지갑에 반영되지 않은 수량으로, 미체결 수량에 포함됩니다.
  */
 public record UnfilledOrderResponse(
     int stockId,
@@ -15,11 +16,12 @@ public record UnfilledOrderResponse(
     int price,
     int quantity,
     int unfilledQuantity,
+    int unsettledQuantity,
     int canceledQuantity,
     String createdAt
 ) {
     public UnfilledOrderResponse(int stockId, int orderId, OrderSide side, int price, int quantity, 
-                                int unfilledQuantity, int canceledQuantity, LocalDateTime createdAt) {
+                                int unfilledQuantity, int unsettledQuantity, int canceledQuantity, LocalDateTime createdAt) {
         this(
             stockId,
             orderId,
@@ -27,6 +29,7 @@ public record UnfilledOrderResponse(
             price,
             quantity,
             unfilledQuantity,
+            unsettledQuantity,
             canceledQuantity,
             createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
         );
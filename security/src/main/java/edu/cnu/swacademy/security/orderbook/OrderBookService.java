@@ -1,11 +1,16 @@
 package edu.cnu.swacademy.security.orderbook;
 
+import edu.cnu.swacademy.security.config.OrderBookEntrySerializer;
 import edu.cnu.swacademy.security.orderbook.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -18,6 +23,7 @@ import java.util.stream.Collectors;
 public class OrderBookService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final OrderBookEntrySerializer orderBookEntrySerializer;
 
     /**
      * 오더북 조회
@@ -37,52 +43,52 @@ public class OrderBookService {
 
     /**
      * 특정 측면(BUY/SELL)의 오더북 조회
+     * 가격 인덱스(Sorted Set)를 ZRANGE WITHSCORES 한 번으로 읽고, 레벨별 주문 목록과 총 수량은 하나의 파이프라인으로 조회합니다.
+     * 주문 목록은 Redis 엔진 모드에서만 기록되며, 인메모리 엔진 모드에서는 가격별 총 수량만 응답합니다.
      */
     private OrderBookSideResponse getOrderBookSide(int stockId, String side) {
         String priceKey = getPriceKey(stockId, side);
         String totalUnitKey = getTotalUnitKey(stockId, side);
 
-        // 1. 가격 리스트 조회
-        List<Object> prices = redisTemplate.opsForList().range(priceKey, 0, -1);
-        if (prices == null || prices.isEmpty()) {
+        // 1. 가격 인덱스 조회 (오름차순)
+        Set<ZSetOperations.TypedTuple<Object>> priceTuples = redisTemplate.opsForZSet().rangeWithScores(priceKey, 0, -1);
+        if (priceTuples == null || priceTuples.isEmpty()) {
             log.info("No prices found for stockId: {}, side: {}", stockId, side);
             return new OrderBookSideResponse(new HashMap<>());
         }
 
+        List<Integer> prices = new ArrayList<>(priceTuples.size());
+        for (ZSetOperations.TypedTuple<Object> tuple : priceTuples) {
+            prices.add(tuple.getScore().intValue());
+        }
+
+        // 2. 레벨별 주문 리스트(바이너리 엔트리)와 총 수량을 파이프라인으로 조회
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int price : prices) {
+                connection.listCommands().lRange(toBytes(getOrderKey(stockId, side, price)), 0, -1);
+            }
+            connection.hashCommands().hGetAll(toBytes(totalUnitKey));
+            return null;
+        }, RedisSerializer.byteArray());
+
+        Map<String, Integer> totalUnits = toTotalUnits((Map<?, ?>) results.get(prices.size()));
         Map<String, OrderBookPriceResponse> priceMap = new LinkedHashMap<>();
 
-        // 2. 각 가격별로 주문 정보 조회
-        for (Object priceObj : prices) {
-            int price = (Integer) priceObj;
+        for (int i = 0; i < prices.size(); i++) {
+            int price = prices.get(i);
             String priceStr = String.valueOf(price);
-            String orderKey = getOrderKey(stockId, side, price);
 
-            // 3. 해당 가격의 주문 리스트 조회
-            List<Object> orders = redisTemplate.opsForList().range(orderKey, 0, -1);
-            if (orders == null || orders.isEmpty()) {
-                log.warn("No orders found for stockId: {}, side: {}, price: {}", stockId, side, price);
-                continue;
-            }
+            // 3. 해당 가격의 주문 리스트 (인메모리 엔진은 레벨 총 수량만 반영하므로 비어 있을 수 있음)
+            List<?> orders = (List<?>) results.get(i);
 
             // 4. 주문 정보를 DTO로 변환
-            List<OrderBookOrderResponse> orderResponses = orders.stream()
-                .map(orderObj -> {
-                    // OrderBookEntry 객체를 OrderBookOrderResponse로 변환
-                    if (orderObj instanceof OrderBookEntry entry) {
-                      return new OrderBookOrderResponse(
-                            entry.getOrderId(),
-                            entry.getUnfilledUnit(),
-                            entry.getCreatedAt()
-                        );
-                    }
-                    return null;
-                })
+            List<OrderBookOrderResponse> orderResponses = orders == null ? List.of() : orders.stream()
+                .map(this::toOrderResponse)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-            // 5. 총 수량 조회
-            Object totalQuantityObj = redisTemplate.opsForHash().get(totalUnitKey, priceStr);
-            int totalQuantity = totalQuantityObj != null ? (Integer) totalQuantityObj : 0;
+            // 5. 총 수량
+            int totalQuantity = totalUnits.getOrDefault(priceStr, 0);
 
             // 6. 가격별 정보 생성
             OrderBookPriceResponse priceResponse = new OrderBookPriceResponse(totalQuantity, orderResponses);
@@ -96,17 +102,52 @@ public class OrderBookService {
     }
 
     /**
-     * Redis 키 생성 메서드들
+     * 16바이트 바이너리 오더북 엔트리를 응답 DTO로 변환 (미체결 수량 0인 취소 엔트리는 제외)
+     */
+    private OrderBookOrderResponse toOrderResponse(Object orderObj) {
+        if (!(orderObj instanceof byte[] bytes)) {
+            return null;
+        }
+        OrderBookEntry entry = orderBookEntrySerializer.deserialize(bytes);
+        if (entry.getUnfilledUnit() == 0) {
+            return null;
+        }
+        return new OrderBookOrderResponse(entry.getOrderId(), entry.getUnfilledUnit(), entry.getCreatedAt());
+    }
+
+    /**
+     * 가격별 총 수량 해시 변환 (가격 문자열 -> 수량)
+     */
+    private Map<String, Integer> toTotalUnits(Map<?, ?> raw) {
+        Map<String, Integer> totalUnits = new HashMap<>();
+        if (raw == null) {
+            return totalUnits;
+        }
+        for (Map.Entry<?, ?> entry : raw.entrySet()) {
+            totalUnits.put(
+                new String((byte[]) entry.getKey(), StandardCharsets.UTF_8),
+                Integer.parseInt(new String((byte[]) entry.getValue(), StandardCharsets.UTF_8))
+            );
+        }
+        return totalUnits;
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redis 키 생성 메서드들 (종목 ID 해시 태그로 한 종목의 키를 같은 클러스터 슬롯에 둠)
      */
     private String getPriceKey(int stockId, String side) {
-        return String.format("%d:%s:prices", stockId, side);
+        return String.format("{%d}:%s:prices", stockId, side);
     }
 
     private String getOrderKey(int stockId, String side, int price) {
-        return String.format("%d:%s:%d", stockId, side, price);
+        return String.format("{%d}:%s:%d", stockId, side, price);
     }
 
     private String getTotalUnitKey(int stockId, String side) {
-        return String.format("%d:%s:total-unit", stockId, side);
+        return String.format("{%d}:%s:total-unit", stockId, side);
     }
 }
@@ -0,0 +1,32 @@
+package edu.cnu.swacademy.security.partition;
+
+/**
+ * 거래소 노드 (거래소 서버 프로세스 하나)
+ */
+public record ExchangeNode(
+    int nodeId,
+    String host,
+    int port
+) {
+  /**
+   * "host:port" 형식의 주소에서 노드 생성
+   */
+  public static ExchangeNode of(int nodeId, String address) {
+    int separator = address.lastIndexOf(':');
+    if (separator <= 0) {
+      throw new IllegalArgumentException("Invalid exchange node address: " + address);
+    }
+    return new ExchangeNode(nodeId, address.substring(0, separator).trim(), Integer.parseInt(address.substring(separator + 1).trim()));
+  }
+
+  /**
+   * 주문 게이트웨이 포트 (HTTP 포트 + 오프셋)
+   */
+  public int gatewayPort(int portOffset) {
+    return port + portOffset;
+  }
+
+  public String baseUrl() {
+    return String.format("http://%s:%d", host, port);
+  }
+}
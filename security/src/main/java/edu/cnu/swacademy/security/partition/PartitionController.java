@@ -0,0 +1,43 @@
+package edu.cnu.swacademy.security.partition;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.partition.dto.PartitionMoveRequest;
+import edu.cnu.swacademy.security.partition.dto.PartitionTableResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/market/partitions")
+@RequiredArgsConstructor
+public class PartitionController {
+
+  private final PartitionService partitionService;
+
+  /**
+   * 파티션 테이블 조회
+   * 거래소 노드 목록, 종목별 담당 노드, 장 종료 시 반영될 이관 예약을 조회합니다.
+   */
+  @GetMapping
+  public PartitionTableResponse getPartitionTable() {
+    return partitionService.getPartitionTable();
+  }
+
+  /**
+   * 종목 이관 예약
+   * 종목의 오더북을 다른 거래소 노드로 옮기도록 예약합니다. 이관은 장 종료 시 수행됩니다.
+   *
+   * @param request 종목 ID와 대상 노드 ID
+   * @return 파티션 테이블
+   * @throws SecurityException 종목이 없거나 노드 번호가 잘못된 경우 발생
+   */
+  @PostMapping("/moves")
+  public PartitionTableResponse requestMove(@Valid @RequestBody PartitionMoveRequest request) throws SecurityException {
+    return partitionService.requestMove(request);
+  }
+}
@@ -0,0 +1,109 @@
+package edu.cnu.swacademy.security.partition;
+
+import java.util.Map;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import edu.cnu.swacademy.security.common.ErrorCode;
+import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.partition.dto.PartitionMoveRequest;
+import edu.cnu.swacademy.security.partition.dto.PartitionTableResponse;
+import edu.cnu.swacademy.security.stock.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목 파티션 관리 서비스
+ * 종목 이관 예약을 받고, 장 종료 시 예약된 종목의 오더북을 노드 간에 옮깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionService {
+
+  private final PartitionTable partitionTable;
+  private final StockRepository stockRepository;
+  private final RestTemplate restTemplate;
+
+  /**
+   * 파티션 테이블 조회
+   */
+  public PartitionTableResponse getPartitionTable() {
+    return new PartitionTableResponse(partitionTable.getNodes(), partitionTable.getAssignments(), partitionTable.getPendingMoves());
+  }
+
+  /**
+   * 종목 이관 예약
+   * 거래 중 오더북을 옮기지 않도록 실제 이관은 장 종료 시 수행합니다.
+   *
+   * @throws SecurityException 종목이 없거나 노드 번호가 잘못된 경우 발생
+   */
+  public PartitionTableResponse requestMove(PartitionMoveRequest request) throws SecurityException {
+    if (!stockRepository.existsById(request.stockId())) {
+      throw new SecurityException(ErrorCode.STOCK_NOT_FOUND);
+    }
+    if (request.nodeId() >= partitionTable.getNodes().size()) {
+      throw new SecurityException(ErrorCode.INVALID_REQUEST);
+    }
+
+    partitionTable.requestMove(request.stockId(), request.nodeId());
+    log.info("Partition move requested: stockId={}, nodeId={}", request.stockId(), request.nodeId());
+    return getPartitionTable();
+  }
+
+  /**
+   * 예약된 종목 이관 수행 (장 종료 시, 노드들이 실행 중일 때 호출)
+   * 원래 노드에서 오더북을 내보내고(이후 원래 노드는 해당 종목 주문을 거부) 대상 노드로 가져온 뒤 배정을 바꿉니다.
+   * 가져오기에 실패하면 원래 노드로 되돌리고 예약은 다음 장 종료로 넘깁니다.
+   */
+  public void rebalance() {
+    Map<Integer, Integer> moves = partitionTable.getPendingMoves();
+    for (Map.Entry<Integer, Integer> move : moves.entrySet()) {
+      int stockId = move.getKey();
+      ExchangeNode source = partitionTable.nodeOf(stockId);
+      ExchangeNode target = partitionTable.getNode(move.getValue());
+
+      if (source.nodeId() == target.nodeId()) {
+        partitionTable.cancelMove(stockId);
+        continue;
+      }
+      moveStock(stockId, source, target);
+    }
+  }
+
+  private void moveStock(int stockId, ExchangeNode source, ExchangeNode target) {
+    byte[] data;
+    try {
+      data = restTemplate.postForObject(source.baseUrl() + "/api/v1/market/stocks/{stockId}/export", null, byte[].class, stockId);
+    } catch (Exception e) {
+      log.error("Failed to export order book. stockId : {}, node : {}, e : {}, msg : {}", stockId, source.nodeId(), e.getClass(), e.getMessage());
+      return;
+    }
+
+    try {
+      importBook(target, stockId, data);
+    } catch (Exception e) {
+      log.error("Failed to import order book, restoring to source. stockId : {}, node : {}, e : {}, msg : {}", stockId, target.nodeId(), e.getClass(), e.getMessage());
+      try {
+        importBook(source, stockId, data);
+      } catch (Exception restoreException) {
+        log.error("Failed to restore order book to source. stockId : {}, node : {}, bytes : {}, e : {}, msg : {}",
+            stockId, source.nodeId(), data == null ? 0 : data.length, restoreException.getClass(), restoreException.getMessage());
+      }
+      return;
+    }
+
+    partitionTable.completeMove(stockId, target.nodeId());
+    log.info("Stock moved between exchange nodes: stockId={}, from={}, to={}", stockId, source.nodeId(), target.nodeId());
+  }
+
+  private void importBook(ExchangeNode node, int stockId, byte[] data) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+    restTemplate.postForEntity(node.baseUrl() + "/api/v1/market/stocks/{stockId}/import", new HttpEntity<>(data, headers), Void.class, stockId);
+  }
+}
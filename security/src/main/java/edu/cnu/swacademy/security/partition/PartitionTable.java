@@ -0,0 +1,147 @@
+package edu.cnu.swacademy.security.partition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종목 파티션 테이블
+ * 종목마다 오더북을 보유한 거래소 노드를 기록합니다. 각 노드는 서로 겹치지 않는 종목 집합만 처리합니다.
+ * 배정은 Redis에 보관하여 증권사 서버가 재시작되어도 유지되며, 장 시작 시 새 종목에만 기본 노드(종목 ID % 노드 수)를 배정합니다.
+ * 배정 변경은 장 종료 시 오더북 이관과 함께 반영되도록 이관 예약으로만 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionTable {
+
+  private static final String ASSIGNMENT_KEY = "exchange:partitions";
+  private static final String MOVE_KEY = "exchange:partition-moves";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  private final Map<Integer, Integer> assignments = new ConcurrentHashMap<>();
+  private List<ExchangeNode> nodes;
+
+  @Value("${exchange.server.nodes}")
+  private List<String> nodeAddresses;
+
+  @PostConstruct
+  public void init() {
+    List<ExchangeNode> parsed = new ArrayList<>(nodeAddresses.size());
+    for (int nodeId = 0; nodeId < nodeAddresses.size(); nodeId++) {
+      parsed.add(ExchangeNode.of(nodeId, nodeAddresses.get(nodeId)));
+    }
+    nodes = Collections.unmodifiableList(parsed);
+    log.info("Exchange nodes configured: {}", nodes);
+  }
+
+  /**
+   * 장 시작 시 Redis의 배정을 불러오고, 배정되지 않은 종목(또는 없어진 노드의 종목)에 기본 노드를 배정합니다.
+   */
+  public void load(Collection<Integer> stockIds) {
+    Map<Integer, Integer> stored = readHash(ASSIGNMENT_KEY);
+    Map<String, Object> added = new HashMap<>();
+
+    assignments.clear();
+    for (int stockId : stockIds) {
+      Integer nodeId = stored.get(stockId);
+      if (nodeId == null || nodeId >= nodes.size()) {
+        if (nodeId != null) {
+          log.warn("Stock assigned to removed exchange node, reassigning: stockId={}, nodeId={}", stockId, nodeId);
+        }
+        nodeId = defaultNodeOf(stockId);
+        added.put(String.valueOf(stockId), nodeId);
+      }
+      assignments.put(stockId, nodeId);
+    }
+
+    if (!added.isEmpty()) {
+      redisTemplate.opsForHash().putAll(ASSIGNMENT_KEY, added);
+    }
+    log.info("Partition table loaded: stocks={}, newly-assigned={}", assignments.size(), added.size());
+  }
+
+  public List<ExchangeNode> getNodes() {
+    return nodes;
+  }
+
+  /**
+   * 노드 조회
+   *
+   * @throws IllegalArgumentException 없는 노드인 경우
+   */
+  public ExchangeNode getNode(int nodeId) {
+    if (nodeId < 0 || nodeId >= nodes.size()) {
+      throw new IllegalArgumentException("Unknown exchange node: " + nodeId);
+    }
+    return nodes.get(nodeId);
+  }
+
+  /**
+   * 종목의 담당 노드
+   */
+  public ExchangeNode nodeOf(int stockId) {
+    Integer nodeId = assignments.get(stockId);
+    return nodes.get(nodeId != null ? nodeId : defaultNodeOf(stockId));
+  }
+
+  public Map<Integer, Integer> getAssignments() {
+    return Map.copyOf(assignments);
+  }
+
+  /**
+   * 장 종료 시 반영할 종목 이관 예약
+   */
+  public void requestMove(int stockId, int nodeId) {
+    getNode(nodeId);
+    redisTemplate.opsForHash().put(MOVE_KEY, String.valueOf(stockId), nodeId);
+  }
+
+  /**
+   * 예약된 종목 이관 목록 (종목 ID → 대상 노드 ID)
+   */
+  public Map<Integer, Integer> getPendingMoves() {
+    return readHash(MOVE_KEY);
+  }
+
+  /**
+   * 이관 완료 반영
+   */
+  public void completeMove(int stockId, int nodeId) {
+    assignments.put(stockId, nodeId);
+    redisTemplate.opsForHash().put(ASSIGNMENT_KEY, String.valueOf(stockId), nodeId);
+    redisTemplate.opsForHash().delete(MOVE_KEY, String.valueOf(stockId));
+  }
+
+  /**
+   * 이관 예약 취소
+   */
+  public void cancelMove(int stockId) {
+    redisTemplate.opsForHash().delete(MOVE_KEY, String.valueOf(stockId));
+  }
+
+  private int defaultNodeOf(int stockId) {
+    return Math.floorMod(stockId, nodes.size());
+  }
+
+  private Map<Integer, Integer> readHash(String key) {
+    Map<Integer, Integer> result = new HashMap<>();
+    for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(key).entrySet()) {
+      result.put(Integer.parseInt(entry.getKey().toString()), ((Number) entry.getValue()).intValue());
+    }
+    return result;
+  }
+}
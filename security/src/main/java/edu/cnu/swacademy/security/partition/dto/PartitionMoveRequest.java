@@ -0,0 +1,18 @@
+package edu.cnu.swacademy.security.partition.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+
+/**
+ * 종목 이관 예약 요청 DTO
+ */
+public record PartitionMoveRequest(
+    @JsonProperty("stock_id")
+    @Min(value = 1)
+    int stockId,
+
+    @JsonProperty("node_id")
+    @Min(value = 0)
+    int nodeId
+) {
+}
@@ -0,0 +1,20 @@
+package edu.cnu.swacademy.security.partition.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import edu.cnu.swacademy.security.partition.ExchangeNode;
+
+/**
+ * 파티션 테이블 조회 응답 DTO
+ * assignments, pending_moves는 종목 ID → 노드 ID 입니다.
+ */
+public record PartitionTableResponse(
+    List<ExchangeNode> nodes,
+    Map<Integer, Integer> assignments,
+    @JsonProperty("pending_moves")
+    Map<Integer, Integer> pendingMoves
+) {
+}
@@ -0,0 +1,193 @@
+package edu.cnu.swacademy.security.queue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.cnu.swacademy.security.gateway.GatewayProtocol;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelRequest;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderCancelResponse;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderRequest;
+import edu.cnu.swacademy.security.order.dto.ExchangeOrderResponse;
+import edu.cnu.swacademy.security.partition.ExchangeNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거래소 주문 큐 클라이언트
+ * 노드별 주문 큐(orders)에 주문/취소를 추가하고, 거래소가 응답 큐(acks)에 남긴 결과를 상관 ID로 찾아 돌려줍니다.
+ * 큐에 추가된 주문은 디스크에 남으므로 응답 전에 거래소가 죽어도 재시작한 거래소가 다시 처리합니다.
+ * 응답 제한 시간이 지나면 거래소가 아직 꺼내지 않은 레코드를 철회한 뒤에만 실패로 완료하므로,
+ * 실패로 롤백한 주문이 나중에 체결되지 않습니다. 거래소가 이미 처리를 시작했다면 응답을 계속 기다립니다.
+ * 레코드 형식은 주문 게이트웨이 프레임({@link GatewayProtocol})과 같습니다.
+ */
+@Slf4j
+@Component
+public class OrderQueueClient {
+
+  // 노드 ID → 큐
+  private final Map<Integer, NodeQueue> queues = new ConcurrentHashMap<>();
+
+  // 재시작 전의 상관 ID와 겹치지 않도록 시작 시각으로 초기화
+  private final AtomicLong nextCorrelationId = new AtomicLong(System.currentTimeMillis() << 20);
+
+  @Value("${exchange.server.queue.dir:./queue}")
+  private String queueDir;
+
+  @Value("${exchange.server.queue.segment-size:67108864}")
+  private int segmentSize;
+
+  @Value("${exchange.server.queue.poll-micros:50}")
+  private long pollMicros;
+
+  @Value("${exchange.server.read-timeout-millis:3000}")
+  private long readTimeoutMillis;
+
+  /**
+   * 주문 추가 후 응답 대기 (응답 제한 시간 안에 철회되면 TimeoutException으로 완료)
+   */
+  public CompletableFuture<ExchangeOrderResponse> sendOrder(ExchangeNode node, ExchangeOrderRequest request) {
+    long correlationId = nextCorrelationId.incrementAndGet();
+    return getQueue(node)
+        .append(correlationId, GatewayProtocol.encodeNewOrder(correlationId, request))
+        .thenApply(GatewayProtocol::decodeOrderResponse);
+  }
+
+  /**
+   * 주문 취소 추가 후 응답 대기
+   */
+  public CompletableFuture<ExchangeOrderCancelResponse> cancelOrder(ExchangeNode node, ExchangeOrderCancelRequest request) {
+    long correlationId = nextCorrelationId.incrementAndGet();
+    return getQueue(node)
+        .append(correlationId, GatewayProtocol.encodeCancel(correlationId, request))
+        .thenApply(GatewayProtocol::decodeCancelResponse);
+  }
+
+  /**
+   * 노드 큐 디렉토리 (거래소 서버 기동 시 exchange.queue.dir로 전달)
+   */
+  public String getQueueDir(ExchangeNode node) {
+    return queueDir + "/node-" + node.nodeId();
+  }
+
+  /**
+   * 큐 비우기 (장 종료 후 거래소 서버가 모두 종료된 뒤 호출)
+   * 처리된 주문은 거래소 저널과 스냅샷에 남아 있으므로 다음 장은 빈 큐로 시작합니다.
+   */
+  public void reset(List<ExchangeNode> nodes) {
+    close();
+    for (ExchangeNode node : nodes) {
+      Path directory = Path.of(getQueueDir(node));
+      if (!Files.isDirectory(directory)) {
+        continue;
+      }
+      try (Stream<Path> files = Files.list(directory)) {
+        for (Path file : files.filter(path -> path.toString().endsWith(".q")).toList()) {
+          Files.delete(file);
+        }
+      } catch (IOException e) {
+        log.warn("Failed to reset order queue: dir={}, e={}, msg={}", directory, e.getClass(), e.getMessage());
+      }
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    queues.values().forEach(NodeQueue::close);
+    queues.clear();
+  }
+
+  private NodeQueue getQueue(ExchangeNode node) {
+    return queues.computeIfAbsent(node.nodeId(), nodeId -> new NodeQueue(Path.of(getQueueDir(node))));
+  }
+
+  /**
+   * 노드 하나의 주문 큐/응답 큐와 응답 수신 스레드
+   */
+  private class NodeQueue implements Runnable {
+
+    private final MappedQueue orderQueue;
+    private final MappedQueue ackQueue;
+    private final Map<Long, CompletableFuture<ByteBuffer>> pending = new ConcurrentHashMap<>();
+    private final Thread reader;
+    private volatile boolean running = true;
+
+    NodeQueue(Path directory) {
+      this.orderQueue = new MappedQueue(directory, "orders", segmentSize);
+      this.ackQueue = new MappedQueue(directory, "acks", segmentSize);
+      this.reader = new Thread(this, "order-queue-acks-" + directory.getFileName());
+      this.reader.setDaemon(true);
+      this.reader.start();
+      log.info("Order queue opened: dir={}", directory);
+    }
+
+    CompletableFuture<ByteBuffer> append(long correlationId, ByteBuffer frame) {
+      CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+      pending.put(correlationId, future);
+      future.whenComplete((body, e) -> pending.remove(correlationId));
+
+      long position = orderQueue.append(frame);
+      CompletableFuture.delayedExecutor(readTimeoutMillis, TimeUnit.MILLISECONDS)
+          .execute(() -> expire(correlationId, position, future));
+      return future;
+    }
+
+    /**
+     * 응답 제한 시간 만료 처리
+     * 거래소가 아직 꺼내지 않은 레코드만 철회하고 실패로 완료합니다. 이미 꺼냈다면 거래소가 처리 중이거나
+     * 재시작 후 다시 처리하므로, 실패로 완료하지 않고 응답을 기다립니다.
+     */
+    private void expire(long correlationId, long position, CompletableFuture<ByteBuffer> future) {
+      if (future.isDone()) {
+        return;
+      }
+      if (orderQueue.cancel(position)) {
+        future.completeExceptionally(new TimeoutException("Order queue record cancelled: correlation-id=" + correlationId));
+      } else {
+        log.warn("Order queue record already claimed by exchange, waiting for ack: correlation-id={}", correlationId);
+      }
+    }
+
+    /**
+     * 응답 큐 수신 루프 (대기 중인 요청이 없는 응답은 재시작 전 요청의 응답이므로 건너뜀)
+     */
+    @Override
+    public void run() {
+      MappedQueue.Tailer tailer = ackQueue.tailer();
+      while (running) {
+        ByteBuffer record = tailer.poll();
+        if (record == null) {
+          LockSupport.parkNanos(pollMicros * 1_000);
+          continue;
+        }
+
+        record.get(); // 유형 (응답 유형은 요청으로 정해짐)
+        CompletableFuture<ByteBuffer> future = pending.get(record.getLong());
+        if (future != null) {
+          // 매핑된 파일을 가리키는 버퍼이므로 복사하여 전달
+          ByteBuffer body = ByteBuffer.allocate(record.remaining()).put(record).flip();
+          future.complete(body);
+        }
+      }
+    }
+
+    void close() {
+      running = false;
+      orderQueue.close();
+      ackQueue.close();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package edu.cnu.swacademy.security.settlement;
+
+import edu.cnu.swacademy.security.common.BaseEntity;
+import edu.cnu.swacademy.security.order.OrderSide;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 실패 체결
+ * 재시도 끝에 정산하지 못한 체결과 종료 시점에 큐에 남아 있던 체결을 보관하며, 정산 큐가 주기적으로 다시 정산합니다.
+ */
+@Getter
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@Table(name = "failed_fill")
+@Entity
+public class FailedFill extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(columnDefinition = "INT UNSIGNED")
+  private int id;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int takerOrderId;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int makerOrderId;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int stockId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private OrderSide takerSide;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int takerPrice;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int matchedAmount;
+
+  @Column(nullable = false, columnDefinition = "INT UNSIGNED")
+  private int matchedPrice;
+
+  public FailedFill(FillEvent fill) {
+    this.takerOrderId = fill.takerOrderId();
+    this.makerOrderId = fill.makerOrderId();
+    this.stockId = fill.stockId();
+    this.takerSide = fill.takerSide();
+    this.takerPrice = fill.takerPrice();
+    this.matchedAmount = fill.matchedAmount();
+    this.matchedPrice = fill.matchedPrice();
+  }
+
+  public FillEvent toFillEvent() {
+    return new FillEvent(takerOrderId, makerOrderId, stockId, takerSide, takerPrice, matchedAmount, matchedPrice);
+  }
+}
@@ -0,0 +1,18 @@
+package edu.cnu.swacademy.security.settlement;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * FailedFill 엔티티를 위한 JPA Repository
+ */
+@Repository
+public interface FailedFillRepository extends JpaRepository<FailedFill, Integer> {
+
+  /**
+   * 보관 순서대로 정산 실패 체결 조회
+   */
+  List<FailedFill> findTop100ByOrderByIdAsc();
+}
@@ -0,0 +1,20 @@
+package edu.cnu.swacademy.security.settlement;
+
+import edu.cnu.swacademy.security.order.OrderSide;
+
+/**
+ * 체결 이벤트
+ * 거래소 체결 응답의 maker 한 건에 해당하며, 정산 워커가 지갑/내역/체결 내역에 반영합니다.
+ *
+ * @param takerPrice taker 지정가 (매수 taker의 가격 개선 차액 해제에 사용)
+ */
+public record FillEvent(
+    int takerOrderId,
+    int makerOrderId,
+    int stockId,
+    OrderSide takerSide,
+    int takerPrice,
+    int matchedAmount,
+    int matchedPrice
+) {
+}
@@ -0,0 +1,107 @@
+package edu.cnu.swacademy.security.settlement;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import edu.cnu.swacademy.security.order.OrderSide;
+
+/**
+ * 정산 묶음
+ * 여러 체결을 지갑별 순변화량으로 합산합니다.
+ * 지갑은 (사용자 ID, 종목 ID) 순으로 정렬되어, 워커끼리 항상 같은 순서로 행 잠금을 얻습니다.
+ */
+final class SettlementBatch {
+
+  // 사용자 ID → 현금 지갑 변화량
+  private final Map<Integer, WalletDelta> cashWallets = new TreeMap<>();
+
+  // (사용자 ID, 종목 ID) → 종목 지갑 변화량
+  private final Map<StockWalletKey, WalletDelta> stockWallets = new TreeMap<>();
+
+  /**
+   * 체결 한 건 반영 (지갑 메서드 settleBuyOrder/settleSellOrder/deposit/updateOrderCancel과 같은 변화량)
+   */
+  void add(FillEvent fill, int makerUserId, int takerUserId) {
+    int stockId = fill.stockId();
+    int quantity = fill.matchedAmount();
+    long cash = (long) fill.matchedPrice() * quantity;
+
+    if (fill.takerSide() == OrderSide.SELL) {
+      // maker가 매수자, taker가 매도자
+      cashWallet(makerUserId).settleBuy(cash);
+      stockWallet(takerUserId, stockId).settleSell(quantity);
+      stockWallet(makerUserId, stockId).receive(quantity);
+    } else {
+      // maker가 매도자, taker가 매수자 (taker 지정가보다 낮게 체결된 차액은 묶인 금액에서 해제)
+      stockWallet(makerUserId, stockId).settleSell(quantity);
+      WalletDelta takerCash = cashWallet(takerUserId);
+      takerCash.settleBuy(cash);
+      long priceImprovement = (long) (fill.takerPrice() - fill.matchedPrice()) * quantity;
+      if (priceImprovement > 0) {
+        takerCash.deposit -= priceImprovement;
+      }
+      stockWallet(takerUserId, stockId).receive(quantity);
+    }
+  }
+
+  Map<Integer, WalletDelta> getCashWallets() {
+    return cashWallets;
+  }
+
+  Map<StockWalletKey, WalletDelta> getStockWallets() {
+    return stockWallets;
+  }
+
+  private WalletDelta cashWallet(int userId) {
+    return cashWallets.computeIfAbsent(userId, key -> new WalletDelta());
+  }
+
+  private WalletDelta stockWallet(int userId, int stockId) {
+    return stockWallets.computeIfAbsent(new StockWalletKey(userId, stockId), key -> new WalletDelta());
+  }
+
+  record StockWalletKey(int userId, int stockId) implements Comparable<StockWalletKey> {
+
+    @Override
+    public int compareTo(StockWalletKey other) {
+      int result = Integer.compare(userId, other.userId);
+      return result != 0 ? result : Integer.compare(stockId, other.stockId);
+    }
+  }
+
+  /**
+   * 지갑 하나의 순변화량
+   * reserve/deposit은 컬럼 변화량이고, received/sold는 내역(체결 입금/매도 체결)에 남길 누적 수량입니다.
+   */
+  static final class WalletDelta {
+
+    long reserve;
+    long deposit;
+    long received;
+    long sold;
+
+    private void settleBuy(long cash) {
+      deposit -= cash;
+      reserve += cash;
+      received += cash;
+    }
+
+    private void settleSell(int quantity) {
+      deposit -= quantity;
+      reserve -= quantity;
+      sold += quantity;
+    }
+
+    private void receive(int quantity) {
+      reserve += quantity;
+      received += quantity;
+    }
+
+    /**
+     * 기존 지갑 없이 입고만 있는 변화량인지 (종목 지갑이 없으면 새로 만들 수 있는 경우)
+     */
+    boolean isDepositOnly() {
+      return deposit == 0 && sold == 0;
+    }
+  }
+}
@@ -0,0 +1,236 @@
+package edu.cnu.swacademy.security.settlement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import edu.cnu.swacademy.security.ledger.RiskLedger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정산 큐
+ * 주문 접수 트랜잭션이 커밋된 뒤 체결 이벤트를 워커 큐에 넣고, 워커 스레드가 짧은 시간 창 또는 최대 건수만큼 모아 한 트랜잭션으로 정산합니다.
+ * 같은 종목의 체결은 항상 같은 워커가 순서대로 처리하므로 장 상태 갱신과 주문 잔량 반영 순서가 유지됩니다.
+ * 재시도 끝에 정산하지 못한 체결과 종료 시점까지 비우지 못한 체결은 정산 실패 테이블({@link FailedFill})에 보관하고,
+ * 주기적으로 다시 정산합니다. (프로세스가 강제 종료되면 큐에 남은 체결은 보관되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementQueue {
+
+  private final SettlementService settlementService;
+  private final RiskLedger riskLedger;
+  private final FailedFillRepository failedFillRepository;
+
+  private final List<BlockingQueue<FillEvent>> queues = new ArrayList<>();
+  private final List<Thread> workers = new ArrayList<>();
+  private ScheduledExecutorService retryScheduler;
+  private volatile boolean running;
+
+  @Value("${settlement.workers:4}")
+  private int workerCount;
+
+  @Value("${settlement.max-retries:3}")
+  private int maxRetries;
+
+  @Value("${settlement.batch.window-micros:500}")
+  private long windowMicros;
+
+  @Value("${settlement.batch.max-size:256}")
+  private int maxBatchSize;
+
+  @Value("${settlement.retry-interval-seconds:60}")
+  private long retryIntervalSeconds;
+
+  @Value("${settlement.shutdown-timeout-millis:10000}")
+  private long shutdownTimeoutMillis;
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    for (int index = 0; index < workerCount; index++) {
+      BlockingQueue<FillEvent> queue = new LinkedBlockingQueue<>();
+      Thread worker = new Thread(() -> runWorker(queue), "settlement-worker-" + index);
+      worker.setDaemon(true);
+      queues.add(queue);
+      workers.add(worker);
+      worker.start();
+    }
+
+    retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "settlement-retry");
+      thread.setDaemon(true);
+      return thread;
+    });
+    retryScheduler.scheduleWithFixedDelay(this::retryFailedFills, retryIntervalSeconds, retryIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * 종료 시 큐 비우기
+   * 워커가 남은 체결을 정산할 때까지 기다리고, 시간 안에 비우지 못한 체결은 정산 실패 테이블에 보관합니다.
+   */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    retryScheduler.shutdownNow();
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+    for (Thread worker : workers) {
+      TimeUnit.NANOSECONDS.timedJoin(worker, Math.max(1, deadline - System.nanoTime()));
+    }
+    workers.forEach(Thread::interrupt);
+
+    List<FillEvent> remaining = new ArrayList<>();
+    queues.forEach(queue -> queue.drainTo(remaining));
+    if (!remaining.isEmpty()) {
+      log.warn("Settlement queue stopped with pending fills: count={}", remaining.size());
+      deadLetter(remaining);
+    }
+  }
+
+  /**
+   * 체결 이벤트 등록 (트랜잭션 안에서 호출되면 커밋 후에 큐에 추가하고, 롤백되면 버림)
+   */
+  public void submit(List<FillEvent> fills) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      fills.forEach(this::enqueue);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        fills.forEach(SettlementQueue.this::enqueue);
+      }
+    });
+  }
+
+  /**
+   * 대기 중인 체결 이벤트 수
+   */
+  public int pending() {
+    return queues.stream().mapToInt(BlockingQueue::size).sum();
+  }
+
+  private void enqueue(FillEvent fill) {
+    // 종료 중에 커밋된 체결은 워커가 받지 못할 수 있으므로 바로 보관
+    if (!running) {
+      deadLetter(List.of(fill));
+      return;
+    }
+    queues.get(Math.floorMod(fill.stockId(), queues.size())).offer(fill);
+  }
+
+  /**
+   * 워커 루프 (첫 체결 이후 시간 창이 지나거나 최대 건수가 차면 묶음 정산)
+   * 종료 요청 후에도 큐가 빌 때까지 정산합니다.
+   */
+  private void runWorker(BlockingQueue<FillEvent> queue) {
+    while (running || !queue.isEmpty()) {
+      List<FillEvent> fills = new ArrayList<>();
+      try {
+        FillEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        fills.add(first);
+        long deadline = System.nanoTime() + windowMicros * 1_000;
+        while (fills.size() < maxBatchSize) {
+          FillEvent fill = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (fill == null) {
+            break;
+          }
+          fills.add(fill);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        deadLetter(fills);
+        return;
+      }
+
+      if (settle(fills)) {
+        continue;
+      }
+
+      // 묶음이 계속 실패하면 건별로 나누어 정산 (문제가 된 체결만 보관)
+      if (fills.size() > 1) {
+        log.warn("Settling failed batch one fill at a time: fills={}", fills.size());
+        for (FillEvent fill : fills) {
+          if (!settle(List.of(fill))) {
+            deadLetter(List.of(fill));
+          }
+        }
+      } else {
+        deadLetter(fills);
+      }
+    }
+  }
+
+  /**
+   * 정산 시도 (데드락 등으로 실패하면 최대 재시도 횟수까지 다시 정산)
+   */
+  private boolean settle(List<FillEvent> fills) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        // 체결 주문의 리스크 원장 예약이 지갑 테이블에 반영된 뒤에 정산
+        riskLedger.awaitFlushed();
+        settlementService.settle(fills);
+        return true;
+      } catch (Exception e) {
+        if (attempt > maxRetries) {
+          log.error("Failed to settle fills: fills={}, attempts={}, e={}, msg={}",
+              fills.size() == 1 ? fills.get(0) : fills.size(), attempt, e.getClass(), e.getMessage());
+          return false;
+        }
+        log.warn("Retrying fill settlement: fills={}, attempt={}, e={}, msg={}",
+            fills.size(), attempt, e.getClass(), e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 정산 실패 체결 보관 (보관마저 실패하면 체결을 로그로 남김)
+   */
+  private void deadLetter(List<FillEvent> fills) {
+    if (fills.isEmpty()) {
+      return;
+    }
+    try {
+      failedFillRepository.saveAll(fills.stream().map(FailedFill::new).toList());
+      log.warn("Fills moved to failed fill table: fills={}", fills.size());
+    } catch (Exception e) {
+      log.error("Failed to store failed fills: fills={}, e={}, msg={}", fills, e.getClass(), e.getMessage());
+    }
+  }
+
+  /**
+   * 정산 실패 체결 재정산 (보관 순서대로, 다시 실패한 체결은 다음 주기에 재시도)
+   */
+  private void retryFailedFills() {
+    try {
+      for (FailedFill failedFill : failedFillRepository.findTop100ByOrderByIdAsc()) {
+        try {
+          riskLedger.awaitFlushed();
+          settlementService.settleFailedFill(failedFill);
+        } catch (Exception e) {
+          log.warn("Failed to resettle fill: failed-fill-id={}, e={}, msg={}", failedFill.getId(), e.getClass(), e.getMessage());
+        }
+      }
+    } catch (Exception e) {
+      log.error("Failed to load failed fills: e={}, msg={}", e.getClass(), e.getMessage());
+    }
+  }
+}
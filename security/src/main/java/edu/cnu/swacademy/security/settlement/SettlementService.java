@@ -0,0 +1,186 @@
+package edu.cnu.swacademy.security.settlement;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import edu.cnu.swacademy.security.asset.CashWalletTransactionType;
+import edu.cnu.swacademy.security.common.ErrorCode;
+import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.ledger.RiskLedger;
+import edu.cnu.swacademy.security.lock.UserLockManager;
+import edu.cnu.swacademy.security.market.MarketStatus;
+import edu.cnu.swacademy.security.market.MarketStatusRepository;
+import edu.cnu.swacademy.security.order.Order;
+import edu.cnu.swacademy.security.order.OrderRepository;
+import edu.cnu.swacademy.security.settlement.SettlementBatch.StockWalletKey;
+import edu.cnu.swacademy.security.settlement.SettlementBatch.WalletDelta;
+import edu.cnu.swacademy.security.settlement.WalletSettlementRepository.CashHistoryRow;
+import edu.cnu.swacademy.security.settlement.WalletSettlementRepository.StockHistoryRow;
+import edu.cnu.swacademy.security.settlement.WalletSettlementRepository.WalletRow;
+import edu.cnu.swacademy.security.stock.StockRepository;
+import edu.cnu.swacademy.security.stock.StockWallet;
+import edu.cnu.swacademy.security.stock.StockWalletRepository;
+import edu.cnu.swacademy.security.stock.StockWalletTransactionType;
+import edu.cnu.swacademy.security.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결 정산 서비스
+ * 체결 묶음을 maker/taker 지갑, 지갑 내역, 체결 내역, 장 상태와 양쪽 주문 잔량에 반영합니다.
+ * 지갑은 묶음 안의 체결을 합산한 순변화량으로 지갑당 한 번만 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementService {
+
+  private final OrderRepository orderRepository;
+  private final UserRepository userRepository;
+  private final StockRepository stockRepository;
+  private final StockWalletRepository stockWalletRepository;
+  private final MarketStatusRepository marketStatusRepository;
+  private final WalletSettlementRepository walletSettlementRepository;
+  private final FailedFillRepository failedFillRepository;
+  private final RiskLedger riskLedger;
+  private final UserLockManager userLockManager;
+
+  /**
+   * 체결 묶음 정산
+   *
+   * @param fills 체결 이벤트 목록 (체결 순서)
+   * @throws SecurityException 주문, 지갑 또는 장 상태가 없는 경우 발생 (묶음 전체 롤백)
+   */
+  @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
+  public void settle(List<FillEvent> fills) throws SecurityException {
+    LocalDateTime now = LocalDateTime.now();
+
+    // 1. 관련 사용자 잠금 후 주문 일괄 조회 (잠금 이후에 읽어야 취소와 겹치지 않음)
+    List<Integer> orderIds = fills.stream()
+        .flatMap(fill -> Stream.of(fill.makerOrderId(), fill.takerOrderId()))
+        .distinct()
+        .toList();
+    userLockManager.lockAll(orderRepository.findUserIdsByIdIn(orderIds));
+    Map<Integer, Order> orders = orderRepository.findAllById(orderIds)
+        .stream()
+        .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+    // 2. 체결별 주문 잔량 반영 및 지갑 순변화량 합산 (taker는 미정산 수량도 함께 차감)
+    SettlementBatch batch = new SettlementBatch();
+    for (FillEvent fill : fills) {
+      Order makerOrder = orders.get(fill.makerOrderId());
+      Order takerOrder = orders.get(fill.takerOrderId());
+      if (makerOrder == null || takerOrder == null) {
+        throw new SecurityException(ErrorCode.ORDER_NOT_FOUND);
+      }
+      batch.add(fill, makerOrder.getUser().getId(), takerOrder.getUser().getId());
+      makerOrder.updateMatch(fill.matchedAmount());
+      takerOrder.settle(fill.matchedAmount());
+    }
+
+    // 3. 지갑별 UPDATE (사용자 ID, 종목 ID 순서)
+    for (Map.Entry<Integer, WalletDelta> entry : batch.getCashWallets().entrySet()) {
+      if (walletSettlementRepository.updateCashWallet(entry.getKey(), entry.getValue(), now) == 0) {
+        throw new SecurityException(ErrorCode.CASH_WALLET_NOT_FOUND);
+      }
+    }
+    for (Map.Entry<StockWalletKey, WalletDelta> entry : batch.getStockWallets().entrySet()) {
+      if (walletSettlementRepository.updateStockWallet(entry.getKey(), entry.getValue(), now) == 0) {
+        createStockWallet(entry.getKey(), entry.getValue());
+      }
+    }
+
+    // 리스크 원장에 같은 순변화량 반영 (커밋 후)
+    batch.getCashWallets().forEach((userId, delta) -> riskLedger.applyCash(userId, delta.reserve, delta.deposit));
+    batch.getStockWallets().forEach((key, delta) ->
+        riskLedger.applyHolding(key.userId(), key.stockId(), delta.reserve, delta.deposit));
+
+    // 4. 지갑 내역 및 체결 내역 다중 행 저장
+    createCashWalletHistories(batch, now);
+    createStockWalletHistories(batch, now);
+    walletSettlementRepository.insertMatches(fills, now);
+
+    // 5. 장 상태 업데이트 (체결 가격별 반영)
+    Map<Integer, MarketStatus> marketStatuses = new HashMap<>();
+    for (FillEvent fill : fills) {
+      MarketStatus marketStatus = marketStatuses.get(fill.stockId());
+      if (marketStatus == null) {
+        marketStatus = marketStatusRepository.findByStockIdAndTradingDate(fill.stockId(), LocalDate.now())
+            .orElseThrow(() -> new SecurityException(ErrorCode.MARKET_STATUS_NOT_FOUND));
+        marketStatuses.put(fill.stockId(), marketStatus);
+      }
+      marketStatus.update(fill.matchedPrice(), fill.matchedAmount(), fill.matchedPrice() * fill.matchedAmount());
+    }
+
+    log.info("Fills settled: fills(={}), cash-wallets(={}), stock-wallets(={})",
+        fills.size(), batch.getCashWallets().size(), batch.getStockWallets().size());
+  }
+
+  /**
+   * 정산 실패 체결 재정산 (정산과 보관 행 삭제를 한 트랜잭션으로 처리하여 중복 정산을 막음)
+   *
+   * @throws SecurityException 주문, 지갑 또는 장 상태가 없는 경우 발생 (보관 행 유지)
+   */
+  @Transactional(rollbackFor = Exception.class, isolation = Isolation.READ_COMMITTED)
+  public void settleFailedFill(FailedFill failedFill) throws SecurityException {
+    settle(List.of(failedFill.toFillEvent()));
+    failedFillRepository.delete(failedFill);
+  }
+
+  /**
+   * 종목 지갑이 없는 매수자의 지갑 생성 (입고만 있는 경우에만 허용)
+   */
+  private void createStockWallet(StockWalletKey key, WalletDelta delta) throws SecurityException {
+    if (!delta.isDepositOnly()) {
+      throw new SecurityException(ErrorCode.STOCK_WALLET_NOT_FOUND);
+    }
+    StockWallet stockWallet = new StockWallet(
+        userRepository.getReferenceById(key.userId()), stockRepository.getReferenceById(key.stockId()));
+    stockWallet.deposit((int) delta.reserve);
+    stockWalletRepository.saveAndFlush(stockWallet);
+  }
+
+  /**
+   * 현금 지갑 내역 생성 (지갑별 체결 입금 합계)
+   */
+  private void createCashWalletHistories(SettlementBatch batch, LocalDateTime now) {
+    Map<Integer, WalletRow> wallets = walletSettlementRepository.findCashWallets(batch.getCashWallets().keySet());
+    List<CashHistoryRow> histories = new ArrayList<>();
+    batch.getCashWallets().forEach((userId, delta) -> {
+      WalletRow wallet = wallets.get(userId);
+      if (delta.received > 0) {
+        histories.add(new CashHistoryRow(wallet.id(), CashWalletTransactionType.TRADE_RECEIPT, delta.received, wallet.reserve()));
+      }
+    });
+    walletSettlementRepository.insertCashWalletHistories(histories, now);
+  }
+
+  /**
+   * 종목 지갑 내역 생성 (지갑별 매수 체결/매도 체결 수량 합계)
+   */
+  private void createStockWalletHistories(SettlementBatch batch, LocalDateTime now) {
+    Map<StockWalletKey, WalletRow> wallets = walletSettlementRepository.findStockWallets(batch.getStockWallets().keySet());
+    List<StockHistoryRow> histories = new ArrayList<>();
+    batch.getStockWallets().forEach((key, delta) -> {
+      WalletRow wallet = wallets.get(key);
+      if (delta.sold > 0) {
+        histories.add(new StockHistoryRow(wallet.id(), StockWalletTransactionType.SELL_ORDER_EXECUTED, delta.sold, wallet.reserve()));
+      }
+      if (delta.received > 0) {
+        histories.add(new StockHistoryRow(wallet.id(), StockWalletTransactionType.BUY_ORDER_EXECUTED, delta.received, wallet.reserve()));
+      }
+    });
+    walletSettlementRepository.insertStockWalletHistories(histories, now);
+  }
+}
@@ -0,0 +1,153 @@
+package edu.cnu.swacademy.security.settlement;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import edu.cnu.swacademy.security.asset.CashWalletTransactionType;
+import edu.cnu.swacademy.security.settlement.SettlementBatch.StockWalletKey;
+import edu.cnu.swacademy.security.settlement.SettlementBatch.WalletDelta;
+import edu.cnu.swacademy.security.stock.StockWalletTransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산 전용 지갑 저장소
+ * 지갑마다 순변화량을 UPDATE 한 번으로 반영하고(행 잠금은 UPDATE가 획득), 내역과 체결 내역은 다중 행 INSERT 한 번으로 저장합니다.
+ * 엔티티를 거치지 않으므로 같은 트랜잭션에서 지갑 엔티티를 함께 다루지 않아야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+class WalletSettlementRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  /**
+   * 현금 지갑 순변화량 반영
+   *
+   * @return 갱신된 행 수 (지갑이 없으면 0)
+   */
+  int updateCashWallet(int userId, WalletDelta delta, LocalDateTime now) {
+    return jdbcTemplate.update(
+        "UPDATE cash_wallet SET reserve = reserve + ?, deposit = deposit + ?, updated_at = ? WHERE user_id = ? AND deleted_at IS NULL",
+        delta.reserve, delta.deposit, now, userId);
+  }
+
+  /**
+   * 종목 지갑 순변화량 반영
+   *
+   * @return 갱신된 행 수 (지갑이 없으면 0)
+   */
+  int updateStockWallet(StockWalletKey key, WalletDelta delta, LocalDateTime now) {
+    return jdbcTemplate.update(
+        "UPDATE stock_wallet SET reserve = reserve + ?, deposit = deposit + ?, updated_at = ? WHERE user_id = ? AND stock_id = ? AND deleted_at IS NULL",
+        delta.reserve, delta.deposit, now, key.userId(), key.stockId());
+  }
+
+  /**
+   * 사용자 ID별 현금 지갑 (ID, 잔액) 조회
+   */
+  Map<Integer, WalletRow> findCashWallets(Collection<Integer> userIds) {
+    Map<Integer, WalletRow> rows = new HashMap<>();
+    namedParameterJdbcTemplate.query(
+        "SELECT id, user_id, reserve FROM cash_wallet WHERE user_id IN (:userIds) AND deleted_at IS NULL",
+        Map.of("userIds", userIds),
+        rs -> {
+          rows.put(rs.getInt("user_id"), new WalletRow(rs.getInt("id"), rs.getLong("reserve")));
+        });
+    return rows;
+  }
+
+  /**
+   * (사용자 ID, 종목 ID)별 종목 지갑 (ID, 잔량) 조회
+   */
+  Map<StockWalletKey, WalletRow> findStockWallets(Collection<StockWalletKey> keys) {
+    List<Object[]> tuples = keys.stream()
+        .map(key -> new Object[] {key.userId(), key.stockId()})
+        .toList();
+    Map<StockWalletKey, WalletRow> rows = new HashMap<>();
+    namedParameterJdbcTemplate.query(
+        "SELECT id, user_id, stock_id, reserve FROM stock_wallet WHERE (user_id, stock_id) IN (:keys) AND deleted_at IS NULL",
+        Map.of("keys", tuples),
+        rs -> {
+          rows.put(new StockWalletKey(rs.getInt("user_id"), rs.getInt("stock_id")),
+              new WalletRow(rs.getInt("id"), rs.getLong("reserve")));
+        });
+    return rows;
+  }
+
+  /**
+   * 현금 지갑 내역 다중 행 저장
+   */
+  void insertCashWalletHistories(List<CashHistoryRow> histories, LocalDateTime now) {
+    if (histories.isEmpty()) {
+      return;
+    }
+    List<Object> args = new ArrayList<>(histories.size() * 7);
+    for (CashHistoryRow history : histories) {
+      args.addAll(List.of(history.cashWalletId(), history.type().name(), history.amount(),
+          history.type().getDescription(), history.reserve(), now, now));
+    }
+    jdbcTemplate.update(
+        "INSERT INTO cash_wallet_history (cash_wallet_id, tx_type, tx_amount, tx_note, reserve, created_at, updated_at) VALUES "
+            + values(histories.size(), 7),
+        args.toArray());
+  }
+
+  /**
+   * 종목 지갑 내역 다중 행 저장
+   */
+  void insertStockWalletHistories(List<StockHistoryRow> histories, LocalDateTime now) {
+    if (histories.isEmpty()) {
+      return;
+    }
+    List<Object> args = new ArrayList<>(histories.size() * 7);
+    for (StockHistoryRow history : histories) {
+      args.addAll(List.of(history.stockWalletId(), history.type().name(), history.amount(),
+          history.type().getDescription(), history.reserve(), now, now));
+    }
+    jdbcTemplate.update(
+        "INSERT INTO stock_wallet_history (stock_wallet_id, tx_type, tx_amount, tx_note, reserve, created_at, updated_at) VALUES "
+            + values(histories.size(), 7),
+        args.toArray());
+  }
+
+  /**
+   * 체결 내역 다중 행 저장
+   */
+  void insertMatches(List<FillEvent> fills, LocalDateTime now) {
+    if (fills.isEmpty()) {
+      return;
+    }
+    List<Object> args = new ArrayList<>(fills.size() * 5);
+    for (FillEvent fill : fills) {
+      args.addAll(List.of(fill.stockId(), fill.makerOrderId(), fill.takerOrderId(), now, now));
+    }
+    jdbcTemplate.update(
+        "INSERT INTO `matches` (stock_id, maker_order_id, taker_order_id, created_at, updated_at) VALUES "
+            + values(fills.size(), 5),
+        args.toArray());
+  }
+
+  private static String values(int rows, int columns) {
+    String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+    return String.join(", ", Collections.nCopies(rows, row));
+  }
+
+  record WalletRow(int id, long reserve) {
+  }
+
+  record CashHistoryRow(int cashWalletId, CashWalletTransactionType type, long amount, long reserve) {
+  }
+
+  record StockHistoryRow(int stockWalletId, StockWalletTransactionType type, long amount, long reserve) {
+  }
+}
@@ -1,8 +1,7 @@
 package edu.cnu.swacademy.security.stock;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
@@ -11,9 +10,26 @@ public interface StockWalletRepository extends JpaRepository<StockWallet, Intege
 
   Optional<StockWallet> findByUserIdAndStockId(int userId, int stockId);
 
-  @Lock(LockModeType.PESSIMISTIC_WRITE)
-  @Query("SELECT sw FROM StockWallet sw WHERE sw.user.id = :userId AND sw.stock.id = :stockId")
-  Optional<StockWallet> findByUserIdAndStockIdWithLock(int userId, int stockId);
+  /**
+   * 매도 주문 수량 예약 (정지되지 않았고 가용 수량이 충분할 때만 묶인 수량 증가)
+   *
+   * @return 갱신된 행 수 (0이면 예약 실패)
+   */
+  @Modifying
+  @Query("UPDATE StockWallet sw SET sw.deposit = sw.deposit + :quantity, sw.updatedAt = LOCAL_DATETIME "
+      + "WHERE sw.user.id = :userId AND sw.stock.id = :stockId AND sw.reserve >= sw.deposit + :quantity "
+      + "AND sw.isBlocked = false AND sw.deletedAt IS NULL")
+  int reserveForSellOrder(int userId, int stockId, int quantity);
+
+  /**
+   * 주문 취소/거절로 묶인 수량 해제
+   *
+   * @return 갱신된 행 수 (0이면 지갑 없음)
+   */
+  @Modifying
+  @Query("UPDATE StockWallet sw SET sw.deposit = sw.deposit - :quantity, sw.updatedAt = LOCAL_DATETIME "
+      + "WHERE sw.user.id = :userId AND sw.stock.id = :stockId AND sw.deletedAt IS NULL")
+  int releaseOrderQuantity(int userId, int stockId, int quantity);
 
   boolean existsByUserIdAndStockId(int userId, int stockId);
 }
@@ -2,6 +2,8 @@ package edu.cnu.swacademy.security.stock;
 
 import edu.cnu.swacademy.security.common.ErrorCode;
 import edu.cnu.swacademy.security.common.SecurityException;
+import edu.cnu.swacademy.security.ledger.RiskLedger;
+import edu.cnu.swacademy.security.lock.UserLockManager;
 import edu.cnu.swacademy.security.stock.dto.StockBalanceResponse;
 import edu.cnu.swacademy.security.stock.dto.StockDepositRequest;
 import edu.cnu.swacademy.security.stock.dto.StockWalletRequest;
@@ -21,6 +23,8 @@ public class StockWalletService {
   private final StockWalletHistoryRepository stockWalletHistoryRepository;
   private final StockRepository stockRepository;
   private final UserRepository userRepository;
+  private final RiskLedger riskLedger;
+  private final UserLockManager userLockManager;
 
   /**
    * 증권 계좌 개설
@@ -47,7 +51,8 @@ public class StockWalletService {
         });
 
     // 3. 이미 해당 종목에 대한 계좌가 존재하는지 확인
-    if (stockWalletRepository.findByUserIdAndStockIdWithLock(userId, request.stockId()).isPresent()) {
+    userLockManager.lock(userId);
+    if (stockWalletRepository.existsByUserIdAndStockId(userId, request.stockId())) {
       log.info("Stock wallet already exists for user-id(={}), stock-id(={})", userId, request.stockId());
       throw new SecurityException(ErrorCode.STOCK_WALLET_ALREADY_EXISTS);
     }
@@ -55,6 +60,7 @@ public class StockWalletService {
     // 4. 증권 계좌 생성
     StockWallet stockWallet = new StockWallet(user, stock);
     stockWalletRepository.save(stockWallet);
+    riskLedger.applyHolding(userId, request.stockId(), 0, 0);
 
     log.info("Stock wallet created successfully: user-id(={}), stock-id(={}), stock-wallet-id(={})",
         userId, request.stockId(), stockWallet.getId());
@@ -84,6 +90,7 @@ public class StockWalletService {
 
     // 3. 증권 입고 처리
     stockWallet.deposit(request.amount());
+    riskLedger.applyHolding(stockWallet.getUser().getId(), stockWallet.getStock().getId(), request.amount(), 0);
 
     stockWalletHistoryRepository.save(
         new StockWalletHistory(
@@ -160,6 +167,7 @@ public class StockWalletService {
 
     // 3. 종목 계좌 정지 처리
     stockWallet.block();
+    riskLedger.setHoldingBlocked(stockWallet.getUser().getId(), stockWallet.getStock().getId(), true);
 
     // 4. 계좌 정지 내역 생성 (변경 내역 기록)
 
@@ -199,6 +207,7 @@ public class StockWalletService {
 
     // 3. 계좌 정지 해제 처리
     stockWallet.unblock();
+    riskLedger.setHoldingBlocked(stockWallet.getUser().getId(), stockWallet.getStock().getId(), false);
 
     // 4. 계좌 정지 해제 내역 생성 (변경 내역 기록)
     StockWalletHistory history = new StockWalletHistory(
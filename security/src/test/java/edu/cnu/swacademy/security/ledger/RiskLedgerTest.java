@@ -0,0 +1,130 @@
+package edu.cnu.swacademy.security.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import edu.cnu.swacademy.security.ledger.RiskLedger.Account;
+
+/**
+ * 리스크 원장 복구 검증
+ * 지갑 테이블 반영이 실패하여 저널에 남은 예약을, 다시 적재할 때 반영 위치 이후의 레코드만 재생하여 복구하는지 확인합니다.
+ * 트랜잭션은 스프링 트랜잭션 동기화를 직접 열고 닫아 흉내 냅니다.
+ */
+class RiskLedgerTest {
+
+  private static final int USER_ID = 1;
+  private static final long CASH_RESERVE = 1_000;
+
+  @TempDir
+  Path dir;
+
+  private final RiskLedgerRepository repository = mock(RiskLedgerRepository.class);
+  private final RiskLedger ledger = new RiskLedger(repository);
+
+  // 지갑 테이블 스냅샷 (반영 위치, 현금 지갑의 묶인 금액)
+  private long checkpoint;
+  private long snapshotDeposit;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(ledger, "enabled", true);
+    ReflectionTestUtils.setField(ledger, "journalDir", dir.toString());
+    ReflectionTestUtils.setField(ledger, "segmentSize", 4096);
+    ReflectionTestUtils.setField(ledger, "flushMaxRecords", 16);
+    ReflectionTestUtils.setField(ledger, "flushIntervalMicros", 100L);
+    ReflectionTestUtils.setField(ledger, "flushTimeoutMillis", 50L);
+
+    doAnswer(invocation -> {
+      Map<Integer, Account> cashAccounts = invocation.getArgument(0);
+      cashAccounts.put(USER_ID, new Account(CASH_RESERVE, snapshotDeposit, false));
+      return checkpoint;
+    }).when(repository).loadSnapshot(anyMap(), anyMap());
+    // 반영이 계속 실패하여 내릴 때 저널이 남음
+    doThrow(new IllegalStateException("database unavailable")).when(repository).flush(anyMap(), anyMap(), anyLong());
+  }
+
+  @AfterEach
+  void tearDown() {
+    ledger.unload();
+  }
+
+  @Test
+  void replaysOnlyRecordsAfterCheckpoint() throws Exception {
+    ledger.load();
+    reserveCash(100, TransactionSynchronization.STATUS_COMMITTED);
+    reserveCash(200, TransactionSynchronization.STATUS_COMMITTED);
+    assertThat(depositOf(USER_ID)).isEqualTo(300);
+    ledger.unload();
+
+    // 시퀀스 1까지 지갑 테이블에 반영된 상태로 다시 적재
+    checkpoint = 1;
+    snapshotDeposit = 100;
+    ledger.load();
+
+    assertThat(depositOf(USER_ID)).isEqualTo(300);
+  }
+
+  @Test
+  void rollbackJournalsCompensatingRecord() throws Exception {
+    ledger.load();
+    reserveCash(100, TransactionSynchronization.STATUS_COMMITTED);
+    reserveCash(200, TransactionSynchronization.STATUS_ROLLED_BACK);
+    assertThat(depositOf(USER_ID)).isEqualTo(100);
+    ledger.unload();
+
+    ledger.load();
+
+    assertThat(depositOf(USER_ID)).isEqualTo(100);
+  }
+
+  @Test
+  void keepsReservationWhenOutcomeUnknown() throws Exception {
+    ledger.load();
+    reserveCash(100, TransactionSynchronization.STATUS_UNKNOWN);
+    assertThat(depositOf(USER_ID)).isEqualTo(100);
+    ledger.unload();
+
+    ledger.load();
+
+    assertThat(depositOf(USER_ID)).isEqualTo(100);
+  }
+
+  /**
+   * 트랜잭션 하나에서 매수 금액 예약 (커밋 직전 콜백까지 호출한 뒤 주어진 상태로 완료)
+   */
+  private void reserveCash(long amount, int status) throws Exception {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      ledger.reserveCash(USER_ID, amount);
+      for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+        synchronization.beforeCommit(false);
+      }
+      for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+        synchronization.afterCompletion(status);
+      }
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private long depositOf(int userId) {
+    Map<Integer, Account> cashAccounts = (Map<Integer, Account>) ReflectionTestUtils.getField(ledger, "cashAccounts");
+    return (long) ReflectionTestUtils.getField(cashAccounts.get(userId), "deposit");
+  }
+}
@@ -0,0 +1,131 @@
+package edu.cnu.swacademy.security.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 메모리 매핑 큐 검증
+ * 읽는 쪽의 처리 시작과 쓰는 쪽의 철회 중 먼저 세운 쪽만 성공하는지, 세그먼트가 가득 차면 다음 세그먼트로 넘어가고
+ * 다시 연 큐가 마지막 세그먼트의 쓰기 위치를 복구하는지 확인합니다.
+ */
+class MappedQueueTest {
+
+  private static final String NAME = "orders";
+
+  // 본문 20바이트 레코드는 정렬 후 24바이트이므로 세그먼트 하나에 두 개씩 들어감
+  private static final int SEGMENT_SIZE = 64;
+  private static final int BODY_SIZE = 20;
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void cancelFailsAfterClaim() {
+    try (MappedQueue queue = new MappedQueue(dir, NAME, 1024)) {
+      long position = queue.append(frame(1));
+      MappedQueue.Tailer tailer = queue.tailer();
+
+      assertThat(tailer.poll()).isNotNull();
+      assertThat(tailer.claim()).isTrue();
+      assertThat(queue.cancel(position)).isFalse();
+      assertThat(tailer.claim()).isTrue();
+    }
+  }
+
+  @Test
+  void claimFailsAfterCancel() {
+    try (MappedQueue queue = new MappedQueue(dir, NAME, 1024)) {
+      long position = queue.append(frame(1));
+      queue.append(frame(2));
+      MappedQueue.Tailer tailer = queue.tailer();
+
+      assertThat(queue.cancel(position)).isTrue();
+      // 철회된 레코드도 읽히지만 처리 시작은 실패
+      assertThat(tailer.poll().getInt(0)).isEqualTo(1);
+      assertThat(tailer.claim()).isFalse();
+      assertThat(queue.cancel(position)).isTrue();
+
+      assertThat(tailer.poll().getInt(0)).isEqualTo(2);
+      assertThat(tailer.claim()).isTrue();
+      assertThat(tailer.poll()).isNull();
+    }
+  }
+
+  @Test
+  void exactlyOneOfClaimAndCancelWinsUnderRace() {
+    int records = 10_000;
+    try (MappedQueue queue = new MappedQueue(dir, NAME, 64 * 1024)) {
+      long[] positions = new long[records];
+      for (int i = 0; i < records; i++) {
+        positions[i] = queue.append(frame(i));
+      }
+
+      MappedQueue.Tailer tailer = queue.tailer();
+      CompletableFuture<boolean[]> claims = CompletableFuture.supplyAsync(() -> {
+        boolean[] claimed = new boolean[records];
+        for (int i = 0; i < records; i++) {
+          tailer.poll();
+          claimed[i] = tailer.claim();
+        }
+        return claimed;
+      });
+      CompletableFuture<boolean[]> cancels = CompletableFuture.supplyAsync(() -> {
+        boolean[] cancelled = new boolean[records];
+        for (int i = 0; i < records; i++) {
+          cancelled[i] = queue.cancel(positions[i]);
+        }
+        return cancelled;
+      });
+
+      boolean[] claimed = claims.join();
+      boolean[] cancelled = cancels.join();
+      for (int i = 0; i < records; i++) {
+        assertThat(claimed[i] ^ cancelled[i]).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void rollsOverSegmentsAndRecoversWritePosition() {
+    try (MappedQueue queue = new MappedQueue(dir, NAME, SEGMENT_SIZE)) {
+      for (int i = 1; i <= 5; i++) {
+        queue.append(frame(i));
+      }
+    }
+
+    try (MappedQueue reopened = new MappedQueue(dir, NAME, SEGMENT_SIZE)) {
+      long position = reopened.append(frame(6));
+      assertThat(position >>> 32).isEqualTo(2);
+      assertThat((int) position).isEqualTo(24);
+
+      assertThat(readAll(reopened.tailer())).containsExactly(1, 2, 3, 4, 5, 6);
+    }
+  }
+
+  private List<Integer> readAll(MappedQueue.Tailer tailer) {
+    List<Integer> values = new ArrayList<>();
+    ByteBuffer record;
+    while ((record = tailer.poll()) != null) {
+      assertThat(record.remaining()).isEqualTo(BODY_SIZE);
+      values.add(record.getInt(0));
+    }
+    return values;
+  }
+
+  /**
+   * [길이][본문] 프레임 (본문 첫 4바이트에 값)
+   */
+  private ByteBuffer frame(int value) {
+    ByteBuffer frame = ByteBuffer.allocate(4 + BODY_SIZE);
+    frame.putInt(BODY_SIZE).putInt(value).position(0);
+    return frame;
+  }
+}
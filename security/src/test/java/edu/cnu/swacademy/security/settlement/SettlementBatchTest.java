@@ -0,0 +1,90 @@
+package edu.cnu.swacademy.security.settlement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import edu.cnu.swacademy.security.asset.CashWallet;
+import edu.cnu.swacademy.security.order.OrderSide;
+import edu.cnu.swacademy.security.settlement.SettlementBatch.StockWalletKey;
+import edu.cnu.swacademy.security.settlement.SettlementBatch.WalletDelta;
+import edu.cnu.swacademy.security.stock.StockWallet;
+
+/**
+ * 정산 묶음 검증
+ * 여러 체결을 합산한 지갑별 변화량이, 체결마다 지갑 메서드를 호출한 결과와 같은지 확인합니다.
+ * (매수 taker의 지정가보다 낮게 체결된 차액 해제 포함)
+ */
+class SettlementBatchTest {
+
+  private static final int STOCK_ID = 7;
+  private static final int TAKER_PRICE = 71_000;
+
+  private static final int BUYER = 1;
+  private static final int FIRST_SELLER = 2;
+  private static final int SECOND_SELLER = 3;
+
+  @Test
+  void buyTakerFillsAtTwoPricesReleasePriceImprovement() {
+    SettlementBatch batch = new SettlementBatch();
+    batch.add(new FillEvent(100, 10, STOCK_ID, OrderSide.BUY, TAKER_PRICE, 3, 70_000), FIRST_SELLER, BUYER);
+    batch.add(new FillEvent(100, 11, STOCK_ID, OrderSide.BUY, TAKER_PRICE, 2, 70_500), SECOND_SELLER, BUYER);
+
+    // 체결마다 지갑 메서드 호출
+    CashWallet buyerCash = new CashWallet(null, "buyer");
+    buyerCash.settleBuyOrder(70_000 * 3);
+    buyerCash.updateOrderCancel((TAKER_PRICE - 70_000) * 3);
+    buyerCash.settleBuyOrder(70_500 * 2);
+    buyerCash.updateOrderCancel((TAKER_PRICE - 70_500) * 2);
+
+    StockWallet buyerStock = new StockWallet(null, null);
+    buyerStock.deposit(3);
+    buyerStock.deposit(2);
+
+    StockWallet firstSellerStock = new StockWallet(null, null);
+    firstSellerStock.settleSellOrder(3);
+    StockWallet secondSellerStock = new StockWallet(null, null);
+    secondSellerStock.settleSellOrder(2);
+
+    assertThat(batch.getCashWallets()).containsOnlyKeys(BUYER);
+    assertCash(batch.getCashWallets().get(BUYER), buyerCash);
+    assertThat(batch.getCashWallets().get(BUYER).received).isEqualTo(70_000 * 3 + 70_500 * 2);
+
+    assertThat(batch.getStockWallets().keySet())
+        .containsExactly(new StockWalletKey(BUYER, STOCK_ID), new StockWalletKey(FIRST_SELLER, STOCK_ID), new StockWalletKey(SECOND_SELLER, STOCK_ID));
+    assertStock(batch.getStockWallets().get(new StockWalletKey(BUYER, STOCK_ID)), buyerStock);
+    assertStock(batch.getStockWallets().get(new StockWalletKey(FIRST_SELLER, STOCK_ID)), firstSellerStock);
+    assertStock(batch.getStockWallets().get(new StockWalletKey(SECOND_SELLER, STOCK_ID)), secondSellerStock);
+    assertThat(batch.getStockWallets().get(new StockWalletKey(BUYER, STOCK_ID)).isDepositOnly()).isTrue();
+    assertThat(batch.getStockWallets().get(new StockWalletKey(FIRST_SELLER, STOCK_ID)).sold).isEqualTo(3);
+  }
+
+  @Test
+  void sellTakerFillsAtMakerPriceWithoutRelease() {
+    SettlementBatch batch = new SettlementBatch();
+    batch.add(new FillEvent(200, 20, STOCK_ID, OrderSide.SELL, 69_000, 4, 70_000), BUYER, FIRST_SELLER);
+
+    // 매도 taker는 maker 가격에 체결되며, maker 매수자의 묶인 금액은 자기 지정가 그대로 정산됨
+    CashWallet buyerCash = new CashWallet(null, "buyer");
+    buyerCash.settleBuyOrder(70_000 * 4);
+    StockWallet buyerStock = new StockWallet(null, null);
+    buyerStock.deposit(4);
+    StockWallet sellerStock = new StockWallet(null, null);
+    sellerStock.settleSellOrder(4);
+
+    assertThat(batch.getCashWallets()).containsOnlyKeys(BUYER);
+    assertCash(batch.getCashWallets().get(BUYER), buyerCash);
+    assertStock(batch.getStockWallets().get(new StockWalletKey(BUYER, STOCK_ID)), buyerStock);
+    assertStock(batch.getStockWallets().get(new StockWalletKey(FIRST_SELLER, STOCK_ID)), sellerStock);
+  }
+
+  private void assertCash(WalletDelta delta, CashWallet expected) {
+    assertThat(delta.reserve).isEqualTo(expected.getReserve());
+    assertThat(delta.deposit).isEqualTo(expected.getDeposit());
+  }
+
+  private void assertStock(WalletDelta delta, StockWallet expected) {
+    assertThat(delta.reserve).isEqualTo(expected.getReserve());
+    assertThat(delta.deposit).isEqualTo(expected.getDeposit());
+  }
+}